@@ -9,6 +9,7 @@ import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.api.util.WeightedDistribution;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockLeaves;
 import net.minecraft.block.BlockOre;
@@ -20,23 +21,29 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.FurnaceRecipes;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.nbt.NBTUtil;
 import net.minecraft.util.NonNullList;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.ModContainer;
 import net.minecraftforge.oredict.OreDictionary;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static com.minecolonies.api.util.constant.Constants.ONE_HUNDRED_PERCENT;
 import static com.minecolonies.api.util.constant.Constants.ORE_STRING;
 import static com.minecolonies.api.util.constant.Constants.SAPLINGS;
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_SAP_LEAF;
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
  * CompatibilityManager handling certain list and maps of itemStacks of certain types.
@@ -55,10 +62,10 @@ public class CompatibilityManager implements ICompatibilityManager
     private final List<ItemStorage> saplings = new ArrayList<>();
 
     /**
-     * List of all ore-like blocks.
+     * Set of all ore-like blocks.
      * Works on client and server-side.
      */
-    private final List<Block> ores = new ArrayList<>();
+    private final Set<Block> ores = new HashSet<>();
 
     /**
      * List of all the items that can be composted
@@ -66,9 +73,29 @@ public class CompatibilityManager implements ICompatibilityManager
     private final List<ItemStorage> compostableItems = new ArrayList<>();
 
     /**
-     * List of lucky ores which get dropped by the miner.
+     * Items which are compostable with any damage value, matched by registry name or wildcard ore dictionary entry.
      */
-    private final List<ItemStorage> luckyOres = new ArrayList<>();
+    private final Set<Item> compostItems = new HashSet<>();
+
+    /**
+     * Stacks which are compostable, matched by item and damage value.
+     */
+    private final Set<ItemStorage> compostStacks = new HashSet<>();
+
+    /**
+     * Items which are lucky blocks with any damage value, matched by registry name or wildcard ore dictionary entry.
+     */
+    private final Set<Item> luckyBlockItems = new HashSet<>();
+
+    /**
+     * Stacks which are lucky blocks, matched by item and damage value.
+     */
+    private final Set<ItemStorage> luckyBlockStacks = new HashSet<>();
+
+    /**
+     * Weighted distribution of the lucky ores which get dropped by the miner.
+     */
+    private WeightedDistribution<ItemStorage> luckyOres = WeightedDistribution.empty();
 
     /**
      * What the crusher can work on.
@@ -86,9 +113,9 @@ public class CompatibilityManager implements ICompatibilityManager
     private final List<ItemStorage> sievableBlocks = new ArrayList<>();
 
     /**
-     * Map of mash -> block -> sieveResult
+     * Map of mash -> block -> weighted sieveResult
      */
-    private final Map<ItemStorage, Map<ItemStorage, List<ItemStorage>>> sieveResult = new HashMap<>();
+    private final Map<ItemStorage, Map<ItemStorage, WeightedDistribution<ItemStorage>>> sieveResult = new HashMap<>();
 
     /**
      * If discovery is finished already.
@@ -100,6 +127,11 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private static final Random random = new Random();
 
+    /**
+     * File the results of the registry scans are cached in between restarts.
+     */
+    private static final String DISCOVERY_CACHE_FILE = "minecolonies/compatibility_cache.dat";
+
     /**
      * Instantiates the compatibilityManager.
      */
@@ -127,9 +159,8 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         if (this.sieveResult.containsKey(mesh) && this.sieveResult.get(mesh).containsKey(block))
         {
-            final List<ItemStorage> drops = this.sieveResult.get(mesh).get(block);
-            Collections.shuffle(drops);
-            return drops.get(0).getItemStack();
+            final ItemStorage drop = this.sieveResult.get(mesh).get(block).sample(random);
+            return drop == null ? ItemStack.EMPTY : drop.getItemStack().copy();
         }
         return ItemStack.EMPTY;
     }
@@ -137,16 +168,29 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public void discover()
     {
-        discoverSaplings();
-        for (final String string : OreDictionary.getOreNames())
+        if (discoveredAlready)
         {
-            if (string.contains(ORE_STRING))
-            {
-                discoverOres(string);
-            }
+            return;
         }
-        Log.getLogger().info("Finished discovering ores");
-        discoverCompostableItems();
+
+        discoverMatchers(Configurations.gameplay.listOfCompostableItems, compostItems, compostStacks);
+        discoverMatchers(Configurations.gameplay.luckyBlocks, luckyBlockItems, luckyBlockStacks);
+
+        final String key = getDiscoveryKey();
+        final File cacheFile = new File(Loader.instance().getConfigDir(), DISCOVERY_CACHE_FILE);
+        if (loadDiscoveryCache(cacheFile, key))
+        {
+            Log.getLogger().info("Loaded discovered saplings, ores and compostables from cache");
+        }
+        else
+        {
+            discoverRegistries();
+            saveDiscoveryCache(cacheFile, key);
+        }
+        //Leave out the saplings already connected to a leaf, the cache keeps them as it doesn't depend on the world.
+        saplings.removeIf(leavesToSaplingMap::containsValue);
+
+        discoverExtraOres();
         discoverLuckyOres();
         discoverCrusherModes();
         discoverSifting();
@@ -161,22 +205,7 @@ public class CompatibilityManager implements ICompatibilityManager
         {
             return false;
         }
-
-        for (final String string : Configurations.gameplay.listOfCompostableItems)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return compostItems.contains(itemStack.getItem()) || compostStacks.contains(new ItemStorage(itemStack, false, true));
     }
 
     @Override
@@ -186,22 +215,7 @@ public class CompatibilityManager implements ICompatibilityManager
         {
             return false;
         }
-
-        for (final String string : Configurations.gameplay.luckyBlocks)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return luckyBlockItems.contains(itemStack.getItem()) || luckyBlockStacks.contains(new ItemStorage(itemStack, false, true));
     }
 
     @Override
@@ -292,6 +306,8 @@ public class CompatibilityManager implements ICompatibilityManager
           .map(CompatibilityManager::readLeafSaplingEntryFromNBT)
           .filter(key -> !leavesToSaplingMap.containsKey(key.getFirst()) && !leavesToSaplingMap.containsValue(key.getSecond()))
           .forEach(key -> leavesToSaplingMap.put(key.getFirst(), key.getSecond()));
+        //Discovery usually ran before the world got loaded, leave out the saplings which are connected to a leaf now.
+        saplings.removeIf(leavesToSaplingMap::containsValue);
     }
 
     @Override
@@ -314,51 +330,121 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public ItemStack getRandomLuckyOre()
     {
-        if (random.nextInt(ONE_HUNDRED_PERCENT) <= Configurations.gameplay.luckyBlockChance)
+        if (!luckyOres.isEmpty() && random.nextInt(ONE_HUNDRED_PERCENT) <= Configurations.gameplay.luckyBlockChance)
         {
-            Collections.shuffle(luckyOres);
-            return luckyOres.get(0).getItemStack().copy();
+            return luckyOres.sample(random).getItemStack().copy();
         }
         return ItemStack.EMPTY;
     }
 
     //------------------------------- Private Utility Methods -------------------------------//
 
-    private void discoverOres(final String string)
+    /**
+     * Resolve a list of configured registry names and ore dictionary names into hash based matchers.
+     *
+     * @param names  the configured names.
+     * @param items  the set to fill with the items matching with any damage value.
+     * @param stacks the set to fill with the stacks matching by item and damage value.
+     */
+    private static void discoverMatchers(final String[] names, final Set<Item> items, final Set<ItemStorage> stacks)
     {
-        for (final ItemStack ore : OreDictionary.getOres(string))
+        for (final String name : names)
         {
-            for (final CreativeTabs tabs : CreativeTabs.CREATIVE_TAB_ARRAY)
+            if (name.contains(":"))
             {
-                final NonNullList<ItemStack> list = NonNullList.create();
-                ore.getItem().getSubItems(tabs, list);
-                for (final ItemStack stack : list)
+                final ResourceLocation location = new ResourceLocation(name);
+                if (Item.REGISTRY.containsKey(location))
                 {
-                    if (!ItemStackUtils.isEmpty(stack) && stack.getItem() instanceof ItemBlock)
-                    {
-                        final Block block = ((ItemBlock) stack.getItem()).getBlock();
-                        if (!ores.contains(block))
-                        {
-                            ores.add(block);
-                        }
-                    }
+                    items.add(Item.REGISTRY.getObject(location));
+                }
+            }
+
+            if (!OreDictionary.doesOreNameExist(name))
+            {
+                continue;
+            }
+
+            for (final ItemStack stack : OreDictionary.getOres(name, false))
+            {
+                if (ItemStackUtils.isEmpty(stack))
+                {
+                    continue;
+                }
+
+                if (stack.getMetadata() == OreDictionary.WILDCARD_VALUE)
+                {
+                    items.add(stack.getItem());
+                }
+                else
+                {
+                    stacks.add(new ItemStorage(stack.copy(), false, true));
                 }
             }
         }
+    }
 
+    /**
+     * Scan the ore dictionary and the item registry for saplings, ores and compostables.
+     * The scans call into other mods through getSubItems, getDamage and getCreativeTab which aren't safe to call off the main thread, so they run one after another.
+     */
+    private void discoverRegistries()
+    {
+        saplings.addAll(discoverSaplings());
+        ores.addAll(discoverOres());
+        compostableItems.addAll(discoverCompostableItems());
+    }
+
+    /**
+     * Collect the blocks of all ore dictionary entries which are ores.
+     *
+     * @return the ore blocks.
+     */
+    private static Set<Block> discoverOres()
+    {
+        final Set<Block> result = new HashSet<>();
+        for (final String string : OreDictionary.getOreNames())
+        {
+            if (!string.contains(ORE_STRING))
+            {
+                continue;
+            }
+
+            for (final ItemStack ore : OreDictionary.getOres(string, false))
+            {
+                if (!ItemStackUtils.isEmpty(ore) && ore.getItem() instanceof ItemBlock)
+                {
+                    result.add(((ItemBlock) ore.getItem()).getBlock());
+                }
+            }
+        }
+        Log.getLogger().info("Finished discovering ores");
+        return result;
+    }
+
+    /**
+     * Add the ores configured in addition to the discovered ones.
+     */
+    private void discoverExtraOres()
+    {
         for (final String oreString : Configurations.gameplay.extraOres)
         {
             final Block block = Block.getBlockFromName(oreString);
-            if (!(block == null || ores.contains(block)))
+            if (block != null)
             {
                 ores.add(block);
             }
         }
     }
 
-    private void discoverSaplings()
+    /**
+     * Collect all saplings of the ore dictionary with their sub types.
+     *
+     * @return the saplings.
+     */
+    private static List<ItemStorage> discoverSaplings()
     {
-        for (final ItemStack saps : OreDictionary.getOres(SAPLINGS))
+        final Set<ItemStorage> result = new LinkedHashSet<>();
+        for (final ItemStack saps : OreDictionary.getOres(SAPLINGS, false))
         {
             if (saps.getHasSubtypes())
             {
@@ -368,12 +454,9 @@ public class CompatibilityManager implements ICompatibilityManager
                     saps.getItem().getSubItems(tabs, list);
                     for (final ItemStack stack : list)
                     {
-                        //Just put it in if not in there already, don't mind the leaf yet.
-                        if (!ItemStackUtils.isEmpty(stack) && !leavesToSaplingMap.containsValue(new ItemStorage(stack, false, true)) && !saplings.contains(new ItemStorage(stack,
-                          false,
-                          true)))
+                        if (!ItemStackUtils.isEmpty(stack))
                         {
-                            saplings.add(new ItemStorage(stack, false, true));
+                            result.add(new ItemStorage(stack, false, true));
                         }
                     }
                 }
@@ -381,37 +464,177 @@ public class CompatibilityManager implements ICompatibilityManager
             else
             {
                 // Dynamictree's saplings dont have sub types
-                if (Compatibility.isDynamicTreeSapling(saps) && !ItemStackUtils.isEmpty(saps) && !leavesToSaplingMap.containsValue(new ItemStorage(saps, false, true))
-                      && !saplings.contains(new ItemStorage(saps, false, true)))
+                if (Compatibility.isDynamicTreeSapling(saps) && !ItemStackUtils.isEmpty(saps))
                 {
-                    saplings.add(new ItemStorage(saps, false, true));
+                    result.add(new ItemStorage(saps, false, true));
                 }
             }
         }
         Log.getLogger().info("Finished discovering saplings");
+        return new ArrayList<>(result);
     }
 
-    private void discoverCompostableItems()
+    /**
+     * Collect all sub items of the item registry which are compostable.
+     *
+     * @return the compostable items.
+     */
+    private List<ItemStorage> discoverCompostableItems()
     {
-        if (compostableItems.isEmpty())
+        final List<ItemStorage> result = new ArrayList<>();
+        for (final Item item : Item.REGISTRY)
         {
-            compostableItems.addAll(
-              ImmutableList.copyOf(StreamSupport.stream(Spliterators.spliteratorUnknownSize(Item.REGISTRY.iterator(), Spliterator.ORDERED), false).flatMap(item -> {
-                  final NonNullList<ItemStack> stacks = NonNullList.create();
-                  try
-                  {
-                      item.getSubItems(CreativeTabs.SEARCH, stacks);
-                  }
-                  catch (Exception ex)
-                  {
-                      Log.getLogger().warn("Failed to get sub items from: " + item.getRegistryName());
-                  }
-
+            final NonNullList<ItemStack> stacks = NonNullList.create();
+            try
+            {
+                item.getSubItems(CreativeTabs.SEARCH, stacks);
+            }
+            catch (final Exception ex)
+            {
+                Log.getLogger().warn("Failed to get sub items from: " + item.getRegistryName());
+            }
 
-                  return stacks.stream().filter(this::isCompost);
-              }).map(ItemStorage::new).collect(Collectors.toList())));
+            for (final ItemStack stack : stacks)
+            {
+                if (isCompost(stack))
+                {
+                    result.add(new ItemStorage(stack));
+                }
+            }
         }
         Log.getLogger().info("Finished discovering compostables");
+        return result;
+    }
+
+    /**
+     * Compute the key the cached discovery results are valid for.
+     * Changes whenever a mod, a mod version, the ore dictionary or the compostable config changes.
+     *
+     * @return the key.
+     */
+    private static String getDiscoveryKey()
+    {
+        final StringBuilder builder = new StringBuilder();
+        for (final ModContainer mod : Loader.instance().getActiveModList())
+        {
+            builder.append(mod.getModId()).append('@').append(mod.getVersion()).append(';');
+        }
+        for (final String name : OreDictionary.getOreNames())
+        {
+            builder.append(name).append('=').append(OreDictionary.getOres(name, false).size()).append(';');
+        }
+        for (final String name : Configurations.gameplay.listOfCompostableItems)
+        {
+            builder.append(name).append(';');
+        }
+        return UUID.nameUUIDFromBytes(builder.toString().getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Load the saplings, ores and compostables from the cache file.
+     *
+     * @param file the cache file.
+     * @param key  the current discovery key.
+     * @return true if the cache was valid for the key and got loaded completely.
+     */
+    private boolean loadDiscoveryCache(final File file, final String key)
+    {
+        if (!file.exists())
+        {
+            return false;
+        }
+
+        final NBTTagCompound compound;
+        try
+        {
+            compound = CompressedStreamTools.read(file);
+        }
+        catch (final IOException ex)
+        {
+            Log.getLogger().warn("Couldn't read the compatibility cache, discovering again", ex);
+            return false;
+        }
+
+        if (compound == null || !key.equals(compound.getString(TAG_DISCOVERY_KEY)))
+        {
+            return false;
+        }
+
+        final List<ItemStorage> cachedSaplings = new ArrayList<>();
+        final Set<Block> cachedOres = new HashSet<>();
+        final List<ItemStorage> cachedCompostables = new ArrayList<>();
+
+        final NBTTagList saplingList = compound.getTagList(TAG_SAPLINGS, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < saplingList.tagCount(); i++)
+        {
+            final ItemStack stack = new ItemStack(saplingList.getCompoundTagAt(i));
+            if (ItemStackUtils.isEmpty(stack))
+            {
+                return false;
+            }
+            cachedSaplings.add(new ItemStorage(stack, false, true));
+        }
+
+        final NBTTagList oreList = compound.getTagList(TAG_ORES, Constants.NBT.TAG_STRING);
+        for (int i = 0; i < oreList.tagCount(); i++)
+        {
+            final ResourceLocation location = new ResourceLocation(oreList.getStringTagAt(i));
+            if (!Block.REGISTRY.containsKey(location))
+            {
+                return false;
+            }
+            cachedOres.add(Block.REGISTRY.getObject(location));
+        }
+
+        final NBTTagList compostList = compound.getTagList(TAG_COMPOSTABLES, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < compostList.tagCount(); i++)
+        {
+            final ItemStack stack = new ItemStack(compostList.getCompoundTagAt(i));
+            if (ItemStackUtils.isEmpty(stack))
+            {
+                return false;
+            }
+            cachedCompostables.add(new ItemStorage(stack));
+        }
+
+        saplings.addAll(cachedSaplings);
+        ores.addAll(cachedOres);
+        compostableItems.addAll(cachedCompostables);
+        return true;
+    }
+
+    /**
+     * Write the saplings, ores and compostables to the cache file.
+     *
+     * @param file the cache file.
+     * @param key  the current discovery key.
+     */
+    private void saveDiscoveryCache(final File file, final String key)
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString(TAG_DISCOVERY_KEY, key);
+        compound.setTag(TAG_SAPLINGS, saplings.stream().map(storage -> storage.getItemStack().writeToNBT(new NBTTagCompound())).collect(NBTUtils.toNBTTagList()));
+        final NBTTagList oreList = new NBTTagList();
+        for (final Block block : ores)
+        {
+            if (block.getRegistryName() != null)
+            {
+                oreList.appendTag(new NBTTagString(block.getRegistryName().toString()));
+            }
+        }
+        compound.setTag(TAG_ORES, oreList);
+        compound.setTag(TAG_COMPOSTABLES,
+          compostableItems.stream().map(storage -> storage.getItemStack().writeToNBT(new NBTTagCompound())).collect(NBTUtils.toNBTTagList()));
+
+        try
+        {
+            file.getParentFile().mkdirs();
+            CompressedStreamTools.safeWrite(compound, file);
+        }
+        catch (final IOException ex)
+        {
+            Log.getLogger().warn("Couldn't write the compatibility cache", ex);
+        }
     }
 
     /**
@@ -421,6 +644,7 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         if (luckyOres.isEmpty())
         {
+            final Map<ItemStorage, Double> rarities = new LinkedHashMap<>();
             for (final String ore : Configurations.gameplay.luckyOres)
             {
                 final String[] split = ore.split("!");
@@ -453,17 +677,15 @@ public class CompatibilityManager implements ICompatibilityManager
                 final ItemStack stack = new ItemStack(item, 1, meta);
                 try
                 {
-                    final int rarity = Integer.parseInt(split[split.length - 1]);
-                    for (int i = 0; i < rarity; i++)
-                    {
-                        luckyOres.add(new ItemStorage(stack));
-                    }
+                    final double rarity = Double.parseDouble(split[split.length - 1]);
+                    rarities.merge(new ItemStorage(stack), rarity, Double::sum);
                 }
                 catch (final NumberFormatException ex)
                 {
                     Log.getLogger().warn("Ore has invalid rarity: " + ore);
                 }
             }
+            luckyOres = WeightedDistribution.of(rarities);
         }
         Log.getLogger().info("Finished discovering lucky ores");
     }
@@ -609,26 +831,19 @@ public class CompatibilityManager implements ICompatibilityManager
         {
             for (final Map.Entry<ItemStorage, Map<ItemStorage, Double>> blockEntry : meshEntry.getValue().entrySet())
             {
-                final List<ItemStorage> theDrops = new ArrayList<>();
+                final Map<ItemStorage, Double> theDrops = new LinkedHashMap<>(blockEntry.getValue());
                 double probabilitySum = 0;
-                for (final Map.Entry<ItemStorage, Double> drops : blockEntry.getValue().entrySet())
+                for (final double probability : theDrops.values())
                 {
-                    final ItemStorage storage = drops.getKey();
-                    final double probability = drops.getValue();
-                    probabilitySum+=probability;
-                    for (int i = 0; i < probability; i++)
-                    {
-                        theDrops.add(storage);
-                    }
+                    probabilitySum += probability;
                 }
 
-                final ItemStorage airStorage = new ItemStorage(ItemStack.EMPTY);
-                for (int i = 0; i < 100 - probabilitySum; i++)
+                if (probabilitySum < ONE_HUNDRED_PERCENT)
                 {
-                    theDrops.add(airStorage);
+                    theDrops.put(new ItemStorage(ItemStack.EMPTY), ONE_HUNDRED_PERCENT - probabilitySum);
                 }
 
-                final Map<ItemStorage, List<ItemStorage>> map;
+                final Map<ItemStorage, WeightedDistribution<ItemStorage>> map;
                 if (this.sieveResult.containsKey(meshEntry.getKey()))
                 {
                     map = this.sieveResult.get(meshEntry.getKey());
@@ -638,7 +853,7 @@ public class CompatibilityManager implements ICompatibilityManager
                     map = new HashMap<>();
                 }
 
-                map.put(blockEntry.getKey(), theDrops);
+                map.put(blockEntry.getKey(), WeightedDistribution.of(theDrops));
                 this.sieveResult.put(meshEntry.getKey(), map);
             }
         }
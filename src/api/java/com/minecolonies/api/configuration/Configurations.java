@@ -210,6 +210,9 @@ public class Configurations
         @Config.Comment("Amount of blocks the builder checks (to decrease lag by builder)")
         public int maxBlocksCheckedByBuilder = 1000;
 
+        @Config.Comment("Amount of blocks instantly placed structures (pirate ships, supply camps, pastes) place per tick, larger structures are spread over multiple ticks")
+        public int maxBlocksPlacedInstantlyPerTick = 10000;
+
         @Config.Comment("Chat frequency of worker requests")
         public int chatFrequency = 30;
 
@@ -61,6 +61,26 @@ public interface IRecipeStorage
      */
     boolean canFullFillRecipe(@NotNull final IItemHandler... inventories);
 
+    /**
+     * Get how often this recipe can be crafted from the pooled counts of a set of inventories.
+     *
+     * @param pool the pooled item counts.
+     * @return the maximum batch size, 0 if it can't be crafted and Integer.MAX_VALUE if it has no input.
+     */
+    default int getMaxCraftableBatches(@NotNull final InventoryCountPool pool)
+    {
+        int batches = Integer.MAX_VALUE;
+        for (final ItemStorage storage : getCleanedInput())
+        {
+            batches = Math.min(batches, pool.getCount(storage.getItemStack()) / Math.max(1, storage.getAmount()));
+            if (batches == 0)
+            {
+                return 0;
+            }
+        }
+        return batches;
+    }
+
     default boolean fullFillRecipe(@NotNull final IItemHandler... inventories)
     {
         return fullfillRecipe(Arrays.asList(inventories));
@@ -0,0 +1,68 @@
+package com.minecolonies.api.crafting;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of the item counts of a set of inventories.
+ * Items are pooled by item and damage value, the nbt is ignored like {@link ItemStack#isItemEqual(ItemStack)} does.
+ */
+public class InventoryCountPool
+{
+    /**
+     * The amount of each item over all inventories.
+     */
+    private final Map<ItemStorage, Integer> counts = new HashMap<>();
+
+    /**
+     * Count the items of a set of inventories in one pass.
+     *
+     * @param handlers the inventories.
+     */
+    public InventoryCountPool(@NotNull final Collection<IItemHandler> handlers)
+    {
+        for (final IItemHandler handler : handlers)
+        {
+            for (int slot = 0; slot < handler.getSlots(); slot++)
+            {
+                final ItemStack stack = handler.getStackInSlot(slot);
+                if (ItemStackUtils.isEmpty(stack))
+                {
+                    continue;
+                }
+
+                final ItemStorage key = new ItemStorage(stack, false, true);
+                final Integer count = counts.get(key);
+                if (count == null)
+                {
+                    counts.put(new ItemStorage(stack.copy(), false, true), ItemStackUtils.getSize(stack));
+                }
+                else
+                {
+                    counts.put(key, count + ItemStackUtils.getSize(stack));
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the amount of an item over all inventories.
+     *
+     * @param stack the item to count.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return 0;
+        }
+        return counts.getOrDefault(new ItemStorage(stack, false, true), 0);
+    }
+}
@@ -8,9 +8,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 /**
  * Class used to represent a recipe in minecolonies.
@@ -44,6 +42,11 @@ public class RecipeStorage implements IRecipeStorage
      */
     private final IToken token;
 
+    /**
+     * The input with air removed and equal items merged, computed once.
+     */
+    private List<ItemStorage> cleanedInput;
+
     /**
      * Create an instance of the recipe storage.
      *
@@ -72,25 +75,47 @@ public class RecipeStorage implements IRecipeStorage
     public List<ItemStorage> getCleanedInput()
     {
         final List<ItemStorage> items = new ArrayList<>();
+        for (final ItemStorage storage : getCachedCleanedInput())
+        {
+            final ItemStorage copy = new ItemStorage(storage.getItemStack().copy());
+            copy.setAmount(storage.getAmount());
+            items.add(copy);
+        }
+        return items;
+    }
 
-        for(final ItemStack stack: input)
+    /**
+     * Get the cleaned input, computing it on first access.
+     * The returned storages are shared and must not be modified.
+     *
+     * @return the cleaned input.
+     */
+    private List<ItemStorage> getCachedCleanedInput()
+    {
+        if (cleanedInput == null)
         {
-            if(ItemStackUtils.isEmpty(stack))
+            final Map<ItemStorage, ItemStorage> items = new LinkedHashMap<>();
+            for (final ItemStack stack : input)
             {
-                continue;
-            }
+                if (ItemStackUtils.isEmpty(stack))
+                {
+                    continue;
+                }
 
-            ItemStorage storage = new ItemStorage(stack.copy());
-            if(items.contains(storage))
-            {
-                final int index = items.indexOf(storage);
-                final ItemStorage tempStorage = items.remove(index);
-                tempStorage.setAmount(tempStorage.getAmount() + storage.getAmount());
-                storage = tempStorage;
+                final ItemStorage storage = new ItemStorage(stack.copy());
+                final ItemStorage existing = items.get(storage);
+                if (existing == null)
+                {
+                    items.put(storage, storage);
+                }
+                else
+                {
+                    existing.setAmount(existing.getAmount() + storage.getAmount());
+                }
             }
-            items.add(storage);
+            cleanedInput = Collections.unmodifiableList(new ArrayList<>(items.values()));
         }
-        return items;
+        return cleanedInput;
     }
 
     @NotNull
@@ -121,35 +146,22 @@ public class RecipeStorage implements IRecipeStorage
     @Override
     public boolean canFullFillRecipe(@NotNull final IItemHandler... inventories)
     {
-        final List<ItemStorage> items = getCleanedInput();
+        return getMaxCraftableBatches(new InventoryCountPool(Arrays.asList(inventories))) > 0;
+    }
 
-        for (final ItemStorage stack : items)
+    @Override
+    public int getMaxCraftableBatches(@NotNull final InventoryCountPool pool)
+    {
+        int batches = Integer.MAX_VALUE;
+        for (final ItemStorage storage : getCachedCleanedInput())
         {
-            int amountNeeded = stack.getAmount();
-            boolean hasStack = false;
-            for (final IItemHandler handler : inventories)
-            {
-                hasStack = InventoryUtils.hasItemInItemHandler(handler, itemStack -> !ItemStackUtils.isEmpty(itemStack) && itemStack.isItemEqual(stack.getItemStack()));
-
-                if (hasStack)
-                {
-                    final int count = InventoryUtils.getItemCountInItemHandler(handler, itemStack -> !ItemStackUtils.isEmpty(itemStack)
-                            && itemStack.isItemEqual(stack.getItemStack()));
-                    if (count >= amountNeeded)
-                    {
-                        break;
-                    }
-                    hasStack = false;
-                    amountNeeded -= count;
-                }
-            }
-
-            if (!hasStack)
+            batches = Math.min(batches, pool.getCount(storage.getItemStack()) / storage.getAmount());
+            if (batches == 0)
             {
-                return false;
+                return 0;
             }
         }
-        return true;
+        return batches;
     }
 
     @Override
@@ -237,7 +249,7 @@ public class RecipeStorage implements IRecipeStorage
             return false;
         }
 
-        for (final ItemStorage stack : getCleanedInput())
+        for (final ItemStorage stack : getCachedCleanedInput())
         {
             int amountNeeded = stack.getAmount();
 
@@ -3,6 +3,7 @@ package com.minecolonies.api.entity.ai.pathfinding;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.EntityUtils;
 import net.minecraft.entity.EntityLiving;
+import net.minecraft.pathfinding.Path;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -45,6 +46,12 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
      */
     private BlockPos currentProxy;
 
+    /**
+     * The proxy the entity reached last, the start of the current segment.
+     */
+    @Nullable
+    private BlockPos previousProxy;
+
     /**
      * Current target the entity has.
      */
@@ -124,6 +131,13 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
                 return takeTheDirectPath(target, range, onMove);
             }
 
+            final Path path = entity.getNavigator().getPath();
+            if (previousProxy != null && path != null)
+            {
+                onSegmentWalked(previousProxy, currentProxy, path.getCurrentPathLength());
+            }
+            previousProxy = currentProxy;
+
             entity.getNavigator().clearPath();
             currentProxy = proxyList.get(0);
             proxyList.remove(0);
@@ -248,6 +262,7 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
     private void resetProxyList()
     {
         currentProxy = null;
+        previousProxy = null;
         proxyList.clear();
     }
 
@@ -262,6 +277,20 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
     @NotNull
     protected BlockPos getProxy(@NotNull final BlockPos target, @NotNull final BlockPos position, final double distanceToPath)
     {
+        // Without a route, e.g. waypoints too far apart to be linked, the waypoints are still chained greedily below.
+        final List<BlockPos> route = getRoute(position, target);
+        if (route != null && !route.isEmpty())
+        {
+            for (final BlockPos wayPoint : route)
+            {
+                if (!proxyList.contains(wayPoint))
+                {
+                    proxyList.add(wayPoint);
+                }
+            }
+            return proxyList.get(0);
+        }
+
         double weight = Double.MAX_VALUE;
         BlockPos proxyPoint = null;
         double distance = Double.MAX_VALUE;
@@ -300,6 +329,21 @@ public abstract class AbstractWalkToProxy implements IWalkToProxy
         return target;
     }
 
+    @Nullable
+    @Override
+    public List<BlockPos> getRoute(final BlockPos start, final BlockPos target)
+    {
+        return null;
+    }
+
+    @Override
+    public void onSegmentWalked(final BlockPos from, final BlockPos to, final int pathLength)
+    {
+        /*
+         * Intentionally left empty, only proxies with a waypoint network learn segment costs.
+         */
+    }
+
     @Override
     public void reset()
     {
@@ -56,6 +56,25 @@ public interface IWalkToProxy
     @Nullable
     BlockPos getSpecializedProxy(final BlockPos target, final double distanceToPath);
 
+    /**
+     * Get the route along the waypoint network between two positions.
+     *
+     * @param start  the start position.
+     * @param target the target position.
+     * @return the proxies in walking order, empty or null if the network doesn't help and the waypoints are chained greedily.
+     */
+    @Nullable
+    List<BlockPos> getRoute(final BlockPos start, final BlockPos target);
+
+    /**
+     * Called when the entity walked from one proxy to the next one.
+     *
+     * @param from       the proxy the segment started at.
+     * @param to         the proxy the segment ended at.
+     * @param pathLength the length of the path taken.
+     */
+    void onSegmentWalked(final BlockPos from, final BlockPos to, final int pathLength);
+
     /**
      * Getter for the proxyList.
      *
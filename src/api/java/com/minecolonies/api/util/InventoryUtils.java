@@ -13,6 +13,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -195,7 +196,13 @@ public class InventoryUtils
         {
             if (predicate.test(itemHandler.getStackInSlot(slot)))
             {
-                itemHandler.getStackInSlot(slot).shrink(1);
+                final ItemStack stack = itemHandler.getStackInSlot(slot);
+                stack.shrink(1);
+                if (itemHandler instanceof IItemHandlerModifiable)
+                {
+                    // Set again so the inventory notices the change made in place.
+                    ((IItemHandlerModifiable) itemHandler).setStackInSlot(slot, stack);
+                }
                 return true;
             }
         }
@@ -2577,7 +2584,10 @@ public class InventoryUtils
         {
             if(invWrapper.getStackInSlot(i).isItemEqual(itemStack))
             {
-                invWrapper.getStackInSlot(i).shrink(quantity);
+                final ItemStack stack = invWrapper.getStackInSlot(i);
+                stack.shrink(quantity);
+                // Set again so the inventory notices the change made in place.
+                invWrapper.setStackInSlot(i, stack);
                 return;
             }
         }
@@ -0,0 +1,171 @@
+package com.minecolonies.api.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Immutable weighted random distribution over a set of values.
+ * <p>
+ * Uses the alias method of Vose: building is linear in the amount of values and each sample takes two random
+ * numbers, no matter how skewed or fine grained the weights are.
+ *
+ * @param <T> the type of the values.
+ */
+public final class WeightedDistribution<T>
+{
+    /**
+     * The values which can be sampled.
+     */
+    private final List<T> values;
+
+    /**
+     * Probability to keep the value of a column instead of taking its alias.
+     */
+    private final double[] probability;
+
+    /**
+     * Index of the alias value of each column.
+     */
+    private final int[] alias;
+
+    /**
+     * Build the alias table of a set of weighted values.
+     *
+     * @param values  the values.
+     * @param weights the positive weights, same order as the values.
+     */
+    private WeightedDistribution(@NotNull final List<T> values, @NotNull final double[] weights)
+    {
+        this.values = Collections.unmodifiableList(values);
+        final int size = values.size();
+        this.probability = new double[size];
+        this.alias = new int[size];
+
+        double total = 0;
+        for (final double weight : weights)
+        {
+            total += weight;
+        }
+
+        final double[] scaled = new double[size];
+        final Deque<Integer> small = new ArrayDeque<>();
+        final Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++)
+        {
+            scaled[i] = weights[i] * size / total;
+            if (scaled[i] < 1.0D)
+            {
+                small.push(i);
+            }
+            else
+            {
+                large.push(i);
+            }
+        }
+
+        while (!small.isEmpty() && !large.isEmpty())
+        {
+            final int less = small.pop();
+            final int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = scaled[more] + scaled[less] - 1.0D;
+            if (scaled[more] < 1.0D)
+            {
+                small.push(more);
+            }
+            else
+            {
+                large.push(more);
+            }
+        }
+
+        // Whatever is left over is at 1 up to rounding errors.
+        while (!large.isEmpty())
+        {
+            probability[large.pop()] = 1.0D;
+        }
+        while (!small.isEmpty())
+        {
+            probability[small.pop()] = 1.0D;
+        }
+    }
+
+    /**
+     * Create a distribution from a map of values to weights.
+     * Values with a weight of zero or less are left out.
+     *
+     * @param weights the values and their weights.
+     * @param <T>     the type of the values.
+     * @return the distribution, empty if no value has a positive weight.
+     */
+    @NotNull
+    public static <T> WeightedDistribution<T> of(@NotNull final Map<T, Double> weights)
+    {
+        final List<T> values = new ArrayList<>(weights.size());
+        final double[] positiveWeights = new double[weights.size()];
+        for (final Map.Entry<T, Double> entry : weights.entrySet())
+        {
+            if (entry.getValue() != null && entry.getValue() > 0)
+            {
+                positiveWeights[values.size()] = entry.getValue();
+                values.add(entry.getKey());
+            }
+        }
+        return new WeightedDistribution<>(values, Arrays.copyOf(positiveWeights, values.size()));
+    }
+
+    /**
+     * Create a distribution without any values.
+     *
+     * @param <T> the type of the values.
+     * @return the empty distribution.
+     */
+    @NotNull
+    public static <T> WeightedDistribution<T> empty()
+    {
+        return new WeightedDistribution<>(new ArrayList<>(), new double[0]);
+    }
+
+    /**
+     * Check if the distribution has no values.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return values.isEmpty();
+    }
+
+    /**
+     * Draw a random value.
+     *
+     * @param random the random to use.
+     * @return the value or null if the distribution is empty.
+     */
+    @Nullable
+    public T sample(@NotNull final Random random)
+    {
+        if (values.isEmpty())
+        {
+            return null;
+        }
+
+        final int column = random.nextInt(values.size());
+        return random.nextDouble() < probability[column] ? values.get(column) : values.get(alias[column]);
+    }
+
+    /**
+     * Get all values which can be sampled.
+     *
+     * @return an unmodifiable list of the values.
+     */
+    @NotNull
+    public List<T> getValues()
+    {
+        return values;
+    }
+}
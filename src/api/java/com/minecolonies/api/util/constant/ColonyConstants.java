@@ -24,6 +24,11 @@ public final class ColonyConstants
     */
     public static final int ONWORLD_TICK_AVERAGE = TICKS_SECOND;
 
+    /**
+     * Ticks between the checks of a colony without subscribers, which either puts it to sleep or wakes it up again.
+     */
+    public static final int DORMANT_CHECK_INTERVAL = 10 * TICKS_SECOND;
+
     public static final int NUM_ACHIEVEMENT_FIRST  = 1;
     public static final int NUM_ACHIEVEMENT_SECOND = 25;
     public static final int NUM_ACHIEVEMENT_THIRD  = 100;
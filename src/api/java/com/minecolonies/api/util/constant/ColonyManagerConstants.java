@@ -37,6 +37,11 @@ public final class ColonyManagerConstants
      */
     public static final String FILENAME_MINECOLONIES = "colonies.dat";
 
+    /**
+     * The file name of an AI profile of a colony.
+     */
+    public static final String FILENAME_AI_PROFILE = "profile_colony%d_%s.csv";
+
     /**
      * The file name pattern of the minecolonies backup.
      */
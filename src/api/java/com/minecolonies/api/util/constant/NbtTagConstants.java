@@ -50,6 +50,8 @@ public final class NbtTagConstants
     public static final String TAG_SAPLINGS               = "tagSaplings";
     public static final String TAG_SAP_LEAF               = "tagSapLeaves";
     public static final String TAG_ORES                   = "tagOres";
+    public static final String TAG_COMPOSTABLES           = "tagCompostables";
+    public static final String TAG_DISCOVERY_KEY          = "discoveryKey";
     public static final String TAG_BLOCK                  = "block";
     public static final String TAG_POS                    = "pos";
     public static final String TAG_BOOKCASES              = "bookcase";
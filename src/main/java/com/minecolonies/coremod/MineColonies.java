@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.achievements.ModAchievements;
+import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.requestsystem.init.RequestSystemInitializer;
 import com.minecolonies.coremod.colony.requestsystem.init.StandardFactoryControllerInitializer;
 import com.minecolonies.coremod.commands.CommandEntryPoint;
@@ -297,6 +298,7 @@ public class MineColonies
     public void postInit(final FMLPostInitializationEvent event)
     {
         RequestSystemInitializer.onPostInit();
+        ColonyManager.getCompatibilityManager().discover();
     }
 
     @Mod.EventHandler
@@ -12,6 +12,7 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBarracksTower;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHome;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.colony.jobs.JobFisherman;
 import com.minecolonies.coremod.colony.jobs.registry.JobRegistry;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
@@ -342,6 +343,7 @@ public class CitizenData
     {
         dirty = true;
         colony.getCitizenManager().markCitizensDirty();
+        colony.getCitizenManager().onCitizenStatsChanged(this);
     }
 
     /**
@@ -696,6 +698,8 @@ public class CitizenData
         {
             getCitizenEntity().get().getCitizenJobHandler().setModelDependingOnJob(null);
         }
+
+        colony.getCitizenManager().onCitizenHomeChanged(this);
     }
 
     /**
@@ -820,6 +824,10 @@ public class CitizenData
      */
     public void setJob(final AbstractJob job)
     {
+        if (this.job instanceof JobFisherman && job != this.job)
+        {
+            colony.getPondRegistry().releaseSpot(id);
+        }
         this.job = job;
 
         getCitizenEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
@@ -1066,6 +1074,7 @@ public class CitizenData
     public void increaseSaturation(final double extraSaturation)
     {
         this.saturation = Math.min(MAX_SATURATION, this.saturation + Math.abs(extraSaturation));
+        colony.getCitizenManager().onCitizenStatsChanged(this);
     }
 
     /**
@@ -1076,6 +1085,7 @@ public class CitizenData
     public void decreaseSaturation(final double extraSaturation)
     {
         this.saturation = Math.max(MIN_SATURATION, this.saturation - Math.abs(extraSaturation));
+        colony.getCitizenManager().onCitizenStatsChanged(this);
     }
 
     /**
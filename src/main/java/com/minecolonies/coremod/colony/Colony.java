@@ -119,6 +119,26 @@ public class Colony implements IColony
      */
     private final IProgressManager progressManager = new ProgressManager(this);
 
+    /**
+     * Hands loot lying around to the citizens.
+     */
+    private final CitizenLootSweep lootSweep = new CitizenLootSweep();
+
+    /**
+     * Threat information shared by the guards.
+     */
+    private final ColonyThreatTracker threatTracker = new ColonyThreatTracker();
+
+    /**
+     * Records the time the AIs of the colony take.
+     */
+    private final ColonyAIProfiler aiProfiler = new ColonyAIProfiler();
+
+    /**
+     * The bodies of water the fishermen share.
+     */
+    private final ColonyPondRegistry pondRegistry = new ColonyPondRegistry();
+
     /**
      * The Positions which players can freely interact.
      */
@@ -222,6 +242,21 @@ public class Colony implements IColony
      */
     private boolean isActive = true;
 
+    /**
+     * If the colony is dormant: nobody is subscribed and its chunks aren't all loaded, so it skips the per tick work.
+     */
+    private boolean isDormant = false;
+
+    /**
+     * Server ticks a dormant colony skipped since it went dormant or was last checked.
+     */
+    private int dormantTicks = 0;
+
+    /**
+     * Server ticks until a colony without subscribers checks if it can go dormant.
+     */
+    private int ticksUntilDormantCheck = DORMANT_CHECK_INTERVAL;
+
     /**
      * The colony team color.
      */
@@ -440,6 +475,7 @@ public class Colony implements IColony
             final BlockPos pos = BlockPosUtil.readFromNBT(blockAtPos, TAG_WAYPOINT);
             final IBlockState state = NBTUtil.readBlockState(blockAtPos);
             wayPoints.put(pos, state);
+            buildingManager.onWayPointAdded(pos);
         }
 
         // Free blocks
@@ -648,6 +684,7 @@ public class Colony implements IColony
             return;
         }
 
+        wakeUp();
         world = null;
     }
 
@@ -658,12 +695,24 @@ public class Colony implements IColony
      */
     public void onServerTick(@NotNull final TickEvent.ServerTickEvent event)
     {
+        if (isDormant)
+        {
+            if (dormantTicks < DORMANT_CHECK_INTERVAL && !packageManager.hasPendingSubscriberChanges())
+            {
+                dormantTicks++;
+                return;
+            }
+            wakeUp();
+        }
+
         packageManager.updateSubscribers();
 
         if (packageManager.getSubscribers().isEmpty())
         {
+            checkDormant();
             return;
         }
+        ticksUntilDormantCheck = DORMANT_CHECK_INTERVAL;
         isActive = true;
 
         buildingManager.tick(event);
@@ -683,6 +732,51 @@ public class Colony implements IColony
         }
     }
 
+    /**
+     * Put the colony to sleep if nobody is subscribed, no player is close and not all of its chunks are loaded.
+     * Checked only every DORMANT_CHECK_INTERVAL ticks, the chunk check is expensive for loaded colonies.
+     */
+    private void checkDormant()
+    {
+        if (--ticksUntilDormantCheck > 0)
+        {
+            return;
+        }
+        ticksUntilDormantCheck = DORMANT_CHECK_INTERVAL;
+
+        if (world != null && !packageManager.hasPendingSubscriberChanges() && !areAllColonyChunksLoaded(world))
+        {
+            isDormant = true;
+            dormantTicks = 0;
+        }
+    }
+
+    /**
+     * Wake up a dormant colony, it catches up on the ticks it skipped and checks again on its next tick if it can go back to sleep.
+     */
+    public void wakeUp()
+    {
+        if (!isDormant)
+        {
+            return;
+        }
+
+        isDormant = false;
+        packageManager.addTicksWithoutContact(dormantTicks);
+        dormantTicks = 0;
+        ticksUntilDormantCheck = 1;
+    }
+
+    /**
+     * Check if the colony is dormant.
+     *
+     * @return true if so.
+     */
+    public boolean isDormant()
+    {
+        return isDormant;
+    }
+
     /**
      * Get the Work Manager for the Colony.
      *
@@ -786,6 +880,13 @@ public class Colony implements IColony
             return;
         }
 
+        if (isDormant)
+        {
+            return;
+        }
+
+        lootSweep.onWorldTick(world, citizenManager.getCitizenMap().values());
+
         // Clean up or spawn citizens.
         if (packageManager.getSubscribers().isEmpty())
         {
@@ -870,12 +971,23 @@ public class Colony implements IColony
 
     public boolean areAllColonyChunksLoaded(@NotNull final TickEvent.WorldTickEvent event)
     {
-        final int distanceFromCenter = Configurations.gameplay.workingRangeTownHallChunks * BLOCKS_PER_CHUNK + 48 /* 3 chunks */ + BLOCKS_PER_CHUNK - 1 /* round up a chunk */;
+        return areAllColonyChunksLoaded(event.world);
+    }
+
+    /**
+     * Check if all chunks of the colony, with a margin of 3 chunks, are loaded.
+     *
+     * @param world the world of the colony.
+     * @return true if so.
+     */
+    public boolean areAllColonyChunksLoaded(@NotNull final World world)
+    {
+        final int distanceFromCenter = getChunkDistanceFromCenter();
         for (int x = -distanceFromCenter; x <= distanceFromCenter; x += CONST_CHUNKSIZE)
         {
             for (int z = -distanceFromCenter; z <= distanceFromCenter; z += CONST_CHUNKSIZE)
             {
-                if (!event.world.isBlockLoaded(new BlockPos(getCenter().getX() + x, 1, getCenter().getZ() + z)))
+                if (!world.isBlockLoaded(new BlockPos(getCenter().getX() + x, 1, getCenter().getZ() + z)))
                 {
                     return false;
                 }
@@ -884,6 +996,16 @@ public class Colony implements IColony
         return true;
     }
 
+    /**
+     * Get the distance from the center up to which the chunks of the colony are checked, the working range plus 3 chunks.
+     *
+     * @return the distance in blocks.
+     */
+    public static int getChunkDistanceFromCenter()
+    {
+        return Configurations.gameplay.workingRangeTownHallChunks * BLOCKS_PER_CHUNK + 48 /* 3 chunks */ + BLOCKS_PER_CHUNK - 1 /* round up a chunk */;
+    }
+
     /**
      * Update the waypoints after worldTicks.
      */
@@ -904,6 +1026,7 @@ public class Colony implements IColony
                     if (world.getBlockState(key).getBlock() != (value.getBlock()))
                     {
                         wayPoints.remove(key);
+                        buildingManager.onWayPointRemoved(key);
                         markDirty();
                     }
                 }
@@ -1099,6 +1222,10 @@ public class Colony implements IColony
     public void setManualHousing(final boolean manualHousing)
     {
         this.manualHousing = manualHousing;
+        if (!manualHousing)
+        {
+            citizenManager.markHousingDirty();
+        }
         markDirty();
     }
 
@@ -1161,6 +1288,7 @@ public class Colony implements IColony
     public void addWayPoint(final BlockPos point, final IBlockState block)
     {
         wayPoints.put(point, block);
+        buildingManager.onWayPointAdded(point);
         this.markDirty();
     }
 
@@ -1174,29 +1302,10 @@ public class Colony implements IColony
     @NotNull
     public List<BlockPos> getWayPoints(@NotNull final BlockPos position, @NotNull final BlockPos target)
     {
-        final List<BlockPos> tempWayPoints = new ArrayList<>();
-        tempWayPoints.addAll(wayPoints.keySet());
-        tempWayPoints.addAll(buildingManager.getBuildings().keySet());
-
-        final double maxX = Math.max(position.getX(), target.getX());
-        final double maxZ = Math.max(position.getZ(), target.getZ());
-
-        final double minX = Math.min(position.getX(), target.getX());
-        final double minZ = Math.min(position.getZ(), target.getZ());
-
-        final Iterator<BlockPos> iterator = tempWayPoints.iterator();
-        while (iterator.hasNext())
-        {
-            final BlockPos p = iterator.next();
-            final int x = p.getX();
-            final int z = p.getZ();
-            if (x < minX || x > maxX || z < minZ || z > maxZ)
-            {
-                iterator.remove();
-            }
-        }
-
-        return tempWayPoints;
+        return buildingManager.getWayPointsInArea(Math.min(position.getX(), target.getX()),
+          Math.min(position.getZ(), target.getZ()),
+          Math.max(position.getX(), target.getX()),
+          Math.max(position.getZ(), target.getZ()));
     }
 
     /**
@@ -1206,17 +1315,14 @@ public class Colony implements IColony
      */
     public double getOverallHappiness()
     {
-        if (citizenManager.getCitizens().size() <= 0)
+        final ColonyAggregateStats stats = citizenManager.getAggregateStats();
+        if (stats.getCitizenCount() <= 0)
         {
             return (HappinessData.MAX_HAPPINESS + HappinessData.MIN_HAPPINESS) / 2.0;
         }
 
-        double happinesSum = 0;
-        for (final CitizenData citizen : citizenManager.getCitizens())
-        {
-            happinesSum += citizen.getCitizenHappinessHandler().getHappiness();
-        }
-        final double happinessAverage = happinesSum / citizenManager.getCitizens().size();
+        final Optional<Double> lockedHappiness = colonyHappinessManager.getLockedHappinessModifier();
+        final double happinessAverage = lockedHappiness.isPresent() ? lockedHappiness.get() : stats.getHappinessSum() / stats.getCitizenCount();
         return Math.min(happinessAverage + happinessData.getTotalHappinessModifier(), HappinessData.MAX_HAPPINESS);
     }
 
@@ -1331,6 +1437,36 @@ public class Colony implements IColony
         return progressManager;
     }
 
+    /**
+     * Get the threat information shared by the guards of the colony.
+     *
+     * @return the threat tracker.
+     */
+    public ColonyThreatTracker getThreatTracker()
+    {
+        return threatTracker;
+    }
+
+    /**
+     * Get the profiler of the AIs of the colony.
+     *
+     * @return the profiler.
+     */
+    public ColonyAIProfiler getAIProfiler()
+    {
+        return aiProfiler;
+    }
+
+    /**
+     * Get the bodies of water the fishermen of the colony share.
+     *
+     * @return the pond registry.
+     */
+    public ColonyPondRegistry getPondRegistry()
+    {
+        return pondRegistry;
+    }
+
     /**
      * Get all visiting players.
      *
@@ -17,11 +17,14 @@ import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.InstantStructurePlacer;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.math.BlockPos;
@@ -699,6 +702,70 @@ public final class ColonyManager
         }
     }
 
+    /**
+     * Wake up the dormant colonies a loaded chunk belongs to.
+     *
+     * @param world the world of the chunk.
+     * @param chunk the chunk.
+     */
+    public static void onChunkLoad(@NotNull final World world, @NotNull final Chunk chunk)
+    {
+        final int distanceFromCenter = Colony.getChunkDistanceFromCenter();
+        final int chunkX = chunk.x * BLOCKS_PER_CHUNK + BLOCKS_PER_CHUNK / 2;
+        final int chunkZ = chunk.z * BLOCKS_PER_CHUNK + BLOCKS_PER_CHUNK / 2;
+        for (@NotNull final Colony c : getColonies(world))
+        {
+            if (c.isDormant()
+                  && Math.abs(c.getCenter().getX() - chunkX) <= distanceFromCenter + BLOCKS_PER_CHUNK
+                  && Math.abs(c.getCenter().getZ() - chunkZ) <= distanceFromCenter + BLOCKS_PER_CHUNK)
+            {
+                c.wakeUp();
+            }
+        }
+    }
+
+    /**
+     * Get the amount of dormant colonies in all worlds.
+     *
+     * @return the amount.
+     */
+    public static int getDormantColonyCount()
+    {
+        int count = 0;
+        for (@NotNull final Colony c : getAllColonies())
+        {
+            if (c.isDormant())
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Look up the subscribers of every colony again, after a player joined, left, respawned or changed dimension.
+     */
+    public static void markAllSubscribersDirty()
+    {
+        for (@NotNull final Colony c : getAllColonies())
+        {
+            c.getPackageManager().markSubscribersDirty();
+        }
+    }
+
+    /**
+     * Called when a player crossed a chunk border, lets the colonies of the world check if the player got close.
+     *
+     * @param player the player.
+     */
+    public static void onPlayerEnteredChunk(@NotNull final EntityPlayerMP player)
+    {
+        for (@NotNull final Colony c : getColonies(player.world))
+        {
+            c.getPackageManager().onPlayerEnteredChunk(player);
+        }
+    }
+
     /**
      * Write colonies to NBT data for saving.
      *
@@ -825,6 +892,7 @@ public final class ColonyManager
         if (event.phase == TickEvent.Phase.END)
         {
             getColonies(event.world).forEach(c -> c.onWorldTick(event));
+            InstantStructurePlacer.onWorldTick(event.world);
         }
 
         if (!compatibilityManager.isDiscoveredAlready())
@@ -901,6 +969,12 @@ public final class ColonyManager
      */
     public static void onWorldUnload(@NotNull final World world)
     {
+        if (!world.isRemote)
+        {
+            InstantStructurePlacer.onWorldUnload(world);
+            PathCache.onWorldUnload(world);
+        }
+
         if (!world.isRemote && !(world instanceof WorldServerMulti))
         {
             for (@NotNull final Colony c : getColonies(world))
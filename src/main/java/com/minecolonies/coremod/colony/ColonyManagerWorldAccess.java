@@ -1,8 +1,14 @@
 package com.minecolonies.coremod.colony;
 
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.mobs.AbstractEntityMinecoloniesMob;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.passive.EntityAnimal;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
@@ -12,7 +18,7 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Allows us to respond to entity addition and removal events.
+ * Allows us to respond to entity addition and removal events and to block changes.
  */
 public class ColonyManagerWorldAccess implements IWorldEventListener
 {
@@ -20,8 +26,20 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(@NotNull final World worldIn, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState, final int flags)
     {
-        //Not needed
+        if (oldState != newState)
+        {
+            PathCache.onBlockChanged(worldIn, pos);
 
+            if (!worldIn.isRemote
+                  && (oldState.getMaterial() == Material.WATER || newState.getMaterial() == Material.WATER || oldState.getMaterial() == Material.AIR))
+            {
+                final Colony colony = ColonyManager.getColonyByPosFromWorld(worldIn, pos);
+                if (colony != null)
+                {
+                    colony.getPondRegistry().onBlockChanged(pos);
+                }
+            }
+        }
     }
 
     @Override
@@ -85,6 +103,10 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
         {
             ((EntityCitizen) entity).getCitizenColonyHandler().updateColonyServer();
         }
+        else if (entity instanceof EntityAnimal)
+        {
+            onAnimalChanged(entity);
+        }
     }
 
     @Override
@@ -99,6 +121,44 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
                 citizen.setCitizenEntity(null);
             }
         }
+        else if (entity instanceof AbstractEntityMinecoloniesMob && !entity.world.isRemote)
+        {
+            final Colony colony = ((AbstractEntityMinecoloniesMob) entity).getColony();
+            if (colony != null)
+            {
+                colony.getRaiderManager().onRaiderRemoved((AbstractEntityMinecoloniesMob) entity);
+            }
+        }
+        else if (entity instanceof EntityAnimal)
+        {
+            onAnimalChanged(entity);
+        }
+    }
+
+    /**
+     * Let the buildings of the colony at the position of an animal know that it joined or left the world.
+     *
+     * @param entity the animal.
+     */
+    private static void onAnimalChanged(@NotNull final Entity entity)
+    {
+        final BlockPos pos = entity.getPosition();
+        if (entity.world.isRemote || !entity.world.isBlockLoaded(pos))
+        {
+            return;
+        }
+
+        final Colony colony = ColonyManager.getColonyByPosFromWorld(entity.world, pos);
+        if (colony != null)
+        {
+            for (final AbstractBuilding building : colony.getBuildingManager().getBuildings().values())
+            {
+                if (building instanceof AbstractBuildingWorker)
+                {
+                    ((AbstractBuildingWorker) building).onEntityChanged(entity);
+                }
+            }
+        }
     }
 
     @Override
@@ -327,6 +327,16 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         }
     }
 
+    @Override
+    public void setCorners(final int x1, final int x2, final int z1, final int z2)
+    {
+        super.setCorners(x1, x2, z1, z2);
+        if (colony != null)
+        {
+            colony.getBuildingManager().onBuildingFootprintChanged(this);
+        }
+    }
+
     /**
      * Checks if this building have a work order.
      *
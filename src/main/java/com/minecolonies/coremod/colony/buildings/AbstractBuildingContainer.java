@@ -6,11 +6,14 @@ import com.minecolonies.blockout.Log;
 import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.inventory.ItemCountIndex;
+import com.minecolonies.coremod.tileentities.TileEntityRack;
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -25,14 +28,17 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import static com.minecolonies.api.util.constant.BuildingConstants.MAX_PRIO;
+import static com.minecolonies.api.util.constant.BuildingConstants.MIN_SLOTS_FOR_RECOGNITION;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
@@ -297,6 +303,92 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
         return tileEntity;
     }
 
+    /**
+     * Count the items of a category in the hut and its containers.
+     * Gives the same result as {@link InventoryUtils#getItemCountInProvider} with the predicate of the category.
+     *
+     * @param category the category.
+     * @return the amount.
+     */
+    public int getItemCount(@NotNull final ItemCountIndex.Category category)
+    {
+        return countItems(index -> index.getCount(category), category.getPredicate());
+    }
+
+    /**
+     * Count an item in the hut and its containers.
+     * Gives the same result as {@link InventoryUtils#getItemCountInProvider} with the item and damage.
+     *
+     * @param item   the item.
+     * @param damage the damage value, or {@link ItemCountIndex#ANY_DAMAGE}.
+     * @return the amount.
+     */
+    public int getItemCount(@NotNull final Item item, final int damage)
+    {
+        return countItems(index -> index.getCount(item, damage),
+          stack -> !ItemStackUtils.isEmpty(stack) && stack.getItem() == item && (damage == ItemCountIndex.ANY_DAMAGE || stack.getItemDamage() == damage));
+    }
+
+    /**
+     * Count items in the hut and its containers.
+     * The hut inventory and the racks answer from their item count index, other containers are scanned.
+     *
+     * @param indexCount the count of an index.
+     * @param predicate  the predicate to scan other containers with.
+     * @return the amount.
+     */
+    private int countItems(@NotNull final ToIntFunction<ItemCountIndex> indexCount, @NotNull final Predicate<ItemStack> predicate)
+    {
+        final TileEntityColonyBuilding hut = getTileEntity();
+        if (hut == null)
+        {
+            return 0;
+        }
+
+        int count = indexCount.applyAsInt(hut.getItemCountIndex());
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return count;
+        }
+
+        final Set<TileEntityRack> racks = new HashSet<>();
+        final Set<IItemHandler> handlers = new HashSet<>();
+        for (final BlockPos pos : containerList)
+        {
+            final TileEntity entity = world.getTileEntity(pos);
+            if (entity instanceof TileEntityRack)
+            {
+                racks.add((TileEntityRack) entity);
+                final TileEntityRack other = ((TileEntityRack) entity).getOtherChest();
+                if (other != null)
+                {
+                    racks.add(other);
+                }
+            }
+            else if (entity != null && entity != hut)
+            {
+                for (final IItemHandler handler : InventoryUtils.getItemHandlersFromProvider(entity))
+                {
+                    if (handler.getSlots() >= MIN_SLOTS_FOR_RECOGNITION)
+                    {
+                        handlers.add(handler);
+                    }
+                }
+            }
+        }
+
+        for (final TileEntityRack rack : racks)
+        {
+            count += indexCount.applyAsInt(rack.getItemCountIndex());
+        }
+        for (final IItemHandler handler : handlers)
+        {
+            count += InventoryUtils.getItemCountInItemHandler(handler, predicate);
+        }
+        return count;
+    }
+
     //------------------------- !Start! Capabilities handling for minecolonies buildings -------------------------//
 
     @Override
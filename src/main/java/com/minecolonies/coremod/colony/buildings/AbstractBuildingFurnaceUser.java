@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.buildings;
 
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.buildings.utils.FurnaceSchedule;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockFurnace;
 import net.minecraft.item.ItemStack;
@@ -40,6 +41,11 @@ public abstract class AbstractBuildingFurnaceUser extends AbstractFilterableList
      */
     private final List<BlockPos> furnaces = new ArrayList<>();
 
+    /**
+     * The ticks at which the furnaces need the worker next.
+     */
+    private final FurnaceSchedule furnaceSchedule = new FurnaceSchedule();
+
     /**
      * Instantiates a new cook building.
      *
@@ -61,6 +67,17 @@ public abstract class AbstractBuildingFurnaceUser extends AbstractFilterableList
         return new ArrayList<>(furnaces);
     }
 
+    /**
+     * Get the ticks at which the furnaces of this hut need the worker next.
+     *
+     * @return the schedule.
+     */
+    @NotNull
+    public FurnaceSchedule getFurnaceSchedule()
+    {
+        return furnaceSchedule;
+    }
+
     @Override
     public void writeToNBT(@NotNull final NBTTagCompound compound)
     {
@@ -21,6 +21,7 @@ import com.minecolonies.coremod.colony.jobs.JobRanger;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.network.messages.GuardMobAttackListMessage;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.ai.attributes.AttributeModifier;
 import net.minecraft.entity.monster.EntityMob;
@@ -163,6 +164,11 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker
      */
     private List<MobEntryView> mobsToAttack = new ArrayList<>();
 
+    /**
+     * Compiled form of the mobs to attack, if an entity class should be attacked.
+     */
+    private final Map<Class<?>, Boolean> attackFilter = new IdentityHashMap<>();
+
     /**
      * The player the guard has been set to follow.
      */
@@ -240,6 +246,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker
                 mobsToAttack.add(mobEntry);
             }
         }
+        attackFilter.clear();
 
         guardPos = NBTUtil.getPosFromTag(compound.getCompoundTag(NBT_GUARD));
     }
@@ -301,6 +308,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker
         if (mobsToAttack.isEmpty())
         {
             mobsToAttack.addAll(calculateMobs());
+            attackFilter.clear();
         }
 
         buf.writeInt(mobsToAttack.size());
@@ -672,6 +680,36 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker
     {
         this.mobsToAttack.clear();
         this.mobsToAttack = new ArrayList<>(list);
+        this.attackFilter.clear();
+    }
+
+    /**
+     * Check if the guards of this building should attack an entity because of its type.
+     * The answer is computed once per entity class until the mobs to attack change.
+     *
+     * @param entity the entity.
+     * @return true if one of the enabled mob entries matches.
+     */
+    public boolean shouldAttack(@NotNull final Entity entity)
+    {
+        final Class<?> entityClass = entity.getClass();
+        final Boolean cached = attackFilter.get(entityClass);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        boolean attack = false;
+        for (final MobEntryView mobEntry : mobsToAttack)
+        {
+            if (mobEntry.hasAttack() && mobEntry.getEntityEntry().getEntityClass().isAssignableFrom(entityClass))
+            {
+                attack = true;
+                break;
+            }
+        }
+        attackFilter.put(entityClass, attack);
+        return attack;
     }
 
     /**
@@ -12,6 +12,7 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.buildings.utils.FurnaceSchedule;
 import com.minecolonies.coremod.colony.buildings.views.FilterableListView;
 import com.minecolonies.coremod.colony.jobs.AbstractJobCrafter;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.PublicWorkerCraftingProductionResolver;
@@ -57,6 +58,11 @@ public abstract class AbstractBuildingSmelterCrafter extends AbstractFilterableL
      */
     private final List<BlockPos> furnaces = new ArrayList<>();
 
+    /**
+     * The ticks at which the furnaces need the worker next.
+     */
+    private final FurnaceSchedule furnaceSchedule = new FurnaceSchedule();
+
     /**
      * Extra amount of recipes the crafters can learn.
      */
@@ -133,6 +139,17 @@ public abstract class AbstractBuildingSmelterCrafter extends AbstractFilterableL
         return new ArrayList<>(furnaces);
     }
 
+    /**
+     * Get the ticks at which the furnaces of this hut need the worker next.
+     *
+     * @return the schedule.
+     */
+    @NotNull
+    public FurnaceSchedule getFurnaceSchedule()
+    {
+        return furnaceSchedule;
+    }
+
     @Override
     public void writeToNBT(@NotNull final NBTTagCompound compound)
     {
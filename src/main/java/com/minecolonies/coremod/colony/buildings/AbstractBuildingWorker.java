@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.InventoryCountPool;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.NBTUtils;
@@ -17,6 +18,7 @@ import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.buildings.utils.AnimalCensus;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBuilder;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
@@ -25,11 +27,14 @@ import com.minecolonies.coremod.colony.requestsystem.resolvers.PrivateWorkerCraf
 import com.minecolonies.coremod.colony.requestsystem.resolvers.PrivateWorkerCraftingRequestResolver;
 import com.minecolonies.coremod.network.messages.BuildingHiringModeMessage;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.passive.EntityAnimal;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Tuple;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -69,6 +74,23 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
      */
     private HiringMode hiringMode = HiringMode.DEFAULT;
 
+    /**
+     * Pooled item counts of the handlers of the building, rebuilt once per tick.
+     */
+    @Nullable
+    private InventoryCountPool inventoryCountPool;
+
+    /**
+     * World time the inventory count pool has been built at.
+     */
+    private long inventoryCountPoolTime = -1;
+
+    /**
+     * The census of the animals around the building, only created for herder huts.
+     */
+    @Nullable
+    private AnimalCensus<?> animalCensus;
+
     /**
      * The abstract constructor of the building.
      *
@@ -201,8 +223,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
             final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
             if(storage != null && storage.getPrimaryOutput().isItemEqual(tempStack))
             {
-                final List<IItemHandler> handlers = getHandlers();
-                if(storage.canFullFillRecipe(handlers.toArray(new IItemHandler[handlers.size()])))
+                if(storage.getMaxCraftableBatches(getInventoryCountPool()) > 0)
                 {
                     return storage;
                 }
@@ -223,8 +244,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
             final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
             if(storage != null && stackPredicate.test(storage.getPrimaryOutput()))
             {
-                final List<IItemHandler> handlers = getHandlers();
-                if(storage.canFullFillRecipe(handlers.toArray(new IItemHandler[handlers.size()])))
+                if(storage.getMaxCraftableBatches(getInventoryCountPool()) > 0)
                 {
                     return storage;
                 }
@@ -241,9 +261,61 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
     public boolean fullFillRecipe(final IRecipeStorage storage)
     {
         final List<IItemHandler> handlers = getHandlers();
+        inventoryCountPool = null;
         return storage.fullfillRecipe(handlers);
     }
 
+    /**
+     * Get the pooled item counts of all handlers of the building.
+     * The pool is built at most once per tick and shared by all recipe checks of that tick.
+     *
+     * @return the pool.
+     */
+    @NotNull
+    public InventoryCountPool getInventoryCountPool()
+    {
+        final long time = colony == null || colony.getWorld() == null ? -1 : colony.getWorld().getTotalWorldTime();
+        if (inventoryCountPool == null || time < 0 || time != inventoryCountPoolTime)
+        {
+            inventoryCountPool = new InventoryCountPool(getHandlers());
+            inventoryCountPoolTime = time;
+        }
+        return inventoryCountPool;
+    }
+
+    /**
+     * Get the up to date census of the animals of a type around the building, shared by all herders of the building.
+     *
+     * @param animalClass the type of the animals.
+     * @param area        the area the animals are looked for in.
+     * @param <T>         the type of the animals.
+     * @return the census.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T extends EntityAnimal> AnimalCensus<T> getAnimalCensus(@NotNull final Class<T> animalClass, @NotNull final AxisAlignedBB area)
+    {
+        if (animalCensus == null || animalCensus.getAnimalClass() != animalClass)
+        {
+            animalCensus = new AnimalCensus<>(animalClass);
+        }
+        animalCensus.update(getColony().getWorld(), area);
+        return (AnimalCensus<T>) animalCensus;
+    }
+
+    /**
+     * Called when an entity joined or left the world inside the colony.
+     *
+     * @param entity the entity.
+     */
+    public void onEntityChanged(@NotNull final Entity entity)
+    {
+        if (animalCensus != null)
+        {
+            animalCensus.onEntityChanged(entity);
+        }
+    }
+
     /**
      * Switch indices of two recipes because of the priority.
      * @param i the first index.
@@ -55,6 +55,17 @@ public abstract class AbstractCitizenAssignable extends AbstractSchematicProvide
         super.writeToNBT(compound);
     }
 
+    @Override
+    public void setBuildingLevel(final int level)
+    {
+        super.setBuildingLevel(level);
+        // The level counts into the housing and worker sums of the assigned citizens.
+        for (final CitizenData citizen : assignedCitizen)
+        {
+            colony.getCitizenManager().onCitizenStatsChanged(citizen);
+        }
+    }
+
     /**
      * Returns the colony of the building.
      *
@@ -0,0 +1,222 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.passive.EntityAnimal;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+
+/**
+ * The animals of one type around a herder hut, split up by age and breeding state.
+ * <p>
+ * The census is rebuilt from the world at most once every {@link #REFRESH_INTERVAL} ticks, or on the next read after an
+ * animal of the type joined or left the area. Growing up and falling in love don't cause events, so those changes are
+ * picked up by the periodic refresh. All lists are read only views and stay valid until the next refresh.
+ */
+public class AnimalCensus<T extends EntityAnimal>
+{
+    /**
+     * Ticks after which the census is rebuilt even without join or leave events.
+     */
+    private static final long REFRESH_INTERVAL = TICKS_SECOND * 5L;
+
+    /**
+     * The type of the counted animals.
+     */
+    private final Class<T> animalClass;
+
+    /**
+     * All animals in the area.
+     */
+    private final List<T> animals = new ArrayList<>();
+
+    /**
+     * The animals which aren't children.
+     */
+    private final List<T> adults = new ArrayList<>();
+
+    /**
+     * The children.
+     */
+    private final List<T> children = new ArrayList<>();
+
+    /**
+     * The animals which can breed right now.
+     */
+    private final List<T> breedable = new ArrayList<>();
+
+    /**
+     * The animals which are in love.
+     */
+    private final List<T> inLove = new ArrayList<>();
+
+    /**
+     * The area of the last refresh.
+     */
+    @Nullable
+    private AxisAlignedBB area = null;
+
+    /**
+     * The world time of the last refresh.
+     */
+    private long lastRefresh = 0;
+
+    /**
+     * Whether an animal joined or left the area since the last refresh.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Create an empty census.
+     *
+     * @param animalClass the type of the counted animals.
+     */
+    public AnimalCensus(@NotNull final Class<T> animalClass)
+    {
+        this.animalClass = animalClass;
+    }
+
+    /**
+     * Get the type of the counted animals.
+     *
+     * @return the type.
+     */
+    @NotNull
+    public Class<T> getAnimalClass()
+    {
+        return animalClass;
+    }
+
+    /**
+     * Rebuild the census if it is outdated.
+     *
+     * @param world the world.
+     * @param area  the area to count in.
+     */
+    public void update(@NotNull final World world, @NotNull final AxisAlignedBB area)
+    {
+        final long worldTime = world.getTotalWorldTime();
+        if (!dirty && area.equals(this.area) && worldTime - lastRefresh < REFRESH_INTERVAL)
+        {
+            return;
+        }
+
+        dirty = false;
+        lastRefresh = worldTime;
+        this.area = area;
+
+        animals.clear();
+        adults.clear();
+        children.clear();
+        breedable.clear();
+        inLove.clear();
+
+        for (final T animal : world.getEntitiesWithinAABB(animalClass, area))
+        {
+            animals.add(animal);
+            if (animal.isChild())
+            {
+                children.add(animal);
+            }
+            else
+            {
+                adults.add(animal);
+            }
+
+            if (animal.getGrowingAge() == 0)
+            {
+                breedable.add(animal);
+            }
+
+            if (animal.isInLove())
+            {
+                inLove.add(animal);
+            }
+        }
+    }
+
+    /**
+     * Called when an entity joined or left the world, outdates the census if it is a counted animal in the area.
+     *
+     * @param entity the entity.
+     */
+    public void onEntityChanged(@NotNull final Entity entity)
+    {
+        if (!dirty && animalClass.isInstance(entity) && (area == null || area.intersects(entity.getEntityBoundingBox())))
+        {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Get all animals in the area.
+     *
+     * @return the animals.
+     */
+    @NotNull
+    public List<T> getAnimals()
+    {
+        return Collections.unmodifiableList(animals);
+    }
+
+    /**
+     * Get the animals which aren't children.
+     *
+     * @return the adults.
+     */
+    @NotNull
+    public List<T> getAdults()
+    {
+        return Collections.unmodifiableList(adults);
+    }
+
+    /**
+     * Get the children.
+     *
+     * @return the children.
+     */
+    @NotNull
+    public List<T> getChildren()
+    {
+        return Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Get the animals which could breed at the last refresh.
+     *
+     * @return the animals.
+     */
+    @NotNull
+    public List<T> getBreedable()
+    {
+        return Collections.unmodifiableList(breedable);
+    }
+
+    /**
+     * Get the animals which were in love at the last refresh.
+     *
+     * @return the animals.
+     */
+    @NotNull
+    public List<T> getInLove()
+    {
+        return Collections.unmodifiableList(inLove);
+    }
+
+    /**
+     * Get the amount of animals in the area.
+     *
+     * @return the amount.
+     */
+    public int getCount()
+    {
+        return animals.size();
+    }
+}
@@ -0,0 +1,213 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.FurnaceRecipes;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityFurnace;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.Constants.RESULT_SLOT;
+import static com.minecolonies.api.util.constant.Constants.SMELTABLE_SLOT;
+
+/**
+ * The ticks at which the furnaces of a hut need their worker next.
+ * <p>
+ * A burning furnace is read once and the tick it needs attention at is predicted from its state: the moment its current
+ * fuel burns out or the moment its result slot passes the retrieve limit, whichever comes first. Until then the furnace
+ * isn't read again. Furnaces which aren't burning, or which the worker just filled or emptied, are due right away.
+ * The predictions are kept in a min-heap, so the earliest one is known without looking at the furnaces.
+ */
+public class FurnaceSchedule
+{
+    /**
+     * Field of the furnace with the remaining ticks of the current fuel.
+     */
+    private static final int FIELD_BURN_TIME = 0;
+
+    /**
+     * Field of the furnace with the progress of the current smelt.
+     */
+    private static final int FIELD_COOK_TIME = 2;
+
+    /**
+     * Field of the furnace with the ticks one smelt takes.
+     */
+    private static final int FIELD_TOTAL_COOK_TIME = 3;
+
+    /**
+     * The predicted tick of each scheduled furnace.
+     */
+    private final Map<BlockPos, Long> dueTicks = new HashMap<>();
+
+    /**
+     * The predictions ordered earliest first, entries which don't match {@link #dueTicks} anymore are outdated.
+     */
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.tick));
+
+    /**
+     * Get the furnaces which need attention now.
+     * Each of them is read, and the ones which turn out to be burning below the retrieve limit are scheduled again.
+     *
+     * @param world       the world.
+     * @param furnaces    the furnaces of the hut.
+     * @param resultLimit the amount in the result slot above which results are retrieved from a burning furnace.
+     * @return the due furnaces.
+     */
+    @NotNull
+    public List<BlockPos> getDueFurnaces(@NotNull final World world, @NotNull final List<BlockPos> furnaces, final int resultLimit)
+    {
+        final long worldTime = world.getTotalWorldTime();
+        while (!heap.isEmpty() && heap.peek().tick <= worldTime)
+        {
+            final Entry entry = heap.poll();
+            dueTicks.remove(entry.pos, entry.tick);
+        }
+
+        final List<BlockPos> due = new ArrayList<>();
+        for (final BlockPos pos : furnaces)
+        {
+            if (dueTicks.containsKey(pos))
+            {
+                continue;
+            }
+
+            final TileEntity entity = world.getTileEntity(pos);
+            if (entity instanceof TileEntityFurnace && ((TileEntityFurnace) entity).isBurning())
+            {
+                final int ticks = predictTicksUntilDue((TileEntityFurnace) entity, resultLimit);
+                if (ticks > 0)
+                {
+                    schedule(pos, worldTime + ticks);
+                    continue;
+                }
+            }
+            due.add(pos);
+        }
+        return due;
+    }
+
+    /**
+     * Make a furnace due after the worker changed its content.
+     *
+     * @param pos the position of the furnace.
+     */
+    public void markChanged(@NotNull final BlockPos pos)
+    {
+        dueTicks.remove(pos);
+    }
+
+    /**
+     * Get the ticks until the next scheduled furnace is due.
+     * Furnaces which are due already aren't scheduled, they wait for the worker to bring materials.
+     *
+     * @param world the world.
+     * @return the ticks, at least 1, or {@link Long#MAX_VALUE} if no furnace is scheduled.
+     */
+    public long getTicksUntilNextEvent(@NotNull final World world)
+    {
+        while (!heap.isEmpty() && !heap.peek().isCurrent(dueTicks))
+        {
+            heap.poll();
+        }
+
+        if (heap.isEmpty())
+        {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(1, heap.peek().tick - world.getTotalWorldTime());
+    }
+
+    /**
+     * Schedule a furnace.
+     *
+     * @param pos  the position of the furnace.
+     * @param tick the tick it is due at.
+     */
+    private void schedule(@NotNull final BlockPos pos, final long tick)
+    {
+        dueTicks.put(pos, tick);
+        heap.add(new Entry(pos, tick));
+    }
+
+    /**
+     * Predict the ticks until a burning furnace needs attention: when its fuel burns out, or earlier when its result
+     * slot passes the retrieve limit.
+     *
+     * @param furnace     the furnace.
+     * @param resultLimit the retrieve limit of the result slot.
+     * @return the ticks, 0 if it needs attention now.
+     */
+    private static int predictTicksUntilDue(@NotNull final TileEntityFurnace furnace, final int resultLimit)
+    {
+        final ItemStack result = furnace.getStackInSlot(RESULT_SLOT);
+        final int resultCount = ItemStackUtils.isEmpty(result) ? 0 : result.getCount();
+        if (resultCount > resultLimit)
+        {
+            return 0;
+        }
+
+        int ticks = furnace.getField(FIELD_BURN_TIME);
+        final ItemStack smeltable = furnace.getStackInSlot(SMELTABLE_SLOT);
+        final int totalCookTime = furnace.getField(FIELD_TOTAL_COOK_TIME);
+        if (!ItemStackUtils.isEmpty(smeltable) && totalCookTime > 0)
+        {
+            final ItemStack smeltResult = FurnaceRecipes.instance().getSmeltingResult(smeltable);
+            final int perSmelt = ItemStackUtils.isEmpty(smeltResult) ? 0 : smeltResult.getCount();
+            if (perSmelt > 0)
+            {
+                final int smeltsUntilLimit = (resultLimit + 1 - resultCount + perSmelt - 1) / perSmelt;
+                if (smeltsUntilLimit <= smeltable.getCount())
+                {
+                    final int ticksUntilLimit = totalCookTime - furnace.getField(FIELD_COOK_TIME) + (smeltsUntilLimit - 1) * totalCookTime;
+                    ticks = Math.min(ticks, ticksUntilLimit);
+                }
+            }
+        }
+        return Math.max(0, ticks);
+    }
+
+    /**
+     * One prediction in the heap.
+     */
+    private static final class Entry
+    {
+        /**
+         * The position of the furnace.
+         */
+        private final BlockPos pos;
+
+        /**
+         * The tick it is due at.
+         */
+        private final long tick;
+
+        /**
+         * Create an entry.
+         *
+         * @param pos  the position of the furnace.
+         * @param tick the tick it is due at.
+         */
+        private Entry(@NotNull final BlockPos pos, final long tick)
+        {
+            this.pos = pos;
+            this.tick = tick;
+        }
+
+        /**
+         * Check if the entry is still the prediction of its furnace.
+         *
+         * @param dueTicks the current predictions.
+         * @return true if so.
+         */
+        private boolean isCurrent(@NotNull final Map<BlockPos, Long> dueTicks)
+        {
+            final Long current = dueTicks.get(pos);
+            return current != null && current == tick;
+        }
+    }
+}
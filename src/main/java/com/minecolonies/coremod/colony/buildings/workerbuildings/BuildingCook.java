@@ -82,6 +82,13 @@ public class BuildingCook extends AbstractBuildingFurnaceUser
         return COOK_DESC;
     }
 
+    @Override
+    public void onUpgradeComplete(final int newLevel)
+    {
+        super.onUpgradeComplete(newLevel);
+        getColony().getCitizenManager().getHungerIndex().onRestaurantsChanged(getColony().getCitizenManager().getCitizens());
+    }
+
     @Override
     public boolean canCraftComplexRecipes()
     {
@@ -25,7 +25,6 @@ import org.jetbrains.annotations.NotNull;
 import java.util.*;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.NUM_ACHIEVEMENT_FIRST;
-import static com.minecolonies.api.util.constant.ColonyConstants.ONWORLD_TICK_AVERAGE;
 import static com.minecolonies.api.util.constant.Constants.MAX_BUILDING_LEVEL;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_BEDS;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_RESIDENTS;
@@ -119,6 +118,7 @@ public class BuildingHome extends AbstractBuilding
                 bedList.add(bedPos);
             }
         }
+        getColony().getCitizenManager().onHomeChanged(this);
     }
 
     @Override
@@ -202,6 +202,7 @@ public class BuildingHome extends AbstractBuilding
         getAssignedCitizen().stream()
           .filter(Objects::nonNull)
           .forEach(citizen -> citizen.setHomeBuilding(null));
+        getColony().getCitizenManager().onHomeRemoved(this);
     }
 
     @Override
@@ -225,12 +226,8 @@ public class BuildingHome extends AbstractBuilding
                 {
                     malePresent = true;
                 }
-
-                if (femalePresent && malePresent)
-                {
-                    return;
-                }
             }
+            getColony().getCitizenManager().onHomeChanged(this);
         }
     }
 
@@ -245,24 +242,6 @@ public class BuildingHome extends AbstractBuilding
         childCreationTimer++;
     }
 
-    @Override
-    public void onWorldTick(@NotNull final TickEvent.WorldTickEvent event)
-    {
-        //
-        // Code below this check won't lag each tick anymore
-        //
-        if (!Colony.shallUpdate(event.world, ONWORLD_TICK_AVERAGE))
-        {
-            return;
-        }
-
-        if (getAssignedCitizen().size() < getMaxInhabitants() && getColony() != null && !getColony().isManualHousing())
-        {
-            // 'Capture' as many citizens into this house as possible
-            addHomelessCitizens();
-        }
-    }
-
     /**
      * Try to spawn a new citizen as child.
      * Mom / dad entities are required and chosen randomly in this hut.
@@ -394,53 +373,14 @@ public class BuildingHome extends AbstractBuilding
     }
 
     /**
-     * Looks for a homeless citizen to add to the current building Calls.
-     * {@link #assignCitizen(CitizenData)}
-     */
-    private void addHomelessCitizens()
-    {
-        // Priotize missing genders for assigning
-        for (@NotNull final CitizenData citizen : getColony().getCitizenManager().getCitizens())
-        {
-            if (isFull())
-            {
-                break;
-            }
-            if (femalePresent && citizen.isFemale())
-            {
-                continue;
-            }
-            if (malePresent && !citizen.isFemale())
-            {
-                continue;
-            }
-            moveCitizenToHut(citizen);
-        }
-
-        for (@NotNull final CitizenData citizen : getColony().getCitizenManager().getCitizens())
-        {
-            if (isFull())
-            {
-                break;
-            }
-            moveCitizenToHut(citizen);
-        }
-    }
-
-    /**
-     * Moves the citizen into his new hut
+     * Check if no citizen of the gender of a citizen lives here yet.
+     *
+     * @param citizen the citizen.
+     * @return true if the gender is missing.
      */
-    private void moveCitizenToHut(final CitizenData citizen)
+    public boolean isMissingGenderOf(@NotNull final CitizenData citizen)
     {
-        // Move the citizen to a better hut
-        if (citizen.getHomeBuilding() instanceof BuildingHome && citizen.getHomeBuilding().getBuildingLevel() < this.getBuildingLevel())
-        {
-            citizen.getHomeBuilding().removeCitizen(citizen);
-        }
-        if (citizen.getHomeBuilding() == null)
-        {
-            assignCitizen(citizen);
-        }
+        return citizen.isFemale() ? !femalePresent : !malePresent;
     }
 
     @Override
@@ -462,6 +402,7 @@ public class BuildingHome extends AbstractBuilding
         }
 
         citizen.setHomeBuilding(this);
+        getColony().getCitizenManager().onHomeChanged(this);
         return true;
     }
 
@@ -511,6 +452,7 @@ public class BuildingHome extends AbstractBuilding
     {
         super.setBuildingLevel(level);
         getColony().getCitizenManager().calculateMaxCitizens();
+        getColony().getCitizenManager().onHomeChanged(this);
     }
 
     @NotNull
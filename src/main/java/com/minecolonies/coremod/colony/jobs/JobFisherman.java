@@ -37,6 +37,12 @@ public class JobFisherman extends AbstractJob
      * Contains the location of the water so that the fisherman can path to the fishing spot.
      */
     private BlockPos water;
+
+    /**
+     * The pond of {@link #ponds} the current water belongs to, the water is the fishing spot assigned at that pond.
+     */
+    private BlockPos pond;
+
     /**
      * Contains all possible fishing spots.
      * This list is filled during the execution of the fisherman.
@@ -200,6 +206,26 @@ public class JobFisherman extends AbstractJob
         this.water = water;
     }
 
+    /**
+     * Getter for the pond the current water belongs to.
+     *
+     * @return Location of the pond as stored in the pond list.
+     */
+    public BlockPos getPond()
+    {
+        return pond;
+    }
+
+    /**
+     * Setter for the pond the current water belongs to.
+     *
+     * @param pond Location of the pond as stored in the pond list.
+     */
+    public void setPond(final BlockPos pond)
+    {
+        this.pond = pond;
+    }
+
     /**
      * Returns a safe copy of all current ponds.
      *
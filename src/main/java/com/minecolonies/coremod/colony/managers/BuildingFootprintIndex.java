@@ -0,0 +1,392 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import net.minecraft.util.Tuple;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Grid index over the footprints, locations and waypoints of a colony.
+ * Every cell is one chunk wide, a footprint is registered in all cells it overlaps.
+ */
+public class BuildingFootprintIndex
+{
+    /**
+     * Bit shift to get from a block coordinate to a cell coordinate.
+     */
+    private static final int CELL_SHIFT = 4;
+
+    /**
+     * All cells which contain at least one entry, keyed by their chunk long.
+     */
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    /**
+     * The footprint currently registered for each building.
+     */
+    private final Map<AbstractBuilding, Footprint> footprints = new HashMap<>();
+
+    /**
+     * Bounds of the occupied cells, used to clamp open ended queries.
+     */
+    private int minCellX = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int minCellZ = Integer.MAX_VALUE;
+    private int maxCellZ = Integer.MIN_VALUE;
+
+    /**
+     * Add a building or refresh its footprint after the corners changed.
+     *
+     * @param building the building.
+     */
+    public void addBuilding(@NotNull final AbstractBuilding building)
+    {
+        removeBuilding(building);
+
+        final Footprint footprint = new Footprint(building);
+        footprints.put(building, footprint);
+        for (int cx = footprint.minX >> CELL_SHIFT; cx <= footprint.maxX >> CELL_SHIFT; cx++)
+        {
+            for (int cz = footprint.minZ >> CELL_SHIFT; cz <= footprint.maxZ >> CELL_SHIFT; cz++)
+            {
+                getOrCreateCell(cx, cz).footprints.add(building);
+            }
+        }
+        getOrCreateCell(building.getLocation().getX() >> CELL_SHIFT, building.getLocation().getZ() >> CELL_SHIFT).locations.add(building);
+    }
+
+    /**
+     * Remove a building from the index.
+     *
+     * @param building the building.
+     */
+    public void removeBuilding(@NotNull final AbstractBuilding building)
+    {
+        final Footprint footprint = footprints.remove(building);
+        if (footprint == null)
+        {
+            return;
+        }
+
+        for (int cx = footprint.minX >> CELL_SHIFT; cx <= footprint.maxX >> CELL_SHIFT; cx++)
+        {
+            for (int cz = footprint.minZ >> CELL_SHIFT; cz <= footprint.maxZ >> CELL_SHIFT; cz++)
+            {
+                final Cell cell = cells.get(ChunkPos.asLong(cx, cz));
+                if (cell != null)
+                {
+                    cell.footprints.remove(building);
+                    removeIfEmpty(cx, cz, cell);
+                }
+            }
+        }
+
+        final int cx = building.getLocation().getX() >> CELL_SHIFT;
+        final int cz = building.getLocation().getZ() >> CELL_SHIFT;
+        final Cell cell = cells.get(ChunkPos.asLong(cx, cz));
+        if (cell != null)
+        {
+            cell.locations.remove(building);
+            removeIfEmpty(cx, cz, cell);
+        }
+    }
+
+    /**
+     * Add a waypoint to the index.
+     *
+     * @param pos the waypoint.
+     */
+    public void addWayPoint(@NotNull final BlockPos pos)
+    {
+        getOrCreateCell(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT).wayPoints.add(pos);
+    }
+
+    /**
+     * Remove a waypoint from the index.
+     *
+     * @param pos the waypoint.
+     */
+    public void removeWayPoint(@NotNull final BlockPos pos)
+    {
+        final int cx = pos.getX() >> CELL_SHIFT;
+        final int cz = pos.getZ() >> CELL_SHIFT;
+        final Cell cell = cells.get(ChunkPos.asLong(cx, cz));
+        if (cell != null)
+        {
+            cell.wayPoints.remove(pos);
+            removeIfEmpty(cx, cz, cell);
+        }
+    }
+
+    /**
+     * Get the building whose footprint contains the position (borders excluded).
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the building or null if the position is not inside any building.
+     */
+    @Nullable
+    public AbstractBuilding getBuildingAt(final int x, final int z)
+    {
+        final Cell cell = cells.get(ChunkPos.asLong(x >> CELL_SHIFT, z >> CELL_SHIFT));
+        if (cell == null)
+        {
+            return null;
+        }
+
+        for (final AbstractBuilding building : cell.footprints)
+        {
+            final Footprint footprint = footprints.get(building);
+            if (x > footprint.minX && x < footprint.maxX && z > footprint.minZ && z < footprint.maxZ)
+            {
+                return building;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get all buildings whose footprint intersects the rectangle.
+     *
+     * @param minX the min x coordinate (inclusive).
+     * @param minZ the min z coordinate (inclusive).
+     * @param maxX the max x coordinate (inclusive).
+     * @param maxZ the max z coordinate (inclusive).
+     * @return a new set with the buildings.
+     */
+    @NotNull
+    public Set<AbstractBuilding> getBuildingsInArea(final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        final Set<AbstractBuilding> result = new HashSet<>();
+        for (final Cell cell : getCellsInArea(minX, minZ, maxX, maxZ))
+        {
+            for (final AbstractBuilding building : cell.footprints)
+            {
+                final Footprint footprint = footprints.get(building);
+                if (footprint.minX <= maxX && footprint.maxX >= minX && footprint.minZ <= maxZ && footprint.maxZ >= minZ)
+                {
+                    result.add(building);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get all waypoints and building locations inside the rectangle.
+     *
+     * @param minX the min x coordinate (inclusive).
+     * @param minZ the min z coordinate (inclusive).
+     * @param maxX the max x coordinate (inclusive).
+     * @param maxZ the max z coordinate (inclusive).
+     * @return a new list with the positions.
+     */
+    @NotNull
+    public List<BlockPos> getWayPointsInArea(final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        final List<BlockPos> result = new ArrayList<>();
+        for (final Cell cell : getCellsInArea(minX, minZ, maxX, maxZ))
+        {
+            for (final BlockPos pos : cell.wayPoints)
+            {
+                if (isInArea(pos, minX, minZ, maxX, maxZ))
+                {
+                    result.add(pos);
+                }
+            }
+
+            for (final AbstractBuilding building : cell.locations)
+            {
+                if (isInArea(building.getLocation(), minX, minZ, maxX, maxZ))
+                {
+                    result.add(building.getLocation());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the building with the location closest to a position.
+     * Searches the cells in rings around the position and stops as soon as no closer building can exist.
+     *
+     * @param pos the position.
+     * @return the closest building or null if there are none.
+     */
+    @Nullable
+    public AbstractBuilding getClosestBuilding(@NotNull final BlockPos pos)
+    {
+        if (cells.isEmpty())
+        {
+            return null;
+        }
+
+        final int centerX = pos.getX() >> CELL_SHIFT;
+        final int centerZ = pos.getZ() >> CELL_SHIFT;
+        final int maxRing = Math.max(Math.max(Math.abs(centerX - minCellX), Math.abs(maxCellX - centerX)),
+          Math.max(Math.abs(centerZ - minCellZ), Math.abs(maxCellZ - centerZ)));
+
+        AbstractBuilding closest = null;
+        double closestDistance = Double.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++)
+        {
+            // Everything in this ring is at least (ring - 1) full cells away.
+            final double ringDistance = (double) ((ring - 1) << CELL_SHIFT);
+            if (closest != null && ring > 1 && ringDistance * ringDistance > closestDistance)
+            {
+                break;
+            }
+
+            for (int cx = centerX - ring; cx <= centerX + ring; cx++)
+            {
+                for (int cz = centerZ - ring; cz <= centerZ + ring; cz++)
+                {
+                    if (Math.abs(cx - centerX) != ring && Math.abs(cz - centerZ) != ring)
+                    {
+                        continue;
+                    }
+
+                    final Cell cell = cells.get(ChunkPos.asLong(cx, cz));
+                    if (cell == null)
+                    {
+                        continue;
+                    }
+
+                    for (final AbstractBuilding building : cell.locations)
+                    {
+                        final double distance = building.getLocation().distanceSq(pos);
+                        if (distance < closestDistance)
+                        {
+                            closestDistance = distance;
+                            closest = building;
+                        }
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Get the occupied cells which overlap a rectangle.
+     *
+     * @param minX the min x coordinate.
+     * @param minZ the min z coordinate.
+     * @param maxX the max x coordinate.
+     * @param maxZ the max z coordinate.
+     * @return the cells.
+     */
+    private Collection<Cell> getCellsInArea(final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        final int fromX = Math.max(minX >> CELL_SHIFT, minCellX);
+        final int toX = Math.min(maxX >> CELL_SHIFT, maxCellX);
+        final int fromZ = Math.max(minZ >> CELL_SHIFT, minCellZ);
+        final int toZ = Math.min(maxZ >> CELL_SHIFT, maxCellZ);
+        if (fromX > toX || fromZ > toZ)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<Cell> result = new ArrayList<>();
+        if ((long) (toX - fromX + 1) * (toZ - fromZ + 1) > cells.size())
+        {
+            for (final Map.Entry<Long, Cell> entry : cells.entrySet())
+            {
+                final int cx = (int) (entry.getKey() & 0xFFFFFFFFL);
+                final int cz = (int) (entry.getKey() >>> 32);
+                if (cx >= fromX && cx <= toX && cz >= fromZ && cz <= toZ)
+                {
+                    result.add(entry.getValue());
+                }
+            }
+            return result;
+        }
+
+        for (int cx = fromX; cx <= toX; cx++)
+        {
+            for (int cz = fromZ; cz <= toZ; cz++)
+            {
+                final Cell cell = cells.get(ChunkPos.asLong(cx, cz));
+                if (cell != null)
+                {
+                    result.add(cell);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a cell, creating it if necessary.
+     *
+     * @param cx the cell x.
+     * @param cz the cell z.
+     * @return the cell.
+     */
+    private Cell getOrCreateCell(final int cx, final int cz)
+    {
+        minCellX = Math.min(minCellX, cx);
+        maxCellX = Math.max(maxCellX, cx);
+        minCellZ = Math.min(minCellZ, cz);
+        maxCellZ = Math.max(maxCellZ, cz);
+        return cells.computeIfAbsent(ChunkPos.asLong(cx, cz), key -> new Cell());
+    }
+
+    /**
+     * Drop a cell which holds no more entries.
+     * The bounds are only ever grown, they are a conservative clamp.
+     *
+     * @param cx   the cell x.
+     * @param cz   the cell z.
+     * @param cell the cell.
+     */
+    private void removeIfEmpty(final int cx, final int cz, final Cell cell)
+    {
+        if (cell.footprints.isEmpty() && cell.locations.isEmpty() && cell.wayPoints.isEmpty())
+        {
+            cells.remove(ChunkPos.asLong(cx, cz));
+        }
+    }
+
+    /**
+     * Check if a position is inside a rectangle on the x/z plane.
+     */
+    private static boolean isInArea(final BlockPos pos, final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        return pos.getX() >= minX && pos.getX() <= maxX && pos.getZ() >= minZ && pos.getZ() <= maxZ;
+    }
+
+    /**
+     * Contents of one grid cell.
+     */
+    private static class Cell
+    {
+        private final List<AbstractBuilding> footprints = new ArrayList<>();
+        private final List<AbstractBuilding> locations  = new ArrayList<>();
+        private final Set<BlockPos>          wayPoints  = new HashSet<>();
+    }
+
+    /**
+     * Normalized footprint of a building.
+     */
+    private static class Footprint
+    {
+        private final int minX;
+        private final int maxX;
+        private final int minZ;
+        private final int maxZ;
+
+        private Footprint(final AbstractBuilding building)
+        {
+            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = building.getCorners();
+            this.minX = Math.min(corners.getFirst().getFirst(), corners.getFirst().getSecond());
+            this.maxX = Math.max(corners.getFirst().getFirst(), corners.getFirst().getSecond());
+            this.minZ = Math.min(corners.getSecond().getFirst(), corners.getSecond().getSecond());
+            this.maxZ = Math.max(corners.getSecond().getFirst(), corners.getSecond().getSecond());
+        }
+    }
+}
@@ -61,6 +61,16 @@ public class BuildingManager implements IBuildingManager
     @Nullable
     private BuildingTownHall townHall;
 
+    /**
+     * Spatial index over the building footprints and colony waypoints.
+     */
+    private final BuildingFootprintIndex footprintIndex = new BuildingFootprintIndex();
+
+    /**
+     * Graph over the waypoints and building locations used to route long trips.
+     */
+    private final ColonyRoadNetwork roadNetwork = new ColonyRoadNetwork();
+
     /**
      * Variable to check if the buildings needs to be synched.
      */
@@ -381,6 +391,13 @@ public class BuildingManager implements IBuildingManager
     {
         if (buildings.remove(building.getID()) != null)
         {
+            footprintIndex.removeBuilding(building);
+            roadNetwork.removeNode(building.getLocation());
+            colony.getRaiderManager().onBuildingsChanged();
+            if (building instanceof BuildingCook)
+            {
+                colony.getCitizenManager().getHungerIndex().onRestaurantsChanged(colony.getCitizenManager().getCitizens());
+            }
             for (final EntityPlayerMP player : subscribers)
             {
                 MineColonies.getNetwork().sendTo(new ColonyViewRemoveBuildingMessage(colony, building.getID()), player);
@@ -420,6 +437,24 @@ public class BuildingManager implements IBuildingManager
         colony.markDirty();
     }
 
+    @Override
+    public void onFieldBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        for (@NotNull final BlockPos fieldPos : fields)
+        {
+            if (Math.abs(fieldPos.getX() - pos.getX()) <= ScarecrowTileEntity.getMaxRange()
+                  && Math.abs(fieldPos.getZ() - pos.getZ()) <= ScarecrowTileEntity.getMaxRange()
+                  && world.isBlockLoaded(fieldPos))
+            {
+                final TileEntity field = world.getTileEntity(fieldPos);
+                if (field instanceof ScarecrowTileEntity)
+                {
+                    ((ScarecrowTileEntity) field).markCellDirty(pos);
+                }
+            }
+        }
+    }
+
     @Override
     public BlockPos getBestRestaurant(final EntityCitizen citizen)
     {
@@ -440,6 +475,64 @@ public class BuildingManager implements IBuildingManager
         return goodCook;
     }
 
+    @Nullable
+    @Override
+    public AbstractBuilding getBuildingAt(@NotNull final BlockPos pos)
+    {
+        return footprintIndex.getBuildingAt(pos.getX(), pos.getZ());
+    }
+
+    @NotNull
+    @Override
+    public Set<AbstractBuilding> getBuildingsInArea(final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        return footprintIndex.getBuildingsInArea(minX, minZ, maxX, maxZ);
+    }
+
+    @Nullable
+    @Override
+    public AbstractBuilding getClosestBuilding(@NotNull final BlockPos pos)
+    {
+        return footprintIndex.getClosestBuilding(pos);
+    }
+
+    @NotNull
+    @Override
+    public List<BlockPos> getWayPointsInArea(final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        return footprintIndex.getWayPointsInArea(minX, minZ, maxX, maxZ);
+    }
+
+    @Override
+    public void onBuildingFootprintChanged(@NotNull final AbstractBuilding building)
+    {
+        if (buildings.get(building.getID()) == building)
+        {
+            footprintIndex.addBuilding(building);
+        }
+    }
+
+    @Override
+    public void onWayPointAdded(@NotNull final BlockPos pos)
+    {
+        footprintIndex.addWayPoint(pos);
+        roadNetwork.addNode(pos);
+    }
+
+    @Override
+    public void onWayPointRemoved(@NotNull final BlockPos pos)
+    {
+        footprintIndex.removeWayPoint(pos);
+        roadNetwork.removeNode(pos);
+    }
+
+    @NotNull
+    @Override
+    public ColonyRoadNetwork getRoadNetwork()
+    {
+        return roadNetwork;
+    }
+
     @Override
     public void setTownHall(@Nullable final BuildingTownHall building)
     {
@@ -468,6 +561,13 @@ public class BuildingManager implements IBuildingManager
     private void addBuilding(@NotNull final AbstractBuilding building)
     {
         buildings.put(building.getID(), building);
+        footprintIndex.addBuilding(building);
+        roadNetwork.addNode(building.getLocation());
+        colony.getRaiderManager().onBuildingsChanged();
+        if (building instanceof BuildingCook)
+        {
+            colony.getCitizenManager().getHungerIndex().onRestaurantsChanged(colony.getCitizenManager().getCitizens());
+        }
         building.markDirty();
 
         //  Limit 1 town hall
@@ -0,0 +1,241 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.item.EntityXPOrb;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Hands item entities and experience orbs lying around citizens to the closest citizen in range.
+ * <p>
+ * Runs once every {@link #SWEEP_INTERVAL} ticks for the whole colony: the citizens are put into a spatial hash,
+ * only the chunks around them are scanned for loot, and each loot entity is matched against the citizens of the
+ * surrounding cells. This replaces the entity queries each citizen ran on its own.
+ */
+public class CitizenLootSweep
+{
+    /**
+     * Ticks between two sweeps.
+     */
+    public static final int SWEEP_INTERVAL = 10;
+
+    /**
+     * Range around a citizen in which experience is gathered.
+     */
+    private static final double XP_RANGE = 2.0D;
+
+    /**
+     * Horizontal range around the block of a citizen in which items are picked up.
+     */
+    private static final double ITEM_RANGE_HORIZONTAL = 2.0D;
+
+    /**
+     * Vertical range around the block of a citizen in which items are picked up.
+     */
+    private static final double ITEM_RANGE_VERTICAL = 1.0D;
+
+    /**
+     * Largest horizontal distance between a citizen and loot it can take, with some margin for the entity sizes.
+     */
+    private static final int MAX_REACH = 4;
+
+    /**
+     * Shift for the size of a cell of the spatial hash, 4 blocks.
+     */
+    private static final int CELL_SHIFT = 2;
+
+    /**
+     * Shift from block to chunk coordinates.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * Citizens by cell of the spatial hash.
+     */
+    private final Map<Long, List<EntityCitizen>> cells = new HashMap<>();
+
+    /**
+     * Chunks which have to be scanned for loot.
+     */
+    private final Set<Long> chunks = new HashSet<>();
+
+    /**
+     * Run the sweep if it is due this tick.
+     *
+     * @param world    the world of the colony.
+     * @param citizens the citizens of the colony.
+     */
+    public void onWorldTick(@NotNull final World world, @NotNull final Collection<CitizenData> citizens)
+    {
+        if (world.getTotalWorldTime() % SWEEP_INTERVAL != 0)
+        {
+            return;
+        }
+
+        cells.clear();
+        chunks.clear();
+        for (final CitizenData data : citizens)
+        {
+            final Optional<EntityCitizen> entity = data.getCitizenEntity();
+            if (!entity.isPresent() || entity.get().isDead || entity.get().world != world)
+            {
+                continue;
+            }
+
+            final EntityCitizen citizen = entity.get();
+            final int x = MathHelper.floor(citizen.posX);
+            final int z = MathHelper.floor(citizen.posZ);
+            cells.computeIfAbsent(ChunkPos.asLong(x >> CELL_SHIFT, z >> CELL_SHIFT), key -> new ArrayList<>()).add(citizen);
+
+            for (int chunkX = (x - MAX_REACH) >> CHUNK_SHIFT; chunkX <= (x + MAX_REACH) >> CHUNK_SHIFT; chunkX++)
+            {
+                for (int chunkZ = (z - MAX_REACH) >> CHUNK_SHIFT; chunkZ <= (z + MAX_REACH) >> CHUNK_SHIFT; chunkZ++)
+                {
+                    chunks.add(ChunkPos.asLong(chunkX, chunkZ));
+                }
+            }
+        }
+
+        if (cells.isEmpty())
+        {
+            return;
+        }
+
+        final List<EntityItem> items = new ArrayList<>();
+        final List<EntityXPOrb> orbs = new ArrayList<>();
+        for (final long chunkKey : chunks)
+        {
+            final Chunk chunk = world.getChunkProvider().getLoadedChunk((int) chunkKey, (int) (chunkKey >> 32));
+            if (chunk == null)
+            {
+                continue;
+            }
+
+            for (final ClassInheritanceMultiMap<Entity> section : chunk.getEntityLists())
+            {
+                for (final EntityItem item : section.getByClass(EntityItem.class))
+                {
+                    items.add(item);
+                }
+                for (final EntityXPOrb orb : section.getByClass(EntityXPOrb.class))
+                {
+                    orbs.add(orb);
+                }
+            }
+        }
+
+        for (final EntityItem item : items)
+        {
+            handOutItem(item);
+        }
+        for (final EntityXPOrb orb : orbs)
+        {
+            handOutExperience(orb);
+        }
+    }
+
+    /**
+     * Let the closest citizens in range try to pick up an item until it is gone.
+     *
+     * @param item the item entity.
+     */
+    private void handOutItem(@NotNull final EntityItem item)
+    {
+        if (item.isDead || item.cannotPickup())
+        {
+            return;
+        }
+
+        final List<EntityCitizen> candidates = new ArrayList<>();
+        for (final EntityCitizen citizen : getCitizensAround(item))
+        {
+            if (citizen.canPickUpLoot()
+                  && new AxisAlignedBB(citizen.getPosition())
+                       .grow(ITEM_RANGE_HORIZONTAL, ITEM_RANGE_VERTICAL, ITEM_RANGE_HORIZONTAL)
+                       .intersects(item.getEntityBoundingBox()))
+            {
+                candidates.add(citizen);
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(citizen -> citizen.getDistanceSq(item)));
+
+        for (final EntityCitizen citizen : candidates)
+        {
+            citizen.getCitizenItemHandler().tryPickupEntityItem(item);
+            if (item.isDead)
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Give an experience orb to the closest citizen in range.
+     *
+     * @param orb the orb.
+     */
+    private void handOutExperience(@NotNull final EntityXPOrb orb)
+    {
+        if (orb.isDead)
+        {
+            return;
+        }
+
+        EntityCitizen closest = null;
+        double closestDistance = Double.MAX_VALUE;
+        for (final EntityCitizen citizen : getCitizensAround(orb))
+        {
+            final double distance = citizen.getDistanceSq(orb);
+            if (distance < closestDistance
+                  && new AxisAlignedBB(citizen.posX - XP_RANGE, citizen.posY - XP_RANGE, citizen.posZ - XP_RANGE,
+                                        citizen.posX + XP_RANGE, citizen.posY + XP_RANGE, citizen.posZ + XP_RANGE)
+                       .intersects(orb.getEntityBoundingBox()))
+            {
+                closest = citizen;
+                closestDistance = distance;
+            }
+        }
+
+        if (closest != null)
+        {
+            closest.getCitizenExperienceHandler().addExperience(orb.getXpValue() / 2.0D);
+            orb.setDead();
+        }
+    }
+
+    /**
+     * Get the citizens of all cells an entity could be reached from.
+     *
+     * @param entity the loot entity.
+     * @return the citizens, which still have to be checked for their range.
+     */
+    @NotNull
+    private List<EntityCitizen> getCitizensAround(@NotNull final Entity entity)
+    {
+        final int x = MathHelper.floor(entity.posX);
+        final int z = MathHelper.floor(entity.posZ);
+        final List<EntityCitizen> result = new ArrayList<>();
+        for (int cellX = (x - MAX_REACH) >> CELL_SHIFT; cellX <= (x + MAX_REACH) >> CELL_SHIFT; cellX++)
+        {
+            for (int cellZ = (z - MAX_REACH) >> CELL_SHIFT; cellZ <= (z + MAX_REACH) >> CELL_SHIFT; cellZ++)
+            {
+                final List<EntityCitizen> cell = cells.get(ChunkPos.asLong(cellX, cellZ));
+                if (cell != null)
+                {
+                    result.addAll(cell);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -9,8 +9,6 @@ import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.HappinessData;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
-import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
-import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBarracksTower;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHome;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
@@ -66,6 +64,41 @@ public class CitizenManager implements ICitizenManager
      */
     private final Colony colony;
 
+    /**
+     * Ids of the citizens without a home, in the order they became homeless.
+     */
+    private final Set<Integer> homeless = new LinkedHashSet<>();
+
+    /**
+     * All homes of the colony by building level.
+     */
+    private final NavigableMap<Integer, Set<BuildingHome>> homesByLevel = new TreeMap<>();
+
+    /**
+     * Homes with free beds by building level.
+     */
+    private final NavigableMap<Integer, Set<BuildingHome>> vacanciesByLevel = new TreeMap<>();
+
+    /**
+     * The level each home has been indexed with.
+     */
+    private final Map<BuildingHome, Integer> indexedHomeLevels = new HashMap<>();
+
+    /**
+     * Whether the housing allocator has to run on the next tick.
+     */
+    private boolean isHousingDirty = false;
+
+    /**
+     * Running sums over all citizens.
+     */
+    private final ColonyAggregateStats aggregateStats = new ColonyAggregateStats();
+
+    /**
+     * The hungry citizens, queued by restaurant.
+     */
+    private final ColonyHungerIndex hungerIndex = new ColonyHungerIndex();
+
     /**
      * Creates the Citizenmanager for a colony.
      *
@@ -85,6 +118,12 @@ public class CitizenManager implements ICitizenManager
         citizens.putAll(NBTUtils.streamCompound(compound.getTagList(TAG_CITIZENS, Constants.NBT.TAG_COMPOUND))
                           .map(this::deserializeCitizen)
                           .collect(Collectors.toMap(CitizenData::getId, Function.identity())));
+
+        // Homes assign their residents while the buildings are read, which takes them out of this queue again.
+        homeless.addAll(citizens.keySet());
+        isHousingDirty = true;
+        citizens.values().forEach(aggregateStats::update);
+        citizens.values().forEach(hungerIndex::update);
     }
 
     private CitizenData deserializeCitizen(@NotNull final NBTTagCompound compound)
@@ -200,6 +239,9 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCitizen();
         citizens.put(citizenData.getId(), citizenData);
+        onCitizenHomeChanged(citizenData);
+        aggregateStats.update(citizenData);
+        hungerIndex.update(citizenData);
 
         return citizenData;
     }
@@ -209,6 +251,10 @@ public class CitizenManager implements ICitizenManager
     {
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        homeless.remove(citizen.getId());
+        aggregateStats.remove(citizen.getId());
+        hungerIndex.remove(citizen.getId());
+        colony.getPondRegistry().releaseSpot(citizen.getId());
 
         if (citizen.getWorkBuilding() != null)
         {
@@ -343,45 +389,17 @@ public class CitizenManager implements ICitizenManager
     @Override
     public void checkCitizensForHappiness()
     {
-        int guards = 1;
-        int housing = 0;
-        int workers = 1;
-        boolean hasJob = false; 
-        boolean hasHouse = false;
-        double saturation = 0;
-        for (final CitizenData citizen : getCitizens())
+        for (final CitizenData citizen : citizens.values())
         {
-            hasJob = false; 
-            hasHouse = false; 
-            final AbstractBuildingWorker buildingWorker = citizen.getWorkBuilding();
-            if (buildingWorker != null)
-            {
-                hasJob = true;
-                if (buildingWorker instanceof AbstractBuildingGuards)
-                {
-                    guards += buildingWorker.getBuildingLevel();
-                }
-                else
-                {
-                    workers += buildingWorker.getBuildingLevel();
-                }
-            }
-
-            final AbstractBuilding home = citizen.getHomeBuilding();
-            if (home != null)
-            {
-                hasHouse = true;
-                housing += home.getBuildingLevel();
-            }
-
             if (citizen.getCitizenEntity().isPresent())
             {
-                citizen.getCitizenHappinessHandler().processDailyHappiness(hasHouse, hasJob);
+                citizen.getCitizenHappinessHandler().processDailyHappiness(citizen.getHomeBuilding() != null, citizen.getWorkBuilding() != null);
             }
-            saturation += citizen.getSaturation();
         }
 
-        final int averageHousing = housing / Math.max(1, getCitizens().size());
+        final int guards = 1 + aggregateStats.getGuardLevelSum();
+        final int workers = 1 + aggregateStats.getWorkerLevelSum();
+        final int averageHousing = aggregateStats.getHousingLevelSum() / Math.max(1, aggregateStats.getCitizenCount());
 
         if (averageHousing > 1)
         {
@@ -396,7 +414,7 @@ public class CitizenManager implements ICitizenManager
             colony.getHappinessData().setHousing(HappinessData.STABLE);
         }
 
-        final int averageSaturation = (int) (saturation / getCitizens().size());
+        final int averageSaturation = (int) (aggregateStats.getSaturationSum() / aggregateStats.getCitizenCount());
         if (averageSaturation < WELL_SATURATED_LIMIT)
         {
             colony.getHappinessData().setSaturation(HappinessData.DECREASE);
@@ -427,9 +445,189 @@ public class CitizenManager implements ICitizenManager
         }
     }
 
+    @Override
+    public void onCitizenHomeChanged(@NotNull final CitizenData citizen)
+    {
+        if (citizens.get(citizen.getId()) != citizen)
+        {
+            return;
+        }
+
+        if (citizen.getHomeBuilding() == null)
+        {
+            homeless.add(citizen.getId());
+            isHousingDirty = true;
+        }
+        else
+        {
+            homeless.remove(citizen.getId());
+        }
+    }
+
+    @Override
+    public void onHomeChanged(@NotNull final BuildingHome home)
+    {
+        removeFromHousingIndex(home);
+
+        final int level = home.getBuildingLevel();
+        indexedHomeLevels.put(home, level);
+        homesByLevel.computeIfAbsent(level, key -> new LinkedHashSet<>()).add(home);
+        if (!home.isFull())
+        {
+            vacanciesByLevel.computeIfAbsent(level, key -> new LinkedHashSet<>()).add(home);
+            isHousingDirty = true;
+        }
+    }
+
+    @Override
+    public void onHomeRemoved(@NotNull final BuildingHome home)
+    {
+        removeFromHousingIndex(home);
+    }
+
+    @Override
+    public void markHousingDirty()
+    {
+        isHousingDirty = true;
+    }
+
+    @Override
+    public void onCitizenStatsChanged(@NotNull final CitizenData citizen)
+    {
+        if (citizens.get(citizen.getId()) == citizen)
+        {
+            aggregateStats.update(citizen);
+            hungerIndex.update(citizen);
+        }
+    }
+
+    @NotNull
+    @Override
+    public ColonyAggregateStats getAggregateStats()
+    {
+        return aggregateStats;
+    }
+
+    @NotNull
+    @Override
+    public ColonyHungerIndex getHungerIndex()
+    {
+        return hungerIndex;
+    }
+
+    /**
+     * Remove a home from the housing index.
+     *
+     * @param home the home.
+     */
+    private void removeFromHousingIndex(@NotNull final BuildingHome home)
+    {
+        final Integer level = indexedHomeLevels.remove(home);
+        if (level != null)
+        {
+            removeFromLevel(homesByLevel, level, home);
+            removeFromLevel(vacanciesByLevel, level, home);
+        }
+    }
+
+    /**
+     * Remove a home from a map of homes by level, dropping the level if it is empty afterwards.
+     *
+     * @param index the map.
+     * @param level the level the home is stored at.
+     * @param home  the home.
+     */
+    private static void removeFromLevel(@NotNull final Map<Integer, Set<BuildingHome>> index, final int level, @NotNull final BuildingHome home)
+    {
+        final Set<BuildingHome> homes = index.get(level);
+        if (homes != null && homes.remove(home) && homes.isEmpty())
+        {
+            index.remove(level);
+        }
+    }
+
+    /**
+     * Fill the free beds of the colony, best homes first.
+     * Citizens of lower level homes move up first, then homeless citizens move in,
+     * and in both cases citizens of a gender the home is missing are preferred.
+     */
+    private void allocateHousing()
+    {
+        isHousingDirty = false;
+        if (colony.isManualHousing() || vacanciesByLevel.isEmpty())
+        {
+            return;
+        }
+
+        // Assigning changes the index, so work on a snapshot of the free homes.
+        final List<BuildingHome> vacantHomes = new ArrayList<>();
+        for (final Set<BuildingHome> homes : vacanciesByLevel.descendingMap().values())
+        {
+            vacantHomes.addAll(homes);
+        }
+
+        for (final BuildingHome home : vacantHomes)
+        {
+            if (home.getBuildingLevel() <= 0)
+            {
+                continue;
+            }
+
+            final List<CitizenData> candidates = new ArrayList<>();
+            for (final Set<BuildingHome> lowerHomes : homesByLevel.headMap(home.getBuildingLevel(), false).values())
+            {
+                for (final BuildingHome lowerHome : lowerHomes)
+                {
+                    candidates.addAll(lowerHome.getAssignedCitizen());
+                }
+            }
+            for (final int citizenId : homeless)
+            {
+                candidates.add(citizens.get(citizenId));
+            }
+
+            moveIntoHome(home, candidates, true);
+            moveIntoHome(home, candidates, false);
+        }
+    }
+
+    /**
+     * Move candidates into a home until it is full.
+     *
+     * @param home           the home.
+     * @param candidates     the citizens which may move, moved ones are removed from the list.
+     * @param missingGenders if only citizens of a gender missing in the home should be moved.
+     */
+    private static void moveIntoHome(@NotNull final BuildingHome home, @NotNull final List<CitizenData> candidates, final boolean missingGenders)
+    {
+        final Iterator<CitizenData> iterator = candidates.iterator();
+        while (iterator.hasNext() && !home.isFull())
+        {
+            final CitizenData citizen = iterator.next();
+            if (citizen == null || (missingGenders && !home.isMissingGenderOf(citizen)))
+            {
+                continue;
+            }
+
+            if (citizen.getHomeBuilding() instanceof BuildingHome)
+            {
+                citizen.getHomeBuilding().removeCitizen(citizen);
+            }
+            if (citizen.getHomeBuilding() == null && home.assignCitizen(citizen))
+            {
+                iterator.remove();
+            }
+        }
+    }
+
     @Override
     public void onWorldTick(final TickEvent.WorldTickEvent event)
     {
+        if (isHousingDirty)
+        {
+            allocateHousing();
+        }
+
         //  Cleanup disappeared citizens
         //  It would be really nice if we didn't have to do this... but Citizens can disappear without dying!
         //  Every CLEANUP_TICK_INCREMENT, cleanup any 'lost' citizens
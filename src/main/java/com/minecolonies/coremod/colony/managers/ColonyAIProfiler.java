@@ -0,0 +1,296 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how much time the AI transitions of a colony take, by type of AI and state.
+ * <p>
+ * Disabled by default, while disabled the statemachines only read one volatile flag per checked transition.
+ * The counters can be updated from any thread without locking.
+ */
+public class ColonyAIProfiler
+{
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * Whether transitions are recorded.
+     */
+    private volatile boolean enabled = false;
+
+    /**
+     * The world time the current recording started at.
+     */
+    private volatile long startTime = 0;
+
+    /**
+     * The counters by AI type and state.
+     */
+    private final Map<Class<?>, Map<IAIState, Counter>> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Check if transitions are recorded.
+     *
+     * @return true if so.
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Drop the recorded data and start recording.
+     *
+     * @param worldTime the current world time.
+     */
+    public void start(final long worldTime)
+    {
+        counters.clear();
+        startTime = worldTime;
+        enabled = true;
+    }
+
+    /**
+     * Stop recording, the data recorded so far is kept.
+     */
+    public void stop()
+    {
+        enabled = false;
+    }
+
+    /**
+     * Get the world time the current recording started at.
+     *
+     * @return the world time.
+     */
+    public long getStartTime()
+    {
+        return startTime;
+    }
+
+    /**
+     * Record one checked transition.
+     *
+     * @param type  the type of the AI.
+     * @param state the state the AI was in.
+     * @param nanos the nanoseconds the check took.
+     */
+    public void record(@NotNull final Class<?> type, @NotNull final IAIState state, final long nanos)
+    {
+        Map<IAIState, Counter> stateCounters = counters.get(type);
+        if (stateCounters == null)
+        {
+            stateCounters = counters.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        }
+
+        Counter counter = stateCounters.get(state);
+        if (counter == null)
+        {
+            counter = stateCounters.computeIfAbsent(state, key -> new Counter());
+        }
+        counter.add(nanos);
+    }
+
+    /**
+     * Get a snapshot of the recorded data, most expensive first.
+     *
+     * @return the entries.
+     */
+    @NotNull
+    public List<Entry> getEntries()
+    {
+        final List<Entry> entries = new ArrayList<>();
+        for (final Map.Entry<Class<?>, Map<IAIState, Counter>> typeEntry : counters.entrySet())
+        {
+            for (final Map.Entry<IAIState, Counter> stateEntry : typeEntry.getValue().entrySet())
+            {
+                final Counter counter = stateEntry.getValue();
+                entries.add(new Entry(typeEntry.getKey(), stateEntry.getKey(), counter.calls.sum(), counter.totalNanos.sum(), counter.maxNanos.get()));
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        return entries;
+    }
+
+    /**
+     * Write a snapshot of the recorded data as CSV.
+     *
+     * @param file the file to write to.
+     * @throws IOException if writing fails.
+     */
+    public void writeCsv(@NotNull final File file) throws IOException
+    {
+        file.getParentFile().mkdirs();
+        try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name()))
+        {
+            writer.println("ai,state,calls,total_nanos,max_nanos,average_nanos");
+            for (final Entry entry : getEntries())
+            {
+                writer.println(entry.getType().getName() + ',' + entry.getState() + ',' + entry.getCalls() + ',' + entry.getTotalNanos() + ','
+                                 + entry.getMaxNanos() + ',' + entry.getTotalNanos() / Math.max(1, entry.getCalls()));
+            }
+        }
+    }
+
+    /**
+     * Lock free counters of one AI type and state.
+     */
+    private static final class Counter
+    {
+        /**
+         * Amount of checked transitions.
+         */
+        private final LongAdder calls = new LongAdder();
+
+        /**
+         * Sum of the nanoseconds of all checks.
+         */
+        private final LongAdder totalNanos = new LongAdder();
+
+        /**
+         * Nanoseconds of the slowest check.
+         */
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        /**
+         * Record one check.
+         *
+         * @param nanos the nanoseconds it took.
+         */
+        private void add(final long nanos)
+        {
+            calls.increment();
+            totalNanos.add(nanos);
+            long max = maxNanos.get();
+            while (nanos > max && !maxNanos.compareAndSet(max, nanos))
+            {
+                max = maxNanos.get();
+            }
+        }
+    }
+
+    /**
+     * Recorded data of one AI type and state.
+     */
+    public static final class Entry
+    {
+        /**
+         * The type of the AI.
+         */
+        private final Class<?> type;
+
+        /**
+         * The state.
+         */
+        private final IAIState state;
+
+        /**
+         * Amount of checked transitions.
+         */
+        private final long calls;
+
+        /**
+         * Sum of the nanoseconds of all checks.
+         */
+        private final long totalNanos;
+
+        /**
+         * Nanoseconds of the slowest check.
+         */
+        private final long maxNanos;
+
+        /**
+         * Create an entry.
+         *
+         * @param type       the type of the AI.
+         * @param state      the state.
+         * @param calls      amount of checked transitions.
+         * @param totalNanos sum of the nanoseconds of all checks.
+         * @param maxNanos   nanoseconds of the slowest check.
+         */
+        private Entry(@NotNull final Class<?> type, @NotNull final IAIState state, final long calls, final long totalNanos, final long maxNanos)
+        {
+            this.type = type;
+            this.state = state;
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Get the type of the AI.
+         *
+         * @return the type.
+         */
+        public Class<?> getType()
+        {
+            return type;
+        }
+
+        /**
+         * Get the state.
+         *
+         * @return the state.
+         */
+        public IAIState getState()
+        {
+            return state;
+        }
+
+        /**
+         * Get the amount of checked transitions.
+         *
+         * @return the amount.
+         */
+        public long getCalls()
+        {
+            return calls;
+        }
+
+        /**
+         * Get the sum of the nanoseconds of all checks.
+         *
+         * @return the nanoseconds.
+         */
+        public long getTotalNanos()
+        {
+            return totalNanos;
+        }
+
+        /**
+         * Get the nanoseconds of the slowest check.
+         *
+         * @return the nanoseconds.
+         */
+        public long getMaxNanos()
+        {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%s %s: %d calls, %.2f ms total, %.3f ms max",
+              type.getSimpleName(),
+              state,
+              calls,
+              totalNanos / NANOS_PER_MILLI,
+              maxNanos / NANOS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running sums over all citizens of a colony.
+ * <p>
+ * Each citizen contributes one snapshot which is replaced whenever the citizen reports a change,
+ * so all reads are constant time no matter how many citizens the colony has.
+ */
+public class ColonyAggregateStats
+{
+    /**
+     * The current contribution of each citizen by id.
+     */
+    private final Map<Integer, Contribution> contributions = new HashMap<>();
+
+    /**
+     * Amount of employed citizens by job name.
+     */
+    private final Map<String, Integer> workersByJob = new HashMap<>();
+
+    /**
+     * Sum of the happiness of all citizens, ignoring a locked colony happiness.
+     */
+    private double happinessSum;
+
+    /**
+     * Sum of the saturation of all citizens.
+     */
+    private double saturationSum;
+
+    /**
+     * Sum of the home levels of all citizens.
+     */
+    private int housingLevelSum;
+
+    /**
+     * Sum of the work building levels of all non guard workers.
+     */
+    private int workerLevelSum;
+
+    /**
+     * Sum of the work building levels of all guards.
+     */
+    private int guardLevelSum;
+
+    /**
+     * Amount of guards.
+     */
+    private int guardCount;
+
+    /**
+     * Replace the contribution of a citizen with its current values.
+     *
+     * @param citizen the citizen.
+     */
+    public void update(@NotNull final CitizenData citizen)
+    {
+        final Contribution contribution = new Contribution(citizen);
+        final Contribution previous = contributions.put(citizen.getId(), contribution);
+        if (previous != null)
+        {
+            apply(previous, -1);
+        }
+        apply(contribution, 1);
+    }
+
+    /**
+     * Remove the contribution of a citizen.
+     *
+     * @param citizenId the id of the citizen.
+     */
+    public void remove(final int citizenId)
+    {
+        final Contribution previous = contributions.remove(citizenId);
+        if (previous != null)
+        {
+            apply(previous, -1);
+        }
+    }
+
+    /**
+     * Add or subtract a contribution from the sums.
+     *
+     * @param contribution the contribution.
+     * @param sign         1 to add, -1 to subtract.
+     */
+    private void apply(@NotNull final Contribution contribution, final int sign)
+    {
+        happinessSum += sign * contribution.happiness;
+        saturationSum += sign * contribution.saturation;
+        housingLevelSum += sign * contribution.housingLevel;
+        if (contribution.isGuard)
+        {
+            guardLevelSum += sign * contribution.workLevel;
+            guardCount += sign;
+        }
+        else
+        {
+            workerLevelSum += sign * contribution.workLevel;
+        }
+
+        if (contribution.jobName != null)
+        {
+            final int count = workersByJob.getOrDefault(contribution.jobName, 0) + sign;
+            if (count <= 0)
+            {
+                workersByJob.remove(contribution.jobName);
+            }
+            else
+            {
+                workersByJob.put(contribution.jobName, count);
+            }
+        }
+    }
+
+    /**
+     * Get the amount of tracked citizens.
+     *
+     * @return the amount.
+     */
+    public int getCitizenCount()
+    {
+        return contributions.size();
+    }
+
+    /**
+     * Get the sum of the happiness of all citizens, ignoring a locked colony happiness.
+     *
+     * @return the sum.
+     */
+    public double getHappinessSum()
+    {
+        return happinessSum;
+    }
+
+    /**
+     * Get the sum of the saturation of all citizens.
+     *
+     * @return the sum.
+     */
+    public double getSaturationSum()
+    {
+        return saturationSum;
+    }
+
+    /**
+     * Get the sum of the home levels of all citizens, 0 for homeless citizens.
+     *
+     * @return the sum.
+     */
+    public int getHousingLevelSum()
+    {
+        return housingLevelSum;
+    }
+
+    /**
+     * Get the sum of the work building levels of all workers which are not guards.
+     *
+     * @return the sum.
+     */
+    public int getWorkerLevelSum()
+    {
+        return workerLevelSum;
+    }
+
+    /**
+     * Get the sum of the work building levels of all guards.
+     *
+     * @return the sum.
+     */
+    public int getGuardLevelSum()
+    {
+        return guardLevelSum;
+    }
+
+    /**
+     * Get the amount of guards.
+     *
+     * @return the amount.
+     */
+    public int getGuardCount()
+    {
+        return guardCount;
+    }
+
+    /**
+     * Get the amount of employed citizens by job name.
+     *
+     * @return an unmodifiable view of the amounts.
+     */
+    @NotNull
+    public Map<String, Integer> getWorkersByJob()
+    {
+        return Collections.unmodifiableMap(workersByJob);
+    }
+
+    /**
+     * Snapshot of the values a citizen adds to the sums.
+     */
+    private static final class Contribution
+    {
+        /**
+         * The happiness of the citizen.
+         */
+        private final double happiness;
+
+        /**
+         * The saturation of the citizen.
+         */
+        private final double saturation;
+
+        /**
+         * The level of the home, 0 if homeless.
+         */
+        private final int housingLevel;
+
+        /**
+         * The level of the work building, 0 if jobless.
+         */
+        private final int workLevel;
+
+        /**
+         * Whether the citizen works in a guard building.
+         */
+        private final boolean isGuard;
+
+        /**
+         * The name of the job or null if jobless.
+         */
+        @Nullable
+        private final String jobName;
+
+        /**
+         * Take the snapshot of a citizen.
+         *
+         * @param citizen the citizen.
+         */
+        private Contribution(@NotNull final CitizenData citizen)
+        {
+            this.happiness = citizen.getCitizenHappinessHandler().getUnlockedHappiness();
+            this.saturation = citizen.getSaturation();
+
+            final AbstractBuilding home = citizen.getHomeBuilding();
+            this.housingLevel = home == null ? 0 : home.getBuildingLevel();
+
+            final AbstractBuildingWorker work = citizen.getWorkBuilding();
+            this.workLevel = work == null ? 0 : work.getBuildingLevel();
+            this.isGuard = work instanceof AbstractBuildingGuards;
+            this.jobName = citizen.getJob() == null ? null : citizen.getJob().getName();
+        }
+    }
+}
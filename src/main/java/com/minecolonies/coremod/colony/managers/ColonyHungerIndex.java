@@ -0,0 +1,221 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingCook;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.CitizenConstants.AVERAGE_SATURATION;
+
+/**
+ * The hungry citizens of a colony, queued at the restaurant they are closest to.
+ * <p>
+ * The index follows the saturation changes the citizens report. A citizen at or below average saturation is queued at
+ * the restaurant closest to it at that moment, or at the restaurant it waits at once it gets there. Each queue is
+ * ordered hungriest first, so a cook only looks at the citizens queued at its own restaurant.
+ */
+public class ColonyHungerIndex
+{
+    /**
+     * Order of the queues, hungriest first.
+     */
+    private static final Comparator<Entry> HUNGRIEST_FIRST = Comparator.<Entry>comparingDouble(entry -> entry.saturation).thenComparingInt(entry -> entry.citizenId);
+
+    /**
+     * The queue entries of all hungry citizens by id.
+     */
+    private final Map<Integer, Entry> hungry = new HashMap<>();
+
+    /**
+     * The queues by restaurant location.
+     */
+    private final Map<BlockPos, NavigableSet<Entry>> queues = new HashMap<>();
+
+    /**
+     * Update a citizen after its saturation changed.
+     *
+     * @param citizen the citizen.
+     */
+    public void update(@NotNull final CitizenData citizen)
+    {
+        final double saturation = citizen.getSaturation();
+        final Entry old = hungry.get(citizen.getId());
+        if (saturation > AVERAGE_SATURATION)
+        {
+            remove(citizen.getId());
+            return;
+        }
+
+        if (old != null && old.saturation == saturation)
+        {
+            return;
+        }
+
+        final BlockPos restaurant = old == null ? findClosestRestaurant(citizen) : old.restaurant;
+        remove(citizen.getId());
+        add(new Entry(citizen.getId(), saturation, restaurant));
+    }
+
+    /**
+     * Queue a hungry citizen at the restaurant it is waiting at.
+     *
+     * @param citizen    the citizen.
+     * @param restaurant the location of the restaurant.
+     */
+    public void setRestaurant(@NotNull final CitizenData citizen, @NotNull final BlockPos restaurant)
+    {
+        final Entry old = hungry.get(citizen.getId());
+        if (old == null || restaurant.equals(old.restaurant))
+        {
+            return;
+        }
+
+        remove(citizen.getId());
+        add(new Entry(citizen.getId(), old.saturation, restaurant));
+    }
+
+    /**
+     * Remove a citizen from the index.
+     *
+     * @param citizenId the id of the citizen.
+     */
+    public void remove(final int citizenId)
+    {
+        final Entry entry = hungry.remove(citizenId);
+        if (entry != null && entry.restaurant != null)
+        {
+            final NavigableSet<Entry> queue = queues.get(entry.restaurant);
+            queue.remove(entry);
+            if (queue.isEmpty())
+            {
+                queues.remove(entry.restaurant);
+            }
+        }
+    }
+
+    /**
+     * Queue all hungry citizens again after a restaurant was built or removed.
+     *
+     * @param citizens the citizens of the colony.
+     */
+    public void onRestaurantsChanged(@NotNull final Collection<CitizenData> citizens)
+    {
+        hungry.clear();
+        queues.clear();
+        for (final CitizenData citizen : citizens)
+        {
+            update(citizen);
+        }
+    }
+
+    /**
+     * Get the ids of the citizens queued at a restaurant, hungriest first.
+     *
+     * @param restaurant the location of the restaurant.
+     * @return the ids, empty if nobody is queued.
+     */
+    @NotNull
+    public List<Integer> getQueue(@NotNull final BlockPos restaurant)
+    {
+        final NavigableSet<Entry> queue = queues.get(restaurant);
+        if (queue == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<Integer> ids = new ArrayList<>(queue.size());
+        for (final Entry entry : queue)
+        {
+            ids.add(entry.citizenId);
+        }
+        return ids;
+    }
+
+    /**
+     * Add an entry to the index and the queue of its restaurant.
+     *
+     * @param entry the entry.
+     */
+    private void add(@NotNull final Entry entry)
+    {
+        hungry.put(entry.citizenId, entry);
+        if (entry.restaurant != null)
+        {
+            queues.computeIfAbsent(entry.restaurant, pos -> new TreeSet<>(HUNGRIEST_FIRST)).add(entry);
+        }
+    }
+
+    /**
+     * Find the built restaurant closest to a citizen.
+     *
+     * @param citizen the citizen.
+     * @return the location of the restaurant or null if there is none or the position of the citizen is unknown.
+     */
+    @Nullable
+    private static BlockPos findClosestRestaurant(@NotNull final CitizenData citizen)
+    {
+        final Optional<EntityCitizen> entity = citizen.getCitizenEntity();
+        final BlockPos position = entity.isPresent() ? entity.get().getPosition() : citizen.getLastPosition();
+        if (position == null)
+        {
+            return null;
+        }
+
+        BlockPos closest = null;
+        double distance = Double.MAX_VALUE;
+        for (final AbstractBuilding building : citizen.getColony().getBuildingManager().getBuildings().values())
+        {
+            if (building instanceof BuildingCook && building.getBuildingLevel() > 0)
+            {
+                final double localDistance = building.getLocation().distanceSq(position);
+                if (localDistance < distance)
+                {
+                    distance = localDistance;
+                    closest = building.getLocation();
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * The snapshot of one hungry citizen.
+     */
+    private static final class Entry
+    {
+        /**
+         * The id of the citizen.
+         */
+        private final int citizenId;
+
+        /**
+         * The saturation of the citizen.
+         */
+        private final double saturation;
+
+        /**
+         * The restaurant the citizen is queued at, null if there is none.
+         */
+        @Nullable
+        private final BlockPos restaurant;
+
+        /**
+         * Create an entry.
+         *
+         * @param citizenId  the id of the citizen.
+         * @param saturation the saturation of the citizen.
+         * @param restaurant the restaurant the citizen is queued at.
+         */
+        private Entry(final int citizenId, final double saturation, @Nullable final BlockPos restaurant)
+        {
+            this.citizenId = citizenId;
+            this.saturation = saturation;
+            this.restaurant = restaurant;
+        }
+    }
+}
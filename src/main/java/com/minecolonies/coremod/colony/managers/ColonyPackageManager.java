@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.colony.managers;
 
 import com.minecolonies.api.colony.permissions.Rank;
+import com.minecolonies.api.util.MathUtils;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
@@ -36,6 +37,18 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private static final int CHANCE_TO_UPDATE = 1000;
 
+    /**
+     * Extra distance around the subscriber range in which players are watched, larger than the diagonal of a chunk so
+     * that nobody can reach the range without crossing a chunk border first.
+     */
+    private static final double WATCH_MARGIN = 32D;
+
+    /**
+     * Square distance to the colony center in which players are watched every tick.
+     */
+    private static final double MAX_SQ_DIST_WATCHED =
+      MathUtils.square(Math.sqrt(Math.max(MAX_SQ_DIST_SUBSCRIBER_UPDATE, MAX_SQ_DIST_OLD_SUBSCRIBER_UPDATE)) + WATCH_MARGIN);
+
     /**
      * List of players subscribing to the colony already known for a long time.
      */
@@ -48,6 +61,29 @@ public class ColonyPackageManager implements IColonyPackageManager
     @NotNull
     private Set<EntityPlayerMP> subscribers   = new HashSet<>();
 
+    /**
+     * Players which are subscribed because they are close to the colony.
+     */
+    @NotNull
+    private final Set<EntityPlayerMP> rangeSubscribers = new HashSet<>();
+
+    /**
+     * Players close enough to the colony to be watched every tick.
+     */
+    @NotNull
+    private final Set<EntityPlayerMP> watchedPlayers = new HashSet<>();
+
+    /**
+     * Players added from outside, subscribed until the next update of the subscribers.
+     */
+    @NotNull
+    private final Set<EntityPlayerMP> addedSubscribers = new HashSet<>();
+
+    /**
+     * Whether the subscribers have to be looked up again.
+     */
+    private boolean subscribersDirty = true;
+
     /**
      * Variables taking care of updating the views.
      */
@@ -107,13 +143,57 @@ public class ColonyPackageManager implements IColonyPackageManager
             return;
         }
 
+        if (colony.getPermissions().isDirty() || hasWatchedPlayerMoved())
+        {
+            subscribersDirty = true;
+        }
+
+        final boolean lookUp = subscribersDirty;
+        boolean hasNewSubscribers = false;
+        if (lookUp)
+        {
+            lookUpSubscribers(world);
+            hasNewSubscribers = ColonyUtils.hasNewSubscribers(oldSubscribers, subscribers);
+        }
+
+        if (subscribers.isEmpty())
+        {
+            addTicksWithoutContact(1);
+        }
+        else if (lastContactInHours != 0)
+        {
+            lastContactInHours = 0;
+            ticksPassed = 0;
+            colony.markDirty();
+        }
+
+        updateColonyViews(hasNewSubscribers);
+        if (lookUp)
+        {
+            oldSubscribers = new HashSet<>(subscribers);
+        }
+    }
+
+    /**
+     * Look up all subscribers: the players the permissions subscribe and the players close to the colony.
+     *
+     * @param world the world of the colony.
+     */
+    private void lookUpSubscribers(@NotNull final World world)
+    {
+        subscribersDirty = !addedSubscribers.isEmpty();
+        final Set<EntityPlayerMP> newSubscribers = new HashSet<>(addedSubscribers);
+        addedSubscribers.clear();
+
         // Add owners
         world.getMinecraftServer().getPlayerList().getPlayers()
                 .stream()
                 .filter(colony.getPermissions()::isSubscriber)
-                .forEach(subscribers::add);
+                .forEach(newSubscribers::add);
 
         //  Add nearby players
+        rangeSubscribers.clear();
+        watchedPlayers.clear();
         for (final EntityPlayer o : world.playerEntities)
         {
             if (o instanceof EntityPlayerMP)
@@ -122,41 +202,93 @@ public class ColonyPackageManager implements IColonyPackageManager
 
                 if (player.connection.networkTickCount < 5)
                 {
+                    // Look again until the player is ready to receive packets.
+                    subscribersDirty = true;
                     continue;
                 }
 
                 final double distance = player.getDistanceSq(colony.getCenter());
-                if (distance < MAX_SQ_DIST_SUBSCRIBER_UPDATE
-                        || (oldSubscribers.contains(player) && distance < MAX_SQ_DIST_OLD_SUBSCRIBER_UPDATE))
+                if (isInSubscriberRange(distance, subscribers.contains(player)))
                 {
                     // Players become subscribers if they come within 16 blocks of the edge of the colony
                     // Players remain subscribers while they remain within double the colony's radius
-                    subscribers.add(player);
+                    newSubscribers.add(player);
+                    rangeSubscribers.add(player);
+                }
+
+                if (distance < MAX_SQ_DIST_WATCHED)
+                {
+                    watchedPlayers.add(player);
                 }
             }
         }
+        subscribers = newSubscribers;
+    }
 
-        if (subscribers.isEmpty())
+    /**
+     * Check if a watched player entered or left the subscriber range.
+     *
+     * @return true if so.
+     */
+    private boolean hasWatchedPlayerMoved()
+    {
+        for (final EntityPlayerMP player : watchedPlayers)
         {
-            if (ticksPassed >= TICKS_HOUR)
+            final boolean rangeSubscriber = rangeSubscribers.contains(player);
+            if (player.isDead || player.world != colony.getWorld()
+                  || isInSubscriberRange(player.getDistanceSq(colony.getCenter()), subscribers.contains(player)) != rangeSubscriber)
             {
-                ticksPassed = 0;
-                lastContactInHours++;
-                colony.markDirty();
+                return true;
             }
-            ticksPassed++;
         }
-        else if (lastContactInHours != 0)
+        return false;
+    }
+
+    /**
+     * Check if a player is close enough to the colony to be a subscriber.
+     *
+     * @param distance   the square distance of the player to the colony center.
+     * @param subscriber whether the player is a subscriber already.
+     * @return true if so.
+     */
+    private static boolean isInSubscriberRange(final double distance, final boolean subscriber)
+    {
+        return distance < MAX_SQ_DIST_SUBSCRIBER_UPDATE || (subscriber && distance < MAX_SQ_DIST_OLD_SUBSCRIBER_UPDATE);
+    }
+
+    @Override
+    public void markSubscribersDirty()
+    {
+        subscribersDirty = true;
+    }
+
+    @Override
+    public void onPlayerEnteredChunk(@NotNull final EntityPlayerMP player)
+    {
+        if (!watchedPlayers.contains(player) && player.world == colony.getWorld() && player.getDistanceSq(colony.getCenter()) < MAX_SQ_DIST_WATCHED)
         {
-            lastContactInHours = 0;
-            ticksPassed = 0;
-            colony.markDirty();
+            subscribersDirty = true;
         }
+    }
 
-        final boolean hasNewSubscribers = ColonyUtils.hasNewSubscribers(oldSubscribers, subscribers);
-        updateColonyViews(hasNewSubscribers);
+    @Override
+    public boolean hasPendingSubscriberChanges()
+    {
+        return subscribersDirty || !watchedPlayers.isEmpty() || colony.getPermissions().isDirty();
     }
 
+    @Override
+    public void addTicksWithoutContact(final long ticks)
+    {
+        final long totalTicks = ticksPassed + ticks;
+        final long hours = totalTicks / TICKS_HOUR;
+        ticksPassed = (int) (totalTicks % TICKS_HOUR);
+        if (hours > 0)
+        {
+            lastContactInHours = (int) Math.min(Integer.MAX_VALUE, lastContactInHours + hours);
+            colony.markDirty();
+        }
+    }
 
     /**
      * Update the subscribers of the colony.
@@ -197,8 +329,6 @@ public class ColonyPackageManager implements IColonyPackageManager
         colony.getPermissions().clearDirty();
         colony.getBuildingManager().clearDirty();
         colony.getCitizenManager().clearDirty();
-        oldSubscribers = new HashSet<>(subscribers);
-        subscribers = new HashSet<>();
     }
 
     @Override
@@ -277,6 +407,8 @@ public class ColonyPackageManager implements IColonyPackageManager
         if(!subscribers.contains(subscriber))
         {
             subscribers.add(subscriber);
+            addedSubscribers.add(subscriber);
+            subscribersDirty = true;
         }
     }
 
@@ -285,7 +417,8 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         if(!colony.getMessageEntityPlayers().contains(player))
         {
-            subscribers.remove(player);
+            addedSubscribers.remove(player);
+            subscribersDirty = true;
         }
     }
 }
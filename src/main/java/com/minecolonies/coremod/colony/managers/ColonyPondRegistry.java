@@ -0,0 +1,364 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.Pond;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The bodies of water the fishermen of a colony fish at.
+ * <p>
+ * When a fisherman settles on a water block the surface of its body of water is flood filled once, and the edge blocks
+ * which pass {@link Pond#createWater} become the fishing spots of the body. Each fisherman gets a spot assigned which
+ * isn't close to the spots of the other fishermen. Block changes in or right above a body drop it, and it is flood
+ * filled again the next time a fisherman settles there. Nothing is saved, the bodies are found again after a restart and
+ * the fishermen, which don't save their current spot either, get new spots assigned.
+ * All methods are meant to be called from the server thread.
+ */
+public class ColonyPondRegistry
+{
+    /**
+     * Maximum amount of surface blocks flood filled per body, larger lakes are cut off.
+     */
+    private static final int MAX_BODY_SIZE = 2048;
+
+    /**
+     * Minimum square distance between the spots of two fishermen.
+     */
+    private static final int MIN_SPOT_DISTANCE_SQ = 16;
+
+    /**
+     * Shift from block to chunk coordinates.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * The known bodies by the surface blocks they consist of.
+     */
+    private final Map<Long, WaterBody> bodyByBlock = new HashMap<>();
+
+    /**
+     * The spot each fisherman got assigned, by citizen id.
+     */
+    private final Map<Integer, BlockPos> assignedSpots = new HashMap<>();
+
+    /**
+     * Assign a fishing spot at the body of water of a found water block to a fisherman.
+     * Any earlier spot of the fisherman is released.
+     *
+     * @param world     the world.
+     * @param citizenId the id of the fisherman.
+     * @param water     the found water block.
+     * @return the free spot of the body closest to the found block, or the block itself if the body has no free spot.
+     */
+    @NotNull
+    public BlockPos assignSpot(@NotNull final World world, final int citizenId, @NotNull final BlockPos water)
+    {
+        assignedSpots.remove(citizenId);
+
+        WaterBody body = bodyByBlock.get(water.toLong());
+        if (body == null)
+        {
+            body = floodFill(world, water);
+        }
+
+        BlockPos best = null;
+        double bestDistance = Double.MAX_VALUE;
+        if (body != null)
+        {
+            for (final BlockPos spot : body.spots)
+            {
+                final double distance = spot.distanceSq(water);
+                if (distance < bestDistance && isFree(spot))
+                {
+                    best = spot;
+                    bestDistance = distance;
+                }
+            }
+        }
+
+        final BlockPos spot = best == null ? water : best;
+        assignedSpots.put(citizenId, spot);
+        return spot;
+    }
+
+    /**
+     * Release the spot of a fisherman.
+     *
+     * @param citizenId the id of the fisherman.
+     */
+    public void releaseSpot(final int citizenId)
+    {
+        assignedSpots.remove(citizenId);
+    }
+
+    /**
+     * Remove a spot fishing failed at and release it.
+     *
+     * @param citizenId the id of the fisherman.
+     * @param spot      the spot.
+     */
+    public void removeSpot(final int citizenId, @Nullable final BlockPos spot)
+    {
+        assignedSpots.remove(citizenId);
+        if (spot != null)
+        {
+            final WaterBody body = bodyByBlock.get(spot.toLong());
+            if (body != null)
+            {
+                body.spots.remove(spot);
+            }
+        }
+    }
+
+    /**
+     * Get the body of water a surface block belongs to.
+     *
+     * @param pos the position.
+     * @return the body or null if unknown.
+     */
+    @Nullable
+    public WaterBody getBody(@NotNull final BlockPos pos)
+    {
+        return bodyByBlock.get(pos.toLong());
+    }
+
+    /**
+     * Check if a changed block can affect a known body.
+     *
+     * @param pos the changed position.
+     * @return true if so.
+     */
+    private boolean isNearBody(@NotNull final BlockPos pos)
+    {
+        if (bodyByBlock.isEmpty())
+        {
+            return false;
+        }
+
+        if (bodyByBlock.containsKey(pos.toLong()) || bodyByBlock.containsKey(pos.down().toLong()))
+        {
+            return true;
+        }
+
+        for (final EnumFacing facing : EnumFacing.HORIZONTALS)
+        {
+            if (bodyByBlock.containsKey(pos.offset(facing).toLong()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drop the bodies a changed block can affect: the block itself, the one below it and its horizontal neighbours.
+     *
+     * @param pos the changed position.
+     */
+    public void onBlockChanged(@NotNull final BlockPos pos)
+    {
+        if (!isNearBody(pos))
+        {
+            return;
+        }
+
+        removeBody(bodyByBlock.get(pos.toLong()));
+        removeBody(bodyByBlock.get(pos.down().toLong()));
+        for (final EnumFacing facing : EnumFacing.HORIZONTALS)
+        {
+            removeBody(bodyByBlock.get(pos.offset(facing).toLong()));
+        }
+    }
+
+    /**
+     * Forget a body.
+     *
+     * @param body the body, may be null.
+     */
+    private void removeBody(@Nullable final WaterBody body)
+    {
+        if (body == null)
+        {
+            return;
+        }
+
+        for (final long block : body.blocks)
+        {
+            bodyByBlock.remove(block);
+        }
+    }
+
+    /**
+     * Check if no fisherman has a spot close to a spot.
+     *
+     * @param spot the spot.
+     * @return true if so.
+     */
+    private boolean isFree(@NotNull final BlockPos spot)
+    {
+        for (final BlockPos assigned : assignedSpots.values())
+        {
+            if (assigned.distanceSq(spot) < MIN_SPOT_DISTANCE_SQ)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Flood fill the surface of the body of water a block belongs to, only loaded chunks are read.
+     *
+     * @param world the world.
+     * @param start the water block.
+     * @return the new body or null if the block isn't surface water.
+     */
+    @Nullable
+    private WaterBody floodFill(@NotNull final World world, @NotNull final BlockPos start)
+    {
+        final BlockPos.MutableBlockPos probe = new BlockPos.MutableBlockPos();
+        final BlockPos.MutableBlockPos neighbour = new BlockPos.MutableBlockPos();
+        final int y = start.getY();
+        if (!isSurfaceWater(world, probe, start.getX(), y, start.getZ()))
+        {
+            return null;
+        }
+
+        final Set<Long> blocks = new HashSet<>();
+        final List<BlockPos> edges = new ArrayList<>();
+        final Deque<BlockPos> open = new ArrayDeque<>();
+        blocks.add(start.toLong());
+        open.add(start.toImmutable());
+
+        while (!open.isEmpty())
+        {
+            final BlockPos pos = open.poll();
+            boolean edge = false;
+            for (final EnumFacing facing : EnumFacing.HORIZONTALS)
+            {
+                final int x = pos.getX() + facing.getXOffset();
+                final int z = pos.getZ() + facing.getZOffset();
+                final long key = neighbour.setPos(x, y, z).toLong();
+                if (blocks.contains(key))
+                {
+                    continue;
+                }
+
+                if (isSurfaceWater(world, probe, x, y, z))
+                {
+                    if (blocks.size() < MAX_BODY_SIZE)
+                    {
+                        blocks.add(key);
+                        open.add(neighbour.toImmutable());
+                    }
+                }
+                else
+                {
+                    edge = true;
+                }
+            }
+
+            if (edge)
+            {
+                edges.add(pos);
+            }
+        }
+
+        final WaterBody body = new WaterBody(blocks);
+        for (final BlockPos edge : edges)
+        {
+            if (Pond.createWater(world, edge) != null)
+            {
+                body.spots.add(edge);
+            }
+        }
+
+        for (final long block : blocks)
+        {
+            bodyByBlock.put(block, body);
+        }
+        return body;
+    }
+
+    /**
+     * Check if a block is still water with air above, reading the chunk section directly.
+     *
+     * @param world the world.
+     * @param probe reused position for the air check.
+     * @param x     the x coordinate.
+     * @param y     the y coordinate.
+     * @param z     the z coordinate.
+     * @return true if so, false as well if the chunk isn't loaded.
+     */
+    private static boolean isSurfaceWater(@NotNull final World world, @NotNull final BlockPos.MutableBlockPos probe, final int x, final int y, final int z)
+    {
+        final Chunk chunk = world.getChunkProvider().getLoadedChunk(x >> CHUNK_SHIFT, z >> CHUNK_SHIFT);
+        if (chunk == null)
+        {
+            return false;
+        }
+
+        final IBlockState state = chunk.getBlockState(x, y, z);
+        if (state.getBlock() != Blocks.WATER)
+        {
+            return false;
+        }
+        final IBlockState above = chunk.getBlockState(x, y + 1, z);
+        return above.getBlock().isAir(above, world, probe.setPos(x, y + 1, z));
+    }
+
+    /**
+     * The surface of one body of water.
+     */
+    public static final class WaterBody
+    {
+        /**
+         * The surface blocks.
+         */
+        private final Set<Long> blocks;
+
+        /**
+         * The edge blocks fishing is possible at.
+         */
+        private final List<BlockPos> spots = new ArrayList<>();
+
+        /**
+         * Create a body.
+         *
+         * @param blocks the surface blocks.
+         */
+        private WaterBody(@NotNull final Set<Long> blocks)
+        {
+            this.blocks = blocks;
+        }
+
+        /**
+         * Get the amount of surface blocks.
+         *
+         * @return the size.
+         */
+        public int getSize()
+        {
+            return blocks.size();
+        }
+
+        /**
+         * Get the edge blocks fishing is possible at.
+         *
+         * @return the spots.
+         */
+        @NotNull
+        public List<BlockPos> getSpots()
+        {
+            return Collections.unmodifiableList(spots);
+        }
+    }
+}
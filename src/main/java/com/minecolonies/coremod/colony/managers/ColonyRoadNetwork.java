@@ -0,0 +1,309 @@
+package com.minecolonies.coremod.colony.managers;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Graph over the waypoints and building locations of a colony.
+ * <p>
+ * Nodes closer than {@link #LINK_RANGE} to each other are connected. An edge starts with the straight distance as cost
+ * and takes the length of the real path once a citizen walked it. Long trips are answered by a graph search over these
+ * costs, and the node sequences found are cached until the graph changes.
+ */
+public class ColonyRoadNetwork
+{
+    /**
+     * Max distance between two connected nodes.
+     */
+    private static final int LINK_RANGE = 32;
+
+    /**
+     * Squared max distance between two connected nodes.
+     */
+    private static final double LINK_RANGE_SQ = LINK_RANGE * LINK_RANGE;
+
+    /**
+     * Shift for the size of a cell of the node grid, same as the link range.
+     */
+    private static final int CELL_SHIFT = 5;
+
+    /**
+     * Amount of node to node routes which are kept.
+     */
+    private static final int MAX_CACHED_ROUTES = 256;
+
+    /**
+     * Relative change of an edge cost below which a measured path length is not worth invalidating the routes.
+     */
+    private static final double COST_TOLERANCE = 0.25D;
+
+    /**
+     * The nodes with the amount of sources, a building location can also be a waypoint.
+     */
+    private final Map<BlockPos, Integer> nodes = new HashMap<>();
+
+    /**
+     * The nodes by grid cell.
+     */
+    private final Map<Long, List<BlockPos>> cells = new HashMap<>();
+
+    /**
+     * The cost of the edges, both directions are stored.
+     */
+    private final Map<BlockPos, Map<BlockPos, Double>> edges = new HashMap<>();
+
+    /**
+     * Cached node sequences between two nodes, least recently used are dropped first.
+     */
+    private final Map<Map.Entry<BlockPos, BlockPos>, List<BlockPos>> routes = new LinkedHashMap<Map.Entry<BlockPos, BlockPos>, List<BlockPos>>(16, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Map.Entry<BlockPos, BlockPos>, List<BlockPos>> eldest)
+        {
+            return size() > MAX_CACHED_ROUTES;
+        }
+    };
+
+    /**
+     * Add a node and connect it to all nodes in range.
+     *
+     * @param pos the position of the node.
+     */
+    public void addNode(@NotNull final BlockPos pos)
+    {
+        final int sources = nodes.getOrDefault(pos, 0);
+        nodes.put(pos, sources + 1);
+        if (sources > 0)
+        {
+            return;
+        }
+
+        final Map<BlockPos, Double> links = new HashMap<>();
+        for (final BlockPos other : getNodesInRange(pos))
+        {
+            final double cost = Math.sqrt(pos.distanceSq(other));
+            links.put(other, cost);
+            edges.get(other).put(pos, cost);
+        }
+        edges.put(pos, links);
+        cells.computeIfAbsent(getCell(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT), key -> new ArrayList<>()).add(pos);
+        routes.clear();
+    }
+
+    /**
+     * Remove a node once all of its sources are gone.
+     *
+     * @param pos the position of the node.
+     */
+    public void removeNode(@NotNull final BlockPos pos)
+    {
+        final Integer sources = nodes.get(pos);
+        if (sources == null)
+        {
+            return;
+        }
+        if (sources > 1)
+        {
+            nodes.put(pos, sources - 1);
+            return;
+        }
+
+        nodes.remove(pos);
+        final Map<BlockPos, Double> links = edges.remove(pos);
+        if (links != null)
+        {
+            for (final BlockPos other : links.keySet())
+            {
+                edges.get(other).remove(pos);
+            }
+        }
+
+        final long cell = getCell(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT);
+        final List<BlockPos> cellNodes = cells.get(cell);
+        if (cellNodes != null)
+        {
+            cellNodes.remove(pos);
+            if (cellNodes.isEmpty())
+            {
+                cells.remove(cell);
+            }
+        }
+        routes.clear();
+    }
+
+    /**
+     * Store the length of a path walked between two connected nodes as the cost of their edge.
+     *
+     * @param from       the start node.
+     * @param to         the end node.
+     * @param pathLength the amount of points of the path.
+     */
+    public void reportSegmentCost(@NotNull final BlockPos from, @NotNull final BlockPos to, final int pathLength)
+    {
+        final Map<BlockPos, Double> links = edges.get(from);
+        if (links == null || pathLength <= 0)
+        {
+            return;
+        }
+
+        final Double cost = links.get(to);
+        if (cost == null)
+        {
+            return;
+        }
+
+        final double measured = Math.max(pathLength, Math.sqrt(from.distanceSq(to)));
+        links.put(to, measured);
+        edges.get(to).put(from, measured);
+        if (Math.abs(measured - cost) > cost * COST_TOLERANCE)
+        {
+            routes.clear();
+        }
+    }
+
+    /**
+     * Find the nodes to walk along from a position to a target.
+     *
+     * @param start  the start position.
+     * @param target the target position.
+     * @return the nodes in walking order, empty if the network doesn't help on this trip.
+     */
+    @NotNull
+    public List<BlockPos> findRoute(@NotNull final BlockPos start, @NotNull final BlockPos target)
+    {
+        final BlockPos entry = getEntryNode(start, target);
+        final BlockPos exit = getEntryNode(target, start);
+        if (entry == null || exit == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final Map.Entry<BlockPos, BlockPos> key = new AbstractMap.SimpleImmutableEntry<>(entry, exit);
+        List<BlockPos> route = routes.get(key);
+        if (route == null)
+        {
+            route = search(entry, exit);
+            routes.put(key, route);
+        }
+        return new ArrayList<>(route);
+    }
+
+    /**
+     * Get the node in link range of a position which leads best towards a target.
+     *
+     * @param pos    the position.
+     * @param target the target.
+     * @return the node or null if none is in range.
+     */
+    @Nullable
+    private BlockPos getEntryNode(@NotNull final BlockPos pos, @NotNull final BlockPos target)
+    {
+        BlockPos best = null;
+        double bestWeight = Double.MAX_VALUE;
+        for (final BlockPos node : getNodesInRange(pos))
+        {
+            final double weight = Math.sqrt(pos.distanceSq(node)) + Math.sqrt(node.distanceSq(target));
+            if (weight < bestWeight)
+            {
+                best = node;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * A* search over the edge costs.
+     *
+     * @param entry the first node.
+     * @param exit  the last node.
+     * @return the nodes from entry to exit, or an empty list if they are not connected.
+     */
+    @NotNull
+    private List<BlockPos> search(@NotNull final BlockPos entry, @NotNull final BlockPos exit)
+    {
+        final Map<BlockPos, Double> costs = new HashMap<>();
+        final Map<BlockPos, BlockPos> previous = new HashMap<>();
+        final PriorityQueue<Map.Entry<BlockPos, Double>> open = new PriorityQueue<>(Comparator.comparingDouble(Map.Entry::getValue));
+
+        costs.put(entry, 0.0D);
+        open.add(new AbstractMap.SimpleImmutableEntry<>(entry, Math.sqrt(entry.distanceSq(exit))));
+        while (!open.isEmpty())
+        {
+            final BlockPos current = open.poll().getKey();
+            if (current.equals(exit))
+            {
+                final LinkedList<BlockPos> route = new LinkedList<>();
+                for (BlockPos node = exit; node != null; node = previous.get(node))
+                {
+                    route.addFirst(node);
+                }
+                return new ArrayList<>(route);
+            }
+
+            final double currentCost = costs.get(current);
+            for (final Map.Entry<BlockPos, Double> link : edges.get(current).entrySet())
+            {
+                final double cost = currentCost + link.getValue();
+                final Double known = costs.get(link.getKey());
+                if (known == null || cost < known)
+                {
+                    costs.put(link.getKey(), cost);
+                    previous.put(link.getKey(), current);
+                    open.add(new AbstractMap.SimpleImmutableEntry<>(link.getKey(), cost + Math.sqrt(link.getKey().distanceSq(exit))));
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get all nodes within link range of a position.
+     *
+     * @param pos the position.
+     * @return the nodes.
+     */
+    @NotNull
+    private List<BlockPos> getNodesInRange(@NotNull final BlockPos pos)
+    {
+        final List<BlockPos> result = new ArrayList<>();
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+        for (int x = cellX - 1; x <= cellX + 1; x++)
+        {
+            for (int z = cellZ - 1; z <= cellZ + 1; z++)
+            {
+                final List<BlockPos> cellNodes = cells.get(getCell(x, z));
+                if (cellNodes == null)
+                {
+                    continue;
+                }
+
+                for (final BlockPos node : cellNodes)
+                {
+                    if (!node.equals(pos) && node.distanceSq(pos) <= LINK_RANGE_SQ)
+                    {
+                        result.add(node);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the key of a grid cell.
+     *
+     * @param cellX the x coordinate of the cell.
+     * @param cellZ the z coordinate of the cell.
+     * @return the key.
+     */
+    private static long getCell(final int cellX, final int cellZ)
+    {
+        return ChunkPos.asLong(cellX, cellZ);
+    }
+}
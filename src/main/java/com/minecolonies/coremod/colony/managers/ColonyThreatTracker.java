@@ -0,0 +1,174 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Threat information of a colony which is shared by all of its guards.
+ * <p>
+ * Every guard of a colony searches for targets around its own position, and the areas of neighbouring guards overlap a
+ * lot. The tracker indexes the living entities of each chunk a guard looks at once per tick and answers the area
+ * queries of all guards from that index. Revenge targets of the citizens and line of sight checks are cached for the
+ * tick as well. Everything is dropped as soon as the world time moves on.
+ */
+public class ColonyThreatTracker
+{
+    /**
+     * Shift from block to chunk coordinates.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * The world time the cached data belongs to.
+     */
+    private long tick = -1;
+
+    /**
+     * The living entities by chunk of all chunks indexed this tick.
+     */
+    private final Map<Long, List<EntityLivingBase>> chunkEntities = new HashMap<>();
+
+    /**
+     * The revenge targets of the citizens, null if not collected yet this tick.
+     */
+    private List<EntityLivingBase> revengeTargets = null;
+
+    /**
+     * Line of sight results of this tick, keyed by the ids of viewer and target.
+     */
+    private final Map<Long, Boolean> sight = new HashMap<>();
+
+    /**
+     * Get the entities the citizens of the colony are currently fighting back against.
+     *
+     * @param world    the world of the colony.
+     * @param citizens the citizens of the colony.
+     * @return the revenge targets in citizen order.
+     */
+    @NotNull
+    public List<EntityLivingBase> getRevengeTargets(@NotNull final World world, @NotNull final Collection<CitizenData> citizens)
+    {
+        checkTick(world);
+        if (revengeTargets == null)
+        {
+            revengeTargets = new ArrayList<>();
+            for (final CitizenData citizen : citizens)
+            {
+                final Optional<EntityCitizen> entityCitizen = citizen.getCitizenEntity();
+                if (entityCitizen.isPresent() && entityCitizen.get().getRevengeTarget() != null)
+                {
+                    revengeTargets.add(entityCitizen.get().getRevengeTarget());
+                }
+            }
+        }
+        return revengeTargets;
+    }
+
+    /**
+     * Get all living entities which intersect with an area.
+     * Only loaded chunks are looked at, each of them is indexed at most once per tick.
+     *
+     * @param world the world of the colony.
+     * @param area  the area.
+     * @return the entities in the area.
+     */
+    @NotNull
+    public List<EntityLivingBase> getEntitiesInArea(@NotNull final World world, @NotNull final AxisAlignedBB area)
+    {
+        checkTick(world);
+        final int minX = MathHelper.floor(area.minX - World.MAX_ENTITY_RADIUS) >> CHUNK_SHIFT;
+        final int maxX = MathHelper.floor(area.maxX + World.MAX_ENTITY_RADIUS) >> CHUNK_SHIFT;
+        final int minZ = MathHelper.floor(area.minZ - World.MAX_ENTITY_RADIUS) >> CHUNK_SHIFT;
+        final int maxZ = MathHelper.floor(area.maxZ + World.MAX_ENTITY_RADIUS) >> CHUNK_SHIFT;
+
+        final List<EntityLivingBase> result = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (final EntityLivingBase entity : getChunkEntities(world, x, z))
+                {
+                    if (entity.getEntityBoundingBox().intersects(area))
+                    {
+                        result.add(entity);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check if an entity can see another one, the result is reused for the rest of the tick.
+     *
+     * @param viewer the looking entity.
+     * @param target the entity looked at.
+     * @return true if the target is in line of sight.
+     */
+    public boolean canSee(@NotNull final EntityLivingBase viewer, @NotNull final Entity target)
+    {
+        checkTick(viewer.world);
+        final long key = ((long) viewer.getEntityId() << Integer.SIZE) | (target.getEntityId() & 0xFFFFFFFFL);
+        return sight.computeIfAbsent(key, k -> viewer.canEntityBeSeen(target));
+    }
+
+    /**
+     * Get the indexed living entities of a chunk, indexing it first if needed.
+     *
+     * @param world  the world.
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return the entities, empty if the chunk isn't loaded.
+     */
+    @NotNull
+    private List<EntityLivingBase> getChunkEntities(@NotNull final World world, final int chunkX, final int chunkZ)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        List<EntityLivingBase> entities = chunkEntities.get(key);
+        if (entities == null)
+        {
+            entities = new ArrayList<>();
+            final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+            if (chunk != null)
+            {
+                for (final ClassInheritanceMultiMap<Entity> section : chunk.getEntityLists())
+                {
+                    for (final EntityLivingBase entity : section.getByClass(EntityLivingBase.class))
+                    {
+                        entities.add(entity);
+                    }
+                }
+            }
+            chunkEntities.put(key, entities);
+        }
+        return entities;
+    }
+
+    /**
+     * Drop the cached data once the world time moved on.
+     *
+     * @param world the world.
+     */
+    private void checkTick(@NotNull final World world)
+    {
+        final long worldTime = world.getTotalWorldTime();
+        if (worldTime != tick)
+        {
+            tick = worldTime;
+            chunkEntities.clear();
+            revengeTargets = null;
+            sight.clear();
+        }
+    }
+}
@@ -11,13 +11,15 @@ import com.minecolonies.coremod.colony.managers.interfaces.IRaiderManager;
 import com.minecolonies.coremod.entity.ai.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.coremod.util.InstantStructurePlacer;
 import com.ldtteam.structurize.management.StructureName;
-import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.Constants;
@@ -64,9 +66,29 @@ public class RaidManager implements IRaiderManager
     private final Colony colony;
 
     /**
-     * List of raiders registered to the colony.
+     * Shift from block to cell coordinates of the raider grid, one chunk per cell.
      */
-    private final List<UUID> horde = new ArrayList<>();
+    private static final int CELL_SHIFT = 4;
+
+    /**
+     * Raiders registered to the colony by their id.
+     */
+    private final Map<UUID, AbstractEntityMinecoloniesMob> horde = new LinkedHashMap<>();
+
+    /**
+     * The registered raiders by grid cell.
+     */
+    private final Map<Long, Set<AbstractEntityMinecoloniesMob>> raiderCells = new HashMap<>();
+
+    /**
+     * The grid cell each registered raider is stored in.
+     */
+    private final Map<UUID, Long> cellOfRaider = new HashMap<>();
+
+    /**
+     * The locations of the buildings raiders walk to, null if they have to be collected again.
+     */
+    private List<BlockPos> raidTargets = null;
 
     /**
      * Creates the RaidManager for a colony.
@@ -130,10 +152,12 @@ public class RaidManager implements IRaiderManager
             return center;
         }
 
-        final List<BlockPos> positions = colony.getWayPoints().keySet().stream().filter(
+        final int minX = directionX == EnumFacing.EAST ? center.getX() + 1 : Integer.MIN_VALUE;
+        final int maxX = directionX == EnumFacing.WEST ? center.getX() - 1 : Integer.MAX_VALUE;
+        final int minZ = directionZ == EnumFacing.SOUTH ? center.getZ() + 1 : Integer.MIN_VALUE;
+        final int maxZ = directionZ == EnumFacing.NORTH ? center.getZ() - 1 : Integer.MAX_VALUE;
+        final List<BlockPos> positions = colony.getBuildingManager().getWayPointsInArea(minX, minZ, maxX, maxZ).stream().filter(
                 pos -> isInDirection(directionX, directionZ, pos.subtract(center))).collect(Collectors.toList());
-        positions.addAll(colony.getBuildingManager().getBuildings().keySet().stream().filter(
-                pos -> isInDirection(directionX, directionZ, pos.subtract(center))).collect(Collectors.toList()));
 
         BlockPos thePos = center;
         double distance = 0;
@@ -190,22 +214,140 @@ public class RaidManager implements IRaiderManager
     @Override
     public void registerRaider(@NotNull final AbstractEntityMinecoloniesMob raider)
     {
-        this.horde.add(raider.getUniqueID());
+        removeFromGrid(raider.getUniqueID());
+        horde.put(raider.getUniqueID(), raider);
+        addToGrid(raider);
     }
 
     @Override
     public void unregisterRaider(@NotNull final AbstractEntityMinecoloniesMob raider, final WorldServer world)
     {
-        for(final UUID uuid : new ArrayList<>(horde))
+        if (horde.get(raider.getUniqueID()) == raider)
+        {
+            horde.remove(raider.getUniqueID());
+            removeFromGrid(raider.getUniqueID());
+            sendHordeMessage();
+        }
+    }
+
+    @Override
+    public void onRaiderRemoved(@NotNull final AbstractEntityMinecoloniesMob raider)
+    {
+        if (horde.get(raider.getUniqueID()) == raider)
+        {
+            horde.remove(raider.getUniqueID());
+            removeFromGrid(raider.getUniqueID());
+            sendHordeMessage();
+        }
+    }
+
+    @Override
+    public void onRaiderMoved(@NotNull final AbstractEntityMinecoloniesMob raider)
+    {
+        final Long cell = cellOfRaider.get(raider.getUniqueID());
+        if (cell != null && cell != getCell(raider) && horde.get(raider.getUniqueID()) == raider)
+        {
+            removeFromGrid(raider.getUniqueID());
+            addToGrid(raider);
+        }
+    }
+
+    @Override
+    public List<AbstractEntityMinecoloniesMob> getRaidersInArea(@NotNull final AxisAlignedBB area)
+    {
+        final List<AbstractEntityMinecoloniesMob> raiders = new ArrayList<>();
+        final int minX = MathHelper.floor(area.minX - World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+        final int maxX = MathHelper.floor(area.maxX + World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+        final int minZ = MathHelper.floor(area.minZ - World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+        final int maxZ = MathHelper.floor(area.maxZ + World.MAX_ENTITY_RADIUS) >> CELL_SHIFT;
+        for (int x = minX; x <= maxX; x++)
         {
-            final Entity raiderEntity = world.getEntityFromUuid(uuid);
-            if(raiderEntity == null || !raiderEntity.isEntityAlive() || uuid.equals(raider.getUniqueID()))
+            for (int z = minZ; z <= maxZ; z++)
             {
-                horde.remove(uuid);
+                final Set<AbstractEntityMinecoloniesMob> cellRaiders = raiderCells.get(ChunkPos.asLong(x, z));
+                if (cellRaiders == null)
+                {
+                    continue;
+                }
+
+                for (final AbstractEntityMinecoloniesMob raider : cellRaiders)
+                {
+                    if (raider.isEntityAlive() && raider.getEntityBoundingBox().intersects(area))
+                    {
+                        raiders.add(raider);
+                    }
+                }
             }
         }
+        return raiders;
+    }
 
-        sendHordeMessage();
+    @Override
+    public List<BlockPos> getRaidTargets()
+    {
+        if (raidTargets == null)
+        {
+            final List<BlockPos> targets = new ArrayList<>();
+            for (final AbstractBuilding building : colony.getBuildingManager().getBuildings().values())
+            {
+                targets.add(building.getLocation());
+            }
+            raidTargets = Collections.unmodifiableList(targets);
+        }
+        return raidTargets;
+    }
+
+    @Override
+    public void onBuildingsChanged()
+    {
+        raidTargets = null;
+    }
+
+    /**
+     * Store a registered raider in the cell of its current position.
+     *
+     * @param raider the raider.
+     */
+    private void addToGrid(@NotNull final AbstractEntityMinecoloniesMob raider)
+    {
+        final long cell = getCell(raider);
+        raiderCells.computeIfAbsent(cell, key -> new HashSet<>()).add(raider);
+        cellOfRaider.put(raider.getUniqueID(), cell);
+    }
+
+    /**
+     * Remove a raider from the grid.
+     *
+     * @param uuid the id of the raider.
+     */
+    private void removeFromGrid(@NotNull final UUID uuid)
+    {
+        final Long cell = cellOfRaider.remove(uuid);
+        if (cell == null)
+        {
+            return;
+        }
+
+        final Set<AbstractEntityMinecoloniesMob> cellRaiders = raiderCells.get(cell);
+        if (cellRaiders != null)
+        {
+            cellRaiders.removeIf(raider -> raider.getUniqueID().equals(uuid));
+            if (cellRaiders.isEmpty())
+            {
+                raiderCells.remove(cell);
+            }
+        }
+    }
+
+    /**
+     * Get the grid cell of the current position of a raider.
+     *
+     * @param raider the raider.
+     * @return the key of the cell.
+     */
+    private static long getCell(@NotNull final AbstractEntityMinecoloniesMob raider)
+    {
+        return ChunkPos.asLong(MathHelper.floor(raider.posX) >> CELL_SHIFT, MathHelper.floor(raider.posZ) >> CELL_SHIFT);
     }
 
     private void sendHordeMessage()
@@ -241,7 +383,10 @@ public class RaidManager implements IRaiderManager
                           entry.getKey(),
                           0,
                           Mirror.NONE,
-                          true);
+                          true,
+                          () -> LanguageHandler.sendPlayersMessage(
+                            colony.getMessageEntityPlayers(),
+                            PIRATES_SAILING_OFF_MESSAGE, colony.getName()));
                     }
                     catch(final NullPointerException | ArrayIndexOutOfBoundsException e)
                     {
@@ -249,9 +394,6 @@ public class RaidManager implements IRaiderManager
                     }
 
                     schematicMap.remove(entry.getKey());
-                    LanguageHandler.sendPlayersMessage(
-                      colony.getMessageEntityPlayers(),
-                      PIRATES_SAILING_OFF_MESSAGE, colony.getName());
                     return;
                 }
             }
@@ -274,20 +416,13 @@ public class RaidManager implements IRaiderManager
     @Override
     public List<AbstractEntityMinecoloniesMob> getHorde(final WorldServer world)
     {
-        final List<AbstractEntityMinecoloniesMob> raiders = new ArrayList<>();
-        for (final UUID uuid : new ArrayList<>(horde))
+        final List<AbstractEntityMinecoloniesMob> raiders = new ArrayList<>(horde.size());
+        for (final AbstractEntityMinecoloniesMob raider : horde.values())
         {
-            final Entity raider = world.getEntityFromUuid(uuid);
-            if (!(raider instanceof AbstractEntityMinecoloniesMob) || !raider.isEntityAlive())
-            {
-                horde.remove(uuid);
-                sendHordeMessage();
-            }
-            else
+            if (raider.isEntityAlive())
             {
-                raiders.add((AbstractEntityMinecoloniesMob) raider);
+                raiders.add(raider);
             }
-
         }
         return raiders;
     }
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.managers.interfaces;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingWareHouse;
+import com.minecolonies.coremod.colony.managers.ColonyRoadNetwork;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
@@ -166,6 +167,14 @@ public interface IBuildingManager
      */
     void removeField(final BlockPos pos);
 
+    /**
+     * Notify the fields covering a position that a block there changed.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    void onFieldBlockChanged(@NotNull final World world, @NotNull final BlockPos pos);
+
     /**
      * Calculate a good cook for a certain citizen.
      * @param citizen the citizen.
@@ -173,6 +182,69 @@ public interface IBuildingManager
      */
     BlockPos getBestRestaurant(final EntityCitizen citizen);
 
+    /**
+     * Get the building whose footprint contains a position, borders excluded.
+     * @param pos the position, only x and z are considered.
+     * @return the building or null if the position is not inside a building.
+     */
+    @Nullable
+    AbstractBuilding getBuildingAt(@NotNull final BlockPos pos);
+
+    /**
+     * Get all buildings whose footprint intersects a rectangle on the x/z plane.
+     * @param minX the min x coordinate (inclusive).
+     * @param minZ the min z coordinate (inclusive).
+     * @param maxX the max x coordinate (inclusive).
+     * @param maxZ the max z coordinate (inclusive).
+     * @return a new set of the buildings.
+     */
+    @NotNull
+    Set<AbstractBuilding> getBuildingsInArea(final int minX, final int minZ, final int maxX, final int maxZ);
+
+    /**
+     * Get the building whose location is closest to a position.
+     * @param pos the position.
+     * @return the building or null if the colony has none.
+     */
+    @Nullable
+    AbstractBuilding getClosestBuilding(@NotNull final BlockPos pos);
+
+    /**
+     * Get all waypoints and building locations inside a rectangle on the x/z plane.
+     * @param minX the min x coordinate (inclusive).
+     * @param minZ the min z coordinate (inclusive).
+     * @param maxX the max x coordinate (inclusive).
+     * @param maxZ the max z coordinate (inclusive).
+     * @return a new list of the positions.
+     */
+    @NotNull
+    List<BlockPos> getWayPointsInArea(final int minX, final int minZ, final int maxX, final int maxZ);
+
+    /**
+     * Called when the corners of a building changed, after an upgrade or a move.
+     * @param building the building.
+     */
+    void onBuildingFootprintChanged(@NotNull final AbstractBuilding building);
+
+    /**
+     * Called when a waypoint has been added to the colony.
+     * @param pos the waypoint.
+     */
+    void onWayPointAdded(@NotNull final BlockPos pos);
+
+    /**
+     * Called when a waypoint has been removed from the colony.
+     * @param pos the waypoint.
+     */
+    void onWayPointRemoved(@NotNull final BlockPos pos);
+
+    /**
+     * Get the graph over the waypoints and building locations used to route long trips.
+     * @return the road network.
+     */
+    @NotNull
+    ColonyRoadNetwork getRoadNetwork();
+
     /**
      * Set the townhall building.
      * @param building the building to set.
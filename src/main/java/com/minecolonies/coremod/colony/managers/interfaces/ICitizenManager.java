@@ -1,6 +1,9 @@
 package com.minecolonies.coremod.colony.managers.interfaces;
 
 import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHome;
+import com.minecolonies.coremod.colony.managers.ColonyAggregateStats;
+import com.minecolonies.coremod.colony.managers.ColonyHungerIndex;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
@@ -170,4 +173,53 @@ public interface ICitizenManager
      * @param mourn boolean to indicate if citizen should mourn or not
      */
     void updateCitizenMourn(final boolean mourn);
+
+    /**
+     * Inform the housing allocator that the home of a citizen changed.
+     *
+     * @param citizen the citizen.
+     */
+    void onCitizenHomeChanged(@NotNull final CitizenData citizen);
+
+    /**
+     * Inform the housing allocator that the level or the residents of a home changed.
+     *
+     * @param home the home.
+     */
+    void onHomeChanged(@NotNull final BuildingHome home);
+
+    /**
+     * Inform the housing allocator that a home has been destroyed.
+     *
+     * @param home the home.
+     */
+    void onHomeRemoved(@NotNull final BuildingHome home);
+
+    /**
+     * Have the housing allocator run again on the next tick, for example after manual housing has been turned off.
+     */
+    void markHousingDirty();
+
+    /**
+     * Inform the aggregate stats that a value of a citizen changed.
+     *
+     * @param citizen the citizen.
+     */
+    void onCitizenStatsChanged(@NotNull final CitizenData citizen);
+
+    /**
+     * Get the running sums over all citizens of the colony.
+     *
+     * @return the aggregate stats.
+     */
+    @NotNull
+    ColonyAggregateStats getAggregateStats();
+
+    /**
+     * Get the hungry citizens of the colony, queued by restaurant.
+     *
+     * @return the hunger index.
+     */
+    @NotNull
+    ColonyHungerIndex getHungerIndex();
 }
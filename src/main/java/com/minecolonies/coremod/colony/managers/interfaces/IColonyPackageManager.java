@@ -33,6 +33,29 @@ public interface IColonyPackageManager
      */
     void updateSubscribers();
 
+    /**
+     * Look up the subscribers again on the next update, after players joined, left or their permissions changed.
+     */
+    void markSubscribersDirty();
+
+    /**
+     * Called when a player crossed a chunk border, looks up the subscribers again if the player got close to the colony.
+     * @param player the player.
+     */
+    void onPlayerEnteredChunk(@NotNull final EntityPlayerMP player);
+
+    /**
+     * Check if the subscribers might change: they have to be looked up again or players are close enough to be watched.
+     * @return true if so.
+     */
+    boolean hasPendingSubscriberChanges();
+
+    /**
+     * Count ticks without any subscriber towards the last contact, used to catch up on the ticks a dormant colony skipped.
+     * @param ticks the amount of ticks.
+     */
+    void addTicksWithoutContact(final long ticks);
+
     /**
      * Update the colony view.
      * @param oldSubscribers the old subs.
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.managers.interfaces;
 import com.minecolonies.coremod.entity.ai.mobs.AbstractEntityMinecoloniesMob;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -91,6 +92,36 @@ public interface IRaiderManager
      */
     List<AbstractEntityMinecoloniesMob> getHorde(final WorldServer world);
 
+    /**
+     * Drop a raider which left the world without dying, for example because its chunk unloaded.
+     * @param raider the raider.
+     */
+    void onRaiderRemoved(@NotNull final AbstractEntityMinecoloniesMob raider);
+
+    /**
+     * Update the position of a registered raider in the spatial index.
+     * @param raider the raider.
+     */
+    void onRaiderMoved(@NotNull final AbstractEntityMinecoloniesMob raider);
+
+    /**
+     * Get the living raiders of the colony which intersect with an area.
+     * @param area the area.
+     * @return the raiders.
+     */
+    List<AbstractEntityMinecoloniesMob> getRaidersInArea(@NotNull final AxisAlignedBB area);
+
+    /**
+     * Get the locations of all buildings raiders of the colony can walk to.
+     * @return an unmodifiable list of the locations.
+     */
+    List<BlockPos> getRaidTargets();
+
+    /**
+     * Notify the manager that buildings got added to or removed from the colony.
+     */
+    void onBuildingsChanged();
+
     /**
      * Register a certain raider origin schematic to the colony..
      * @param ship the ship description.
@@ -217,6 +217,14 @@ public enum ActionMenuType implements IMenuType
             DoRaidTonightCommand.class,
             new ActionArgument("colony", ActionArgumentType.COLONY, ActionArgumentType.Is.REQUIRED)
             )),
+    COLONY_PROFILE(new ActionMenu(
+            "ColonyProfile",
+            "profile",
+            ForgePermissionNodes.COLONY_PROFILE,
+            ColonyProfileCommand.class,
+            new ActionArgument("colony", ActionArgumentType.COLONY, ActionArgumentType.Is.REQUIRED),
+            new ActionArgument("action", ActionArgumentType.STRING, ActionArgumentType.Is.OPTIONAL)
+            )),
     REQUEST_SYSTEM_RESET(new ActionMenu(
             "Request System Reset",
             "reset",
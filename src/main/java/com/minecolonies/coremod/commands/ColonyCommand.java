@@ -29,6 +29,7 @@ public class ColonyCommand extends AbstractSplitCommand
         .put(MakeNotAutoDeletableCommand.DESC, new MakeNotAutoDeletableCommand(MinecoloniesCommand.DESC, ColonyCommand.DESC, MakeNotAutoDeletableCommand.DESC))
         .put(DoRaidNowCommand.DESC, new DoRaidNowCommand(MinecoloniesCommand.DESC, ColonyCommand.DESC, DoRaidNowCommand.DESC))
         .put(DoRaidTonightCommand.DESC, new DoRaidTonightCommand(MinecoloniesCommand.DESC, ColonyCommand.DESC, DoRaidTonightCommand.DESC))
+        .put(ColonyProfileCommand.DESC, new ColonyProfileCommand(MinecoloniesCommand.DESC, ColonyCommand.DESC, ColonyProfileCommand.DESC))
         .put(RSCommand.DESC, new RSCommand(MinecoloniesCommand.DESC, ColonyCommand.DESC, RSCommand.DESC))
         .build();
 
@@ -29,6 +29,7 @@ public enum NavigationMenuType implements IMenuType
         ActionMenuType.MAKE_NOT_AUTO_DELETABLE,
         ActionMenuType.DO_RAID_NOW,
         ActionMenuType.DO_RAID_TONIGHT,
+        ActionMenuType.COLONY_PROFILE,
         ActionMenuType.CLAIM,
         ActionMenuType.LOAD_BACKUP
     )),
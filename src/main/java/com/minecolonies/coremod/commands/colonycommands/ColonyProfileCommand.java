@@ -0,0 +1,249 @@
+package com.minecolonies.coremod.commands.colonycommands;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.managers.ColonyAIProfiler;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.PathPriority;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.common.DimensionManager;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_AI_PROFILE;
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Command to profile the AI of the citizens of a colony.
+ */
+public class ColonyProfileCommand extends AbstractSingleCommand implements IActionCommand
+{
+    public static final  String DESC                            = "profile";
+    private static final String ACTION_START                    = "start";
+    private static final String ACTION_STOP                     = "stop";
+    private static final String ACTION_DUMP                     = "dump";
+    private static final String NO_ARGUMENTS                    = "Please define a colony";
+    private static final String NO_COLONY_WITH_ID_FOUND_MESSAGE = "Colony with ID %d not found.";
+    private static final String NO_COLONY_FOUND_MESSAGE         = "Colony not found.";
+    private static final String UNKNOWN_ACTION_MESSAGE          = "Unknown action %s, use start, stop or dump.";
+    private static final String COLONY_NOT_LOADED_MESSAGE       = "Colony %d isn't loaded, its world is missing.";
+    private static final String STARTED_MESSAGE                 = "Started profiling the AI of colony %d.";
+    private static final String STOPPED_MESSAGE                 = "Stopped profiling the AI of colony %d.";
+    private static final String DUMP_HEADER_MESSAGE             = "AI profile of colony %d over %d ticks%s:";
+    private static final String NO_DATA_MESSAGE                 = "Nothing recorded yet, start profiling first.";
+    private static final String CSV_WRITTEN_MESSAGE             = "Full profile written to %s";
+    private static final String CSV_FAILED_MESSAGE              = "Couldn't write the profile file, check the log.";
+    private static final String PATH_CACHE_MESSAGE              = "Path cache: %d paths, %d hits, %d misses, %d invalidated.";
+    private static final String PATH_QUEUE_MESSAGE              = "Path queue (all worlds): %d waiting.";
+    private static final String PATH_PRIORITY_MESSAGE           = "  %s: %d started, %.1f ms average wait, %d cancelled, %d expired.";
+    private static final int    TOP_ENTRIES                     = 10;
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public ColonyProfileCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public ColonyProfileCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @NotNull
+    @Override
+    public String getCommandUsage(@NotNull final ICommandSender sender)
+    {
+        return super.getCommandUsage(sender) + "<ColonyId> [start|stop|dump]";
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        final Colony colony = actionMenuState.getColonyForArgument("colony");
+        if (colony == null)
+        {
+            sender.sendMessage(new TextComponentString(NO_COLONY_FOUND_MESSAGE));
+            return;
+        }
+
+        final String action = actionMenuState.getStringForArgument("action");
+        executeShared(sender, colony, action == null ? ACTION_DUMP : action);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        if (args.length == 0)
+        {
+            sender.sendMessage(new TextComponentString(NO_ARGUMENTS));
+            return;
+        }
+
+        final int colonyId = getIthArgument(args, 0, -1);
+        final Colony colony = ColonyManager.getColonyByWorld(colonyId, server.getWorld(0));
+        if (colony == null)
+        {
+            sender.sendMessage(new TextComponentString(String.format(NO_COLONY_WITH_ID_FOUND_MESSAGE, colonyId)));
+            return;
+        }
+
+        executeShared(sender, colony, args.length > 1 ? args[1] : ACTION_DUMP);
+    }
+
+    private void executeShared(@NotNull final ICommandSender sender, @NotNull final Colony colony, @NotNull final String action)
+    {
+        if (sender instanceof EntityPlayer && !isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString("Must be OP to use this command"));
+            return;
+        }
+
+        final ColonyAIProfiler profiler = colony.getAIProfiler();
+        switch (action)
+        {
+            case ACTION_START:
+                if (colony.getWorld() == null)
+                {
+                    sender.sendMessage(new TextComponentString(String.format(COLONY_NOT_LOADED_MESSAGE, colony.getID())));
+                    return;
+                }
+                profiler.start(colony.getWorld().getTotalWorldTime());
+                sender.sendMessage(new TextComponentString(String.format(STARTED_MESSAGE, colony.getID())));
+                break;
+            case ACTION_STOP:
+                profiler.stop();
+                sender.sendMessage(new TextComponentString(String.format(STOPPED_MESSAGE, colony.getID())));
+                break;
+            case ACTION_DUMP:
+                dump(sender, colony, profiler);
+                dumpPathfinding(sender, colony);
+                break;
+            default:
+                sender.sendMessage(new TextComponentString(String.format(UNKNOWN_ACTION_MESSAGE, action)));
+                break;
+        }
+    }
+
+    /**
+     * Print the most expensive entries of a profile and write all of them to a CSV file.
+     *
+     * @param sender   the sender of the command.
+     * @param colony   the profiled colony.
+     * @param profiler the profiler of the colony.
+     */
+    private static void dump(@NotNull final ICommandSender sender, @NotNull final Colony colony, @NotNull final ColonyAIProfiler profiler)
+    {
+        final List<ColonyAIProfiler.Entry> entries = profiler.getEntries();
+        if (entries.isEmpty())
+        {
+            sender.sendMessage(new TextComponentString(NO_DATA_MESSAGE));
+            return;
+        }
+
+        if (colony.getWorld() == null)
+        {
+            sender.sendMessage(new TextComponentString(String.format(COLONY_NOT_LOADED_MESSAGE, colony.getID())));
+            return;
+        }
+
+        sender.sendMessage(new TextComponentString(String.format(DUMP_HEADER_MESSAGE,
+          colony.getID(),
+          colony.getWorld().getTotalWorldTime() - profiler.getStartTime(),
+          profiler.isEnabled() ? " so far" : "")));
+        for (final ColonyAIProfiler.Entry entry : entries.subList(0, Math.min(TOP_ENTRIES, entries.size())))
+        {
+            sender.sendMessage(new TextComponentString(entry.toString()));
+        }
+
+        final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        final File file = new File(saveDir, String.format(FILENAME_AI_PROFILE, colony.getID(), new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date())));
+        try
+        {
+            profiler.writeCsv(file);
+            sender.sendMessage(new TextComponentString(String.format(CSV_WRITTEN_MESSAGE, file.getPath())));
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to write the AI profile of colony " + colony.getID(), e);
+            sender.sendMessage(new TextComponentString(CSV_FAILED_MESSAGE));
+        }
+    }
+
+    /**
+     * Print the statistics of the path job queue, and of the path cache of the world of a colony.
+     *
+     * @param sender the sender of the command.
+     * @param colony the profiled colony.
+     */
+    private static void dumpPathfinding(@NotNull final ICommandSender sender, @NotNull final Colony colony)
+    {
+        sender.sendMessage(new TextComponentString(String.format(PATH_QUEUE_MESSAGE, Pathfinding.getQueueDepth())));
+        for (final PathPriority priority : PathPriority.values())
+        {
+            sender.sendMessage(new TextComponentString(String.format(PATH_PRIORITY_MESSAGE,
+              priority,
+              Pathfinding.getStartedJobs(priority),
+              Pathfinding.getAverageWaitMillis(priority),
+              Pathfinding.getCoalescedJobs(priority),
+              Pathfinding.getExpiredJobs(priority))));
+        }
+
+        if (colony.getWorld() == null)
+        {
+            return;
+        }
+
+        final PathCache cache = PathCache.forWorld(colony.getWorld());
+        if (cache != null)
+        {
+            sender.sendMessage(new TextComponentString(String.format(PATH_CACHE_MESSAGE, cache.size(), cache.getHits(), cache.getMisses(), cache.getInvalidations())));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        if (args.length == 2)
+        {
+            return Arrays.asList(ACTION_START, ACTION_STOP, ACTION_DUMP).stream().filter(action -> action.startsWith(args[1])).collect(Collectors.toList());
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
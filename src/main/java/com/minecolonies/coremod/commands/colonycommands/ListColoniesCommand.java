@@ -39,6 +39,7 @@ public class ListColoniesCommand extends AbstractSingleCommand implements IActio
     private static final String PAGE_LINE           = "§2 ----------------";
     private static final String PAGE_LINE_DIVIDER   = "§2 | ";
     private static final String COMMAND_COLONY_INFO = "/mc colony info colony: %d";
+    private static final String ACTIVE_DORMANT_TEXT = "§2Active: §f%d §2Dormant: §f%d";
     private static final int    COLONIES_ON_PAGE    = 9;
 
     /**
@@ -146,6 +147,9 @@ public class ListColoniesCommand extends AbstractSingleCommand implements IActio
         final ITextComponent headerLine = new TextComponentString(PAGE_TOP_LEFT + page + PAGE_TOP_MIDDLE + pageCount + PAGE_TOP_RIGHT);
         sender.sendMessage(headerLine);
 
+        final int dormantCount = ColonyManager.getDormantColonyCount();
+        sender.sendMessage(new TextComponentString(String.format(ACTIVE_DORMANT_TEXT, ColonyManager.getAllColonies().size() - dormantCount, dormantCount)));
+
         for (final Colony colony : coloniesPage)
         {
             sender.sendMessage(new TextComponentString(String.format(
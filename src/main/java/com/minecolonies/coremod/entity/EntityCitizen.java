@@ -623,7 +623,6 @@ public class EntityCitizen extends AbstractEntityCitizen
                 }
 
                 this.setAlwaysRenderNameTag(Configurations.gameplay.alwaysRenderNameTag);
-                citizenItemHandler.pickupItems();
                 citizenChatHandler.cleanupChatMessages();
                 citizenColonyHandler.updateColonyServer();
 
@@ -665,7 +664,6 @@ public class EntityCitizen extends AbstractEntityCitizen
             moveAwayPath = getNavigator().moveAwayFromXYZ(this.getPosition(), MOVE_AWAY_RANGE, MOVE_AWAY_SPEED);
         }
 
-        citizenExperienceHandler.gatherXp();
         if (citizenData != null)
         {
             if (citizenData.getSaturation() <= 0)
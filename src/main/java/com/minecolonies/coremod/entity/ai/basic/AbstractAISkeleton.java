@@ -70,6 +70,10 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
         this.world = CompatibilityUtils.getWorld(this.worker);
         this.chatSpamFilter = new ChatSpamFilter(job.getCitizen());
         stateMachine = new TickRateStateMachine(AIWorkerState.INIT, this::onException);
+        if (job.getColony() != null)
+        {
+            stateMachine.setProfiler(job.getColony().getAIProfiler(), job.getClass());
+        }
 
         // Start at a random tickcounter to spread AI updates over all ticks
         tickCounter = new Random().nextInt(Configurations.gameplay.updateRate) + 1;
@@ -7,9 +7,11 @@ import com.minecolonies.api.crafting.IRecipeStorage;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingSmelterCrafter;
+import com.minecolonies.coremod.colony.buildings.utils.FurnaceSchedule;
 import com.minecolonies.coremod.colony.jobs.AbstractJobCrafter;
 import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.coremod.inventory.ItemCountIndex;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -63,14 +65,14 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
 
     /**
      * Get the furnace which has finished smeltables.
-     * For this check each furnace which has been registered to the building.
-     * Check if the furnace is turned off and has something in the result slot
-     * or check if the furnace has more than x results.
+     * For this check each furnace which is due.
+     * Check if the furnace is turned off and has something in the result slot.
+     * @param dueFurnaces the furnaces which need attention now.
      * @return the position of the furnace.
      */
-    private BlockPos getPositionOfOvenToRetrieveFrom()
+    private BlockPos getPositionOfOvenToRetrieveFrom(final List<BlockPos> dueFurnaces)
     {
-        for (final BlockPos pos : ((AbstractBuildingSmelterCrafter) getOwnBuilding()).getFurnaces())
+        for (final BlockPos pos : dueFurnaces)
         {
             final TileEntity entity = world.getTileEntity(pos);
             if (entity instanceof TileEntityFurnace)
@@ -87,6 +89,15 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
         return null;
     }
 
+    /**
+     * Get the schedule of the furnaces of the hut.
+     * @return the schedule.
+     */
+    private FurnaceSchedule getFurnaceSchedule()
+    {
+        return getOwnBuilding(AbstractBuildingSmelterCrafter.class).getFurnaceSchedule();
+    }
+
     @Override
     protected IAIState checkForItems(final IRecipeStorage storage)
     {
@@ -154,6 +165,7 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
             return START_WORKING;
         }
 
+        getFurnaceSchedule().markChanged(walkTo);
         walkTo = null;
 
         extractFromFurnace((TileEntityFurnace) entity);
@@ -185,11 +197,12 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
     /**
      * Checks if the worker has enough fuel and/or smeltable to start smelting.
      * @param amountOfFuel the total amount of fuel.
+     * @param dueFurnaces the furnaces which need attention now.
      * @return START_USING_FURNACE if enough, else check for additional worker specific jobs.
      */
-    private IAIState checkIfAbleToSmelt(final int amountOfFuel)
+    private IAIState checkIfAbleToSmelt(final int amountOfFuel, final List<BlockPos> dueFurnaces)
     {
-        for (final BlockPos pos : ((AbstractBuildingSmelterCrafter) getOwnBuilding()).getFurnaces())
+        for (final BlockPos pos : dueFurnaces)
         {
             final TileEntity entity = world.getTileEntity(pos);
 
@@ -256,6 +269,7 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
                   new InvWrapper(worker.getInventoryCitizen()), TileEntityFurnace::isItemFuel, STACKSIZE,
                   new InvWrapper(furnace), FUEL_SLOT);
             }
+            getFurnaceSchedule().markChanged(walkTo);
         }
         walkTo = null;
         setDelay(STANDARD_DELAY);
@@ -289,7 +303,11 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
             return getState();
         }
 
-        final BlockPos posOfOven = getPositionOfOvenToRetrieveFrom();
+        //The smelter only retrieves from furnaces which went out, a result slot can't pass a full stack so only the burn out schedules a burning furnace.
+        final List<BlockPos> dueFurnaces = getFurnaceSchedule().getDueFurnaces(world,
+          getOwnBuilding(AbstractBuildingSmelterCrafter.class).getFurnaces(),
+          STACKSIZE);
+        final BlockPos posOfOven = getPositionOfOvenToRetrieveFrom(dueFurnaces);
         if (posOfOven != null)
         {
             walkTo = posOfOven;
@@ -297,8 +315,8 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
             return RETRIEVING_END_PRODUCT_FROM_FURNACE;
         }
 
-        final int amountOfFuelInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), TileEntityFurnace::isItemFuel);
-        final int amountOfFuelInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), TileEntityFurnace::isItemFuel);
+        final int amountOfFuelInBuilding = getOwnBuilding().getItemCount(ItemCountIndex.Category.FUEL);
+        final int amountOfFuelInInv = worker.getInventoryCitizen().getItemCountIndex().getCount(ItemCountIndex.Category.FUEL);
 
         if (amountOfFuelInBuilding + amountOfFuelInInv <= 0 && !getOwnBuilding().hasWorkerOpenRequestsOfType(worker.getCitizenData(), TypeToken.of(StackList.class)))
         {
@@ -311,6 +329,6 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
             return GATHERING_REQUIRED_MATERIALS;
         }
 
-        return checkIfAbleToSmelt(amountOfFuelInBuilding + amountOfFuelInInv);
+        return checkIfAbleToSmelt(amountOfFuelInBuilding + amountOfFuelInInv, dueFurnaces);
     }
 }
@@ -2,13 +2,18 @@ package com.minecolonies.coremod.entity.ai.basic;
 
 import com.ldtteam.structurize.util.BlockInfo;
 import com.ldtteam.structurize.util.StructurePlacementUtils;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.compatibility.candb.ChiselAndBitsCheck;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingStructureBuilder;
@@ -18,6 +23,8 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderBuildBuilding;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildRemoval;
+import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.coremod.entity.ai.util.StructureBillOfMaterials;
 import com.minecolonies.coremod.entity.ai.util.StructureIterator;
 import com.ldtteam.structurize.blocks.schematic.BlockSolidSubstitution;
 import net.minecraft.block.Block;
@@ -30,12 +37,14 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
 import static com.minecolonies.api.util.constant.Suppression.LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT;
@@ -148,11 +157,71 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         workOrder.setCleared(false);
         workOrder.setRequested(false);
 
+        if (job.getStructure() == null)
+        {
+            return;
+        }
+
         //We need to deal with materials
-        requestMaterials();
+        final StructureBillOfMaterials bill = new StructureBillOfMaterials();
+        requestMaterials(bill);
+        if (!removal)
+        {
+            currentStructure.compilePlacementOrder(bill);
+        }
+
         if (getProgressPos() != null)
         {
             job.getStructure().setLocalPosition(getProgressPos().getFirst());
+            if (getProgressPos().getSecond() != null)
+            {
+                bill.seek(getProgressPos().getSecond(), getProgressPos().getFirst());
+            }
+        }
+
+        final StructureIterator.Stage stage = currentStructure.getStage();
+        requestResourcesOfStage(stage == StructureIterator.Stage.CLEAR ? StructureIterator.Stage.BUILD : stage);
+    }
+
+    @Override
+    public IAIState switchStage(final IAIState state)
+    {
+        final IAIState nextState = super.switchStage(state);
+        requestResourcesOfStage(currentStructure.getStage());
+        return nextState;
+    }
+
+    /**
+     * Request all resources of a stage which are neither in the inventory nor requested already, in one batch.
+     * At most one stack of each resource is requested at once.
+     *
+     * @param stage the stage to request the resources for.
+     */
+    private void requestResourcesOfStage(final StructureIterator.Stage stage)
+    {
+        if (Configurations.gameplay.builderInfiniteResources || currentStructure == null || currentStructure.getBillOfMaterials() == null)
+        {
+            return;
+        }
+
+        final InvWrapper inventory = new InvWrapper(worker.getInventoryCitizen());
+        for (final Map.Entry<ItemStorage, Integer> entry : currentStructure.getBillOfMaterials().getRemainingResources(stage).entrySet())
+        {
+            final ItemStack stack = entry.getKey().getItemStack();
+            final int missing = Math.min(STACKSIZE, entry.getValue()) - InventoryUtils.getItemCountInItemHandler(inventory, stack::isItemEqual);
+            if (missing <= 0)
+            {
+                continue;
+            }
+
+            if (getOwnBuilding().getOpenRequestsOfTypeFiltered(worker.getCitizenData(),
+              TypeConstants.DELIVERABLE,
+              (IRequest<? extends IDeliverable> r) -> r.getRequest().matches(stack)).isEmpty())
+            {
+                final Stack stackRequest = new Stack(stack.copy());
+                stackRequest.setCount(missing);
+                worker.getCitizenData().createRequest(stackRequest);
+            }
         }
     }
 
@@ -163,7 +232,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
      * But in this case the rule does not apply because code would become unreadable and uneffective without.
      */
     @SuppressWarnings(LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT)
-    private void requestMaterials()
+    private void requestMaterials(final StructureBillOfMaterials bill)
     {
         if (Configurations.gameplay.builderInfiniteResources || job.getWorkOrder().isRequested() || job.getWorkOrder() instanceof WorkOrderBuildRemoval)
         {
@@ -184,6 +253,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
 
             @Nullable IBlockState blockState = blockInfo.getState();
             @Nullable Block block = blockState.getBlock();
+            final StructureIterator.Stage stage = block != Blocks.AIR && blockState.getMaterial().isSolid() ? StructureIterator.Stage.BUILD : StructureIterator.Stage.DECORATE;
 
             if (StructurePlacementUtils.isStructureBlockEqualWorldBlock(world, job.getStructure().getBlockPosition(), blockState)
                   || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
@@ -208,7 +278,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                 final IBlockState downState = BlockPosUtil.getBlockState(world, job.getStructure().getBlockPosition().down());
                 if (!downState.getMaterial().isSolid())
                 {
-                    requestBlockToBuildingIfRequired(buildingWorker, getSolidSubstitution(job.getStructure().getBlockPosition()));
+                    requestBlockToBuildingIfRequired(buildingWorker, bill, StructureIterator.Stage.BUILD, getSolidSubstitution(job.getStructure().getBlockPosition()));
                 }
             }
 
@@ -218,7 +288,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                   && !(worldBlock instanceof AbstractBlockHut)
                   && !isBlockFree(block, 0))
             {
-                requestBlockToBuildingIfRequired(buildingWorker, blockState);
+                requestBlockToBuildingIfRequired(buildingWorker, bill, stage, blockState);
             }
         }
 
@@ -231,6 +301,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                     if (!ItemStackUtils.isEmpty(stack.getItemStack()))
                     {
                         buildingWorker.addNeededResource(stack.getItemStack(), 1);
+                        bill.addResource(StructureIterator.Stage.SPAWN, stack.getItemStack(), 1);
                     }
                 }
             }
@@ -249,9 +320,15 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
      * Add blocks to the builder building if he needs it.
      *
      * @param building   the building.
+     * @param bill       the bill of materials to add it to as well.
+     * @param stage      the stage the block is placed in.
      * @param blockState the block to add.
      */
-    private void requestBlockToBuildingIfRequired(final AbstractBuildingStructureBuilder building, final IBlockState blockState)
+    private void requestBlockToBuildingIfRequired(
+      final AbstractBuildingStructureBuilder building,
+      final StructureBillOfMaterials bill,
+      final StructureIterator.Stage stage,
+      final IBlockState blockState)
     {
         if (job.getStructure().getBlockInfo().getTileEntityData() != null)
         {
@@ -260,6 +337,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
             for (final ItemStack stack : itemList)
             {
                 building.addNeededResource(stack, stack.getCount());
+                bill.addResource(stage, stack, stack.getCount());
             }
         }
 
@@ -268,7 +346,9 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
               && blockState.getBlock() != Blocks.STANDING_BANNER
               && blockState.getBlock() != Blocks.WALL_BANNER)
         {
-            building.addNeededResource(BlockUtils.getItemStackFromBlockState(blockState), 1);
+            final ItemStack stack = BlockUtils.getItemStackFromBlockState(blockState);
+            building.addNeededResource(stack, 1);
+            bill.addResource(stage, stack, 1);
         }
     }
 
@@ -375,6 +455,10 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     public void reduceNeededResources(final ItemStack stack)
     {
         getOwnBuilding(AbstractBuildingStructureBuilder.class).reduceNeededResource(stack, 1);
+        if (currentStructure != null && currentStructure.getBillOfMaterials() != null)
+        {
+            currentStructure.getBillOfMaterials().reduceResource(currentStructure.getStage(), stack, 1);
+        }
     }
 
     @Override
@@ -6,9 +6,11 @@ import com.minecolonies.api.colony.requestsystem.requestable.StackList;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingFurnaceUser;
+import com.minecolonies.coremod.colony.buildings.utils.FurnaceSchedule;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.coremod.inventory.ItemCountIndex;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -18,6 +20,8 @@ import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 import static com.minecolonies.api.util.ItemStackUtils.*;
 import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
@@ -93,11 +97,12 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
      * For this check each furnace which has been registered to the building.
      * Check if the furnace is turned off and has something in the result slot
      * or check if the furnace has more than x results.
+     * @param dueFurnaces the furnaces which need attention now.
      * @return the position of the furnace.
      */
-    protected BlockPos getPositionOfOvenToRetrieveFrom()
+    protected BlockPos getPositionOfOvenToRetrieveFrom(final List<BlockPos> dueFurnaces)
     {
-        for (final BlockPos pos : ((AbstractBuildingFurnaceUser) getOwnBuilding()).getFurnaces())
+        for (final BlockPos pos : dueFurnaces)
         {
             final TileEntity entity = world.getTileEntity(pos);
             if (entity instanceof TileEntityFurnace)
@@ -152,7 +157,10 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
             return nextState;
         }
 
-        final BlockPos posOfOven = getPositionOfOvenToRetrieveFrom();
+        final List<BlockPos> dueFurnaces = getFurnaceSchedule().getDueFurnaces(world,
+          getOwnBuilding(AbstractBuildingFurnaceUser.class).getFurnaces(),
+          RETRIEVE_SMELTABLE_IF_MORE_THAN);
+        final BlockPos posOfOven = getPositionOfOvenToRetrieveFrom(dueFurnaces);
         if (posOfOven != null)
         {
             walkTo = posOfOven;
@@ -163,8 +171,8 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
         final int amountOfSmeltableInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), this::isSmeltable);
         final int amountOfSmeltableInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), this::isSmeltable);
 
-        final int amountOfFuelInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), TileEntityFurnace::isItemFuel);
-        final int amountOfFuelInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), TileEntityFurnace::isItemFuel);
+        final int amountOfFuelInBuilding = getOwnBuilding().getItemCount(ItemCountIndex.Category.FUEL);
+        final int amountOfFuelInInv = worker.getInventoryCitizen().getItemCountIndex().getCount(ItemCountIndex.Category.FUEL);
 
         if (amountOfSmeltableInBuilding + amountOfSmeltableInInv <= 0
                 && !getOwnBuilding().hasWorkerOpenRequestsOfType(worker.getCitizenData(), TypeToken.of(getSmeltAbleClass().getClass())) && !reachedMaxToKeep())
@@ -187,18 +195,19 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
             return GATHERING_REQUIRED_MATERIALS;
         }
 
-        return checkIfAbleToSmelt(amountOfFuelInBuilding + amountOfFuelInInv, amountOfSmeltableInBuilding + amountOfSmeltableInInv);
+        return checkIfAbleToSmelt(amountOfFuelInBuilding + amountOfFuelInInv, amountOfSmeltableInBuilding + amountOfSmeltableInInv, dueFurnaces);
     }
 
     /**
      * Checks if the worker has enough fuel and/or smeltable to start smelting.
      * @param amountOfFuel the total amount of fuel.
      * @param amountOfSmeltable the total amount of smeltables.
+     * @param dueFurnaces the furnaces which need attention now.
      * @return START_USING_FURNACE if enough, else check for additional worker specific jobs.
      */
-    private IAIState checkIfAbleToSmelt(final int amountOfFuel, final int amountOfSmeltable)
+    private IAIState checkIfAbleToSmelt(final int amountOfFuel, final int amountOfSmeltable, final List<BlockPos> dueFurnaces)
     {
-        for (final BlockPos pos : ((AbstractBuildingFurnaceUser) getOwnBuilding()).getFurnaces())
+        for (final BlockPos pos : dueFurnaces)
         {
             final TileEntity entity = world.getTileEntity(pos);
 
@@ -225,10 +234,29 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
     protected IAIState checkForAdditionalJobs()
     {
         worker.getCitizenStatusHandler().setLatestStatus(new TextComponentTranslation(COM_MINECOLONIES_COREMOD_STATUS_IDLING));
-        setDelay(WAIT_AFTER_REQUEST);
+        setDelay(getIdleDelay());
         return START_WORKING;
     }
 
+    /**
+     * Get the ticks to wait when there is nothing to do.
+     * This is the usual wait, or less when a furnace needs attention earlier.
+     * @return the delay.
+     */
+    protected int getIdleDelay()
+    {
+        return (int) Math.min(WAIT_AFTER_REQUEST, getFurnaceSchedule().getTicksUntilNextEvent(world));
+    }
+
+    /**
+     * Get the schedule of the furnaces of the hut.
+     * @return the schedule.
+     */
+    protected FurnaceSchedule getFurnaceSchedule()
+    {
+        return getOwnBuilding(AbstractBuildingFurnaceUser.class).getFurnaceSchedule();
+    }
+
     /**
      * Check for important jobs to execute before the traditional furnace user jobs are handled.
      * @return the next IAIState to go to.
@@ -279,6 +307,7 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
             return START_WORKING;
         }
 
+        getFurnaceSchedule().markChanged(walkTo);
         walkTo = null;
 
         extractFromFurnace((TileEntityFurnace) entity);
@@ -333,6 +362,7 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
                         new InvWrapper(worker.getInventoryCitizen()), TileEntityFurnace::isItemFuel, STACKSIZE,
                         new InvWrapper(furnace), FUEL_SLOT);
             }
+            getFurnaceSchedule().markChanged(walkTo);
         }
         walkTo = null;
         setDelay(STANDARD_DELAY);
@@ -5,14 +5,16 @@ import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
-import com.minecolonies.api.util.constant.CitizenConstants;
 import com.minecolonies.api.util.constant.TranslationConstants;
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingCook;
 import com.minecolonies.coremod.colony.jobs.JobCook;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIUsesFurnace;
 import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.coremod.inventory.ItemCountIndex;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
@@ -26,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.HUNGRY_INV_FULL;
@@ -122,7 +125,7 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook>
     @Override
     protected boolean reachedMaxToKeep()
     {
-        return InventoryUtils.getItemCountInProvider(getOwnBuilding(), ItemStackUtils.ISFOOD) > Math.max(1, getOwnBuilding().getBuildingLevel() * getOwnBuilding().getBuildingLevel()) * SLOT_PER_LINE;
+        return getOwnBuilding().getItemCount(ItemCountIndex.Category.FOOD) > Math.max(1, getOwnBuilding().getBuildingLevel() * getOwnBuilding().getBuildingLevel()) * SLOT_PER_LINE;
     }
 
     /**
@@ -233,21 +236,42 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook>
         }
 
         citizenToServe.clear();
-        final List<EntityCitizen> citizenList = world.getEntitiesWithinAABB(EntityCitizen.class,
-          range, cit -> !(cit.getCitizenJobHandler().getColonyJob() instanceof JobCook) && cit.getCitizenData() != null && cit.getCitizenData().getSaturation() <= CitizenConstants.AVERAGE_SATURATION);
-        final List<EntityPlayer> playerList = world.getEntitiesWithinAABB(EntityPlayer.class,
-          range, player -> player != null && player.getFoodStats().getFoodLevel() < LEVEL_TO_FEED_PLAYER);
+        final List<EntityCitizen> citizenList = new ArrayList<>();
+        final Colony colony = getOwnBuilding().getColony();
+        for (final int citizenId : colony.getCitizenManager().getHungerIndex().getQueue(getOwnBuilding().getLocation()))
+        {
+            final CitizenData citizen = colony.getCitizenManager().getCitizen(citizenId);
+            if (citizen == null || citizen.getJob() instanceof JobCook)
+            {
+                continue;
+            }
+
+            final Optional<EntityCitizen> entity = citizen.getCitizenEntity();
+            if (entity.isPresent() && range.intersects(entity.get().getEntityBoundingBox()))
+            {
+                citizenList.add(entity.get());
+            }
+        }
+
+        final List<EntityPlayer> playerList = new ArrayList<>();
+        for (final EntityPlayer player : world.playerEntities)
+        {
+            if (player.getFoodStats().getFoodLevel() < LEVEL_TO_FEED_PLAYER && range.intersects(player.getEntityBoundingBox()))
+            {
+                playerList.add(player);
+            }
+        }
 
         if (!citizenList.isEmpty() || !playerList.isEmpty())
         {
             citizenToServe.addAll(citizenList);
             playerToServe.addAll(playerList);
 
-            if (InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()), ItemStackUtils.CAN_EAT))
+            if (worker.getInventoryCitizen().getItemCountIndex().getCount(ItemCountIndex.Category.EDIBLE) > 0)
             {
                 return COOK_SERVE_FOOD_TO_CITIZEN;
             }
-            else if (!InventoryUtils.hasItemInProvider(getOwnBuilding(), ItemStackUtils.CAN_EAT))
+            else if (getOwnBuilding().getItemCount(ItemCountIndex.Category.EDIBLE) <= 0)
             {
                 return START_WORKING;
             }
@@ -3,13 +3,11 @@ package com.minecolonies.coremod.entity.ai.citizen.farmer;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.requestable.StackList;
 import com.minecolonies.api.compatibility.Compatibility;
-import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.blocks.huts.BlockHutField;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingFarmer;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
@@ -20,6 +18,7 @@ import com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.coremod.items.ModItems;
 import com.minecolonies.coremod.network.messages.CompostParticleMessage;
+import com.minecolonies.coremod.tileentities.FieldStateMap;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import net.minecraft.block.*;
 import net.minecraft.block.state.IBlockState;
@@ -90,13 +89,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     @Nullable
     private BlockPos prevPos;
 
-    /**
-     * Variables used in handleOffset.
-     */
-    private int     totalDis;
-    private int     dist;
-    private boolean horizontal;
-
     /**
      * Constructor for the Farmer.
      * Defines the tasks the Farmer executes.
@@ -196,7 +188,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         final TileEntity entity = world.getTileEntity(currentField);
         if (entity instanceof ScarecrowTileEntity && ((ScarecrowTileEntity) entity).needsWork())
         {
-            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity, this::shouldHarvest))
+            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity, getHarvestCellState(), this::shouldHarvest))
             {
                 return FARMER_HARVEST;
             }
@@ -204,7 +196,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
             {
                 return canGoPlanting((ScarecrowTileEntity) entity, building);
             }
-            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity, this::shouldHoe))
+            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity, FieldStateMap.CellState.HOE, this::shouldHoe))
             {
                 return FARMER_HOE;
             }
@@ -271,27 +263,35 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      * Checks if the field needs a certain operation checked with a given predicate.
      *
      * @param field     the field object.
+     * @param cellState the state of the cells to look at.
      * @param predicate the predicate to test.
      * @return true if a harvestable crop was found.
      */
-    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final Predicate<BlockPos> predicate)
+    private boolean checkIfShouldExecute(
+      @NotNull final ScarecrowTileEntity field,
+      @NotNull final FieldStateMap.CellState cellState,
+      @NotNull final Predicate<BlockPos> predicate)
     {
-        if (workingOffset == null)
+        if (workingOffset != null && predicate.test(field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX())))
         {
-            handleOffset(field);
+            return true;
         }
+        return handleOffset(field, cellState, predicate);
+    }
 
-        BlockPos position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
-
-        while (!predicate.test(position))
+    /**
+     * Get the cell state the farmer harvests.
+     * With compost at hand unripe crops are harvested as well, since they can be grown on the spot.
+     *
+     * @return the cell state.
+     */
+    private FieldStateMap.CellState getHarvestCellState()
+    {
+        if (InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), this::isCompost) > 0)
         {
-            if (!handleOffset(field))
-            {
-                return false;
-            }
-            position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
+            return FieldStateMap.CellState.CROP;
         }
-        return true;
+        return FieldStateMap.CellState.RIPE;
     }
 
     /**
@@ -332,50 +332,32 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     }
 
     /**
-     * Handles the offset of the field for the farmer.
+     * Moves the offset of the farmer to the next cell of the field in a certain state.
+     * Skips the cells in between, the state map of the field only holds cells which need that work.
      *
-     * @param field the field object.
-     * @return true if successful.
+     * @param field     the field object.
+     * @param cellState the state of the cells to look at.
+     * @param predicate the predicate the cell has to fulfill as well.
+     * @return true if successful, false if there is no further cell and the offset has been reset.
      */
-    private boolean handleOffset(@NotNull final ScarecrowTileEntity field)
+    private boolean handleOffset(
+      @NotNull final ScarecrowTileEntity field,
+      @NotNull final FieldStateMap.CellState cellState,
+      @NotNull final Predicate<BlockPos> predicate)
     {
-        if (workingOffset == null)
-        {
-            workingOffset = new BlockPos(0, 0, 0);
-            totalDis = 1;
-            dist = 0;
-            horizontal = true;
-        }
-        else
+        final FieldStateMap fieldStates = field.getFieldStates();
+        workingOffset = fieldStates.getNextOffset(world, cellState, workingOffset);
+        while (workingOffset != null)
         {
-            if (workingOffset.getZ() >= field.getWidthPlusZ() && workingOffset.getX() <= -field.getLengthMinusX())
-            {
-                workingOffset = null;
-                return false;
-            }
-            else
+            final BlockPos position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
+            if (predicate.test(position))
             {
-                if (totalDis == dist)
-                {
-                    horizontal = !horizontal;
-                    dist = 0;
-                    if (horizontal)
-                    {
-                        totalDis++;
-                    }
-                }
-                if (horizontal)
-                {
-                    workingOffset = new BlockPos(workingOffset.getX(), 0, workingOffset.getZ() - Math.pow(-1, totalDis));
-                }
-                else
-                {
-                    workingOffset = new BlockPos(workingOffset.getX() - Math.pow(-1, totalDis), 0, workingOffset.getZ());
-                }
-                dist++;
+                return true;
             }
+            fieldStates.markDirty(position);
+            workingOffset = fieldStates.getNextOffset(world, cellState, workingOffset);
         }
-        return true;
+        return false;
     }
 
     /**
@@ -410,6 +392,22 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         final TileEntity entity = world.getTileEntity(field);
         if(entity instanceof ScarecrowTileEntity)
         {
+            final FieldStateMap.CellState cellState;
+            switch ((AIWorkerState) getState())
+            {
+                case FARMER_HOE:
+                    cellState = FieldStateMap.CellState.HOE;
+                    break;
+                case FARMER_PLANT:
+                    cellState = FieldStateMap.CellState.PLANT;
+                    break;
+                case FARMER_HARVEST:
+                    cellState = getHarvestCellState();
+                    break;
+                default:
+                    return PREPARING;
+            }
+
             if (workingOffset != null)
             {
                 if (((ScarecrowTileEntity) entity).getOwnerId() != worker.getCitizenId())
@@ -453,11 +451,12 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
                     default:
                         return PREPARING;
                 }
+                ((ScarecrowTileEntity) entity).markCellDirty(position);
                 prevPos = position;
             }
             setDelay(getLevelDelay());
 
-            if (!handleOffset((ScarecrowTileEntity) entity))
+            if (!handleOffset((ScarecrowTileEntity) entity, cellState, position -> true))
             {
                 shouldDumpInventory = true;
                 ((ScarecrowTileEntity) entity).nextState();
@@ -538,9 +537,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean shouldHoe(@NotNull final BlockPos position)
     {
-        return !BlockUtils.isBlockSeed(world, position.up())
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockHutField)
-                 && (world.getBlockState(position).getBlock() instanceof BlockDirt || world.getBlockState(position).getBlock() instanceof BlockGrass);
+        return FieldStateMap.needsHoe(world, position);
     }
 
     /**
@@ -560,9 +557,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean shouldPlant(@NotNull final BlockPos position, @NotNull final ScarecrowTileEntity field)
     {
-        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
-                 && !(world.getBlockState(position).getBlock() instanceof BlockHutField) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
+        return FieldStateMap.needsPlanting(world, position, field);
     }
 
     /**
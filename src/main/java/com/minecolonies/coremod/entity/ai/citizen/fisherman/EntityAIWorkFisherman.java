@@ -7,6 +7,7 @@ import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingFisherman;
 import com.minecolonies.coremod.colony.jobs.JobFisherman;
+import com.minecolonies.coremod.colony.managers.ColonyPondRegistry;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.EntityFishHook;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAISkill;
@@ -25,6 +26,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
@@ -348,8 +350,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         }
         if (executedRotations >= MAX_ROTATIONS)
         {
-            job.removeFromPonds(job.getWater());
-            job.setWater(null);
+            removeCurrentPond();
             executedRotations = 0;
             return FISHERMAN_SEARCHING_WATER;
         }
@@ -402,7 +403,9 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
             return START_WORKING;
         }
-        job.setWater(job.getPonds().get(random.nextInt(job.getPonds().size())));
+        final BlockPos pond = job.getPonds().get(random.nextInt(job.getPonds().size()));
+        job.setPond(pond);
+        job.setWater(getPondRegistry().assignSpot(world, worker.getCitizenData().getId(), pond));
 
         return FISHERMAN_CHECK_WATER;
     }
@@ -428,7 +431,8 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         {
             if (pathResult.pond != null)
             {
-                job.setWater(pathResult.pond);
+                job.setPond(pathResult.pond);
+                job.setWater(getPondRegistry().assignSpot(world, worker.getCitizenData().getId(), pathResult.pond));
                 job.addToPonds(pathResult.pond);
             }
             lastPathResult = pathResult;
@@ -473,6 +477,8 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
             if (random.nextDouble() < CHANCE_NEW_POND)
             {
+                getPondRegistry().releaseSpot(worker.getCitizenData().getId());
+                job.setPond(null);
                 job.setWater(null);
                 return FISHERMAN_SEARCHING_WATER;
             }
@@ -587,8 +593,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         if (world.getBlockState(worker.getPosition()).getBlock() == Blocks.WATER)
         {
-            job.removeFromPonds(job.getWater());
-            job.setWater(null);
+            removeCurrentPond();
             return FISHERMAN_SEARCHING_WATER;
         }
         //If there is no close water, try to move closer
@@ -661,6 +666,28 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         entityFishHook = null;
     }
 
+    /**
+     * Drop the current pond after fishing failed there: its spot is removed from the registry and the pond from the list of the job.
+     */
+    private void removeCurrentPond()
+    {
+        getPondRegistry().removeSpot(worker.getCitizenData().getId(), job.getWater());
+        job.removeFromPonds(job.getPond() == null ? job.getWater() : job.getPond());
+        job.setPond(null);
+        job.setWater(null);
+    }
+
+    /**
+     * Get the bodies of water shared by the fishermen of the colony.
+     *
+     * @return the pond registry.
+     */
+    @NotNull
+    private ColonyPondRegistry getPondRegistry()
+    {
+        return getOwnBuilding().getColony().getPondRegistry();
+    }
+
     /**
      * Returns the fisherman's worker instance. Called from outside this class.
      *
@@ -58,12 +58,13 @@ public final class Pond
         final int x = water.getX();
         final int y = water.getY();
         final int z = water.getZ();
+        final BlockPos.MutableBlockPos probe = new BlockPos.MutableBlockPos();
 
         //If not one direction contains a pool with length at least 6 and width 7
-        return checkWaterPoolInDirectionXThenZ(world, x, y, z, 1, width, length)
-                 || checkWaterPoolInDirectionXThenZ(world, x, y, z, -1, width, length)
-                 || checkWaterPoolInDirectionZThenX(world, x, y, z, 1, width, length)
-                 || checkWaterPoolInDirectionZThenX(world, x, y, z, -1, width, length);
+        return checkWaterPoolInDirectionXThenZ(world, probe, x, y, z, 1, width, length)
+                 || checkWaterPoolInDirectionXThenZ(world, probe, x, y, z, -1, width, length)
+                 || checkWaterPoolInDirectionZThenX(world, probe, x, y, z, 1, width, length)
+                 || checkWaterPoolInDirectionZThenX(world, probe, x, y, z, -1, width, length);
     }
 
     /**
@@ -71,6 +72,7 @@ public final class Pond
      * direction Z all blocks are also water.
      *
      * @param world  World.
+     * @param probe  reused position to read the blocks at.
      * @param x      posX.
      * @param y      posY.
      * @param z      posZ.
@@ -81,6 +83,7 @@ public final class Pond
      */
     private static boolean checkWaterPoolInDirectionXThenZ(
       @NotNull final IBlockAccess world,
+      @NotNull final BlockPos.MutableBlockPos probe,
       final int x,
       final int y,
       final int z,
@@ -91,13 +94,13 @@ public final class Pond
         //Check 6 blocks in direction +/- x
         for (int dx = x + width * vector; dx <= x + width * vector; dx++)
         {
-            if (world.getBlockState(new BlockPos(dx, y, z)).getBlock() != Blocks.WATER)
+            if (world.getBlockState(probe.setPos(dx, y, z)).getBlock() != Blocks.WATER)
             {
                 return false;
             }
         }
         //Takes the middle x block and searches 3 water blocks to both sides
-        return checkWaterPoolInDirectionZ(world, x + length * vector, y, z, 1) && checkWaterPoolInDirectionZ(world, x + length
+        return checkWaterPoolInDirectionZ(world, probe, x + length * vector, y, z, 1) && checkWaterPoolInDirectionZ(world, probe, x + length
                                                                                                                                                  * vector, y, z, -1);
     }
 
@@ -106,6 +109,7 @@ public final class Pond
      * direction X all blocks are also water.
      *
      * @param world  World.
+     * @param probe  reused position to read the blocks at.
      * @param x      posX.
      * @param y      posY.
      * @param z      posZ.
@@ -116,6 +120,7 @@ public final class Pond
      */
     private static boolean checkWaterPoolInDirectionZThenX(
       @NotNull final IBlockAccess world,
+      @NotNull final BlockPos.MutableBlockPos probe,
       final int x,
       final int y,
       final int z,
@@ -126,13 +131,13 @@ public final class Pond
         //Check 6 blocks in direction +/- z
         for (int dz = z + width * vector; dz <= z + width * vector; dz++)
         {
-            if (world.getBlockState(new BlockPos(x, y, dz)).getBlock() != Blocks.WATER)
+            if (world.getBlockState(probe.setPos(x, y, dz)).getBlock() != Blocks.WATER)
             {
                 return false;
             }
         }
         //Takes the middle z block and searches 3 water blocks to both sides
-        return checkWaterPoolInDirectionX(world, x, y, z + length * vector, 1) && checkWaterPoolInDirectionX(world, x, y, z + length
+        return checkWaterPoolInDirectionX(world, probe, x, y, z + length * vector, 1) && checkWaterPoolInDirectionX(world, probe, x, y, z + length
                                                                                                                                                        * vector, -1);
     }
 
@@ -140,18 +145,19 @@ public final class Pond
      * Checks if all blocks in direction Z are Pond.
      *
      * @param world  World.
+     * @param probe  reused position to read the blocks at.
      * @param x      posX.
      * @param y      posY.
      * @param z      posZ.
      * @param vector direction.
      * @return true if all blocks are water, else false.
      */
-    private static boolean checkWaterPoolInDirectionZ(@NotNull final IBlockAccess world, final int x, final int y, final int z, final int vector)
+    private static boolean checkWaterPoolInDirectionZ(@NotNull final IBlockAccess world, @NotNull final BlockPos.MutableBlockPos probe, final int x, final int y, final int z, final int vector)
     {
         //Check 3 blocks in direction +/- z
         for (int dz = z + WATER_POOL_LENGTH_REQUIREMENT * vector; dz <= z + WATER_POOL_LENGTH_REQUIREMENT * vector; dz++)
         {
-            if (world.getBlockState(new BlockPos(x, y, dz)).getBlock() != Blocks.WATER)
+            if (world.getBlockState(probe.setPos(x, y, dz)).getBlock() != Blocks.WATER)
             {
                 return false;
             }
@@ -163,18 +169,19 @@ public final class Pond
      * Checks if all blocks in direction X are Pond.
      *
      * @param world  World.
+     * @param probe  reused position to read the blocks at.
      * @param x      posX.
      * @param y      posY.
      * @param z      posZ.
      * @param vector direction.
      * @return true if all blocks are water, else false.
      */
-    private static boolean checkWaterPoolInDirectionX(@NotNull final IBlockAccess world, final int x, final int y, final int z, final int vector)
+    private static boolean checkWaterPoolInDirectionX(@NotNull final IBlockAccess world, @NotNull final BlockPos.MutableBlockPos probe, final int x, final int y, final int z, final int vector)
     {
         //Check 3 blocks in direction +/- x
         for (int dx = x + WATER_POOL_LENGTH_REQUIREMENT * vector; dx <= x + WATER_POOL_LENGTH_REQUIREMENT * vector; dx++)
         {
-            if (world.getBlockState(new BlockPos(dx, y, z)).getBlock() != Blocks.WATER)
+            if (world.getBlockState(probe.setPos(dx, y, z)).getBlock() != Blocks.WATER)
             {
                 return false;
             }
@@ -6,11 +6,10 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.ToolType;
-import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
-import com.minecolonies.coremod.colony.buildings.views.MobEntryView;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.colony.managers.ColonyThreatTracker;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIFight;
 import com.minecolonies.coremod.entity.ai.mobs.AbstractEntityMinecoloniesMob;
@@ -26,8 +25,6 @@ import net.minecraft.world.WorldServer;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
 import static com.minecolonies.api.util.constant.ColonyConstants.TEAM_COLONY_NAME;
 import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.GuardConstants.*;
@@ -356,42 +353,32 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
 
         if (colony != null)
         {
+            final ColonyThreatTracker threatTracker = colony.getThreatTracker();
             if (!colony.getRaiderManager().getHorde((WorldServer) worker.world).isEmpty() || colony.isColonyUnderAttack())
             {
-                for (final CitizenData citizen : colony.getCitizenManager().getCitizens())
+                for (final EntityLivingBase entity : threatTracker.getRevengeTargets(world, colony.getCitizenManager().getCitizens()))
                 {
-                    if (citizen.getCitizenEntity().isPresent())
+                    if (entity instanceof AbstractEntityMinecoloniesMob && threatTracker.canSee(worker, entity))
                     {
-                        final EntityLivingBase entity = citizen.getCitizenEntity().get().getRevengeTarget();
-                        if (entity instanceof AbstractEntityMinecoloniesMob && worker.canEntityBeSeen(entity))
-                        {
-                            return entity;
-                        }
-                        else if (entity instanceof EntityCitizen && worker.canEntityBeSeen(entity) && (((EntityCitizen) entity).getCitizenJobHandler()
-                                                                                                         .getColonyJob() instanceof AbstractJobGuard))
-                        {
-                            return entity;
-                        }
-                        else if (entity instanceof EntityPlayer && worker.canEntityBeSeen(entity))
-                        {
-                            colony.isValidAttackingPlayer((EntityPlayer) entity);
-                        }
+                        return entity;
+                    }
+                    else if (entity instanceof EntityCitizen && threatTracker.canSee(worker, entity) && (((EntityCitizen) entity).getCitizenJobHandler()
+                                                                                                           .getColonyJob() instanceof AbstractJobGuard))
+                    {
+                        return entity;
+                    }
+                    else if (entity instanceof EntityPlayer && threatTracker.canSee(worker, entity))
+                    {
+                        colony.isValidAttackingPlayer((EntityPlayer) entity);
                     }
                 }
             }
 
-            final List<EntityLivingBase> targets = world.getEntitiesWithinAABB(EntityLivingBase.class, getSearchArea(),
-              entity -> buildingGuards.getMobsToAttack()
-                          .stream()
-                          .filter(MobEntryView::hasAttack)
-                          .anyMatch(mobEntry -> mobEntry.getEntityEntry().getEntityClass().isInstance(entity)));
-
-
             int closest = Integer.MAX_VALUE;
             EntityLivingBase targetEntity = null;
-            for (final EntityLivingBase entity : targets)
+            for (final EntityLivingBase entity : threatTracker.getEntitiesInArea(world, getSearchArea()))
             {
-                if (worker.canEntityBeSeen(entity) && isWithinPersecutionDistance(entity.getPosition()))
+                if (buildingGuards.shouldAttack(entity) && isWithinPersecutionDistance(entity.getPosition()) && threatTracker.canSee(worker, entity))
                 {
                     if (entity instanceof EntityPlayer && (colony.getPermissions().hasPermission((EntityPlayer) entity, Action.GUARDS_ATTACK) || colony.isValidAttackingPlayer((EntityPlayer) entity)))
                     {
@@ -4,6 +4,7 @@ import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.constant.TranslationConstants;
+import com.minecolonies.coremod.colony.buildings.utils.AnimalCensus;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
@@ -21,8 +22,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
 import static com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState.*;
@@ -139,9 +140,9 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
     {
         setDelay(DECIDING_DELAY);
 
-        final List<T> animals = new ArrayList<>(searchForAnimals());
+        final AnimalCensus<T> census = getAnimalCensus();
 
-        if (animals.isEmpty())
+        if (census == null || census.getCount() == 0)
         {
             setDelay(NO_ANIMALS_DELAY);
             return DECIDE;
@@ -149,7 +150,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
 
         worker.getCitizenStatusHandler().setLatestStatus(new TextComponentTranslation(TranslationConstants.COM_MINECOLONIES_COREMOD_STATUS_DECIDING));
 
-        final int numOfBreedableAnimals = (int) animals.stream().filter(animal -> animal.getGrowingAge() == 0).count();
+        final int numOfBreedableAnimals = census.getBreedable().size();
 
         final boolean hasBreedingItem =
           InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
@@ -159,7 +160,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
         {
             return HERDER_PICKUP;
         }
-        else if (maxAnimals(animals))
+        else if (maxAnimals())
         {
             return HERDER_BUTCHER;
         }
@@ -217,9 +218,9 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
     private IAIState butcherAnimals()
     {
         setDelay(BUTCHER_DELAY);
-        final List<T> animals = new ArrayList<>(searchForAnimals());
+        final AnimalCensus<T> census = getAnimalCensus();
 
-        if (!maxAnimals(animals))
+        if (census == null || !maxAnimals())
         {
             return DECIDE;
         }
@@ -229,9 +230,9 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
             return START_WORKING;
         }
 
-        final EntityAnimal animal = animals
+        final EntityAnimal animal = census.getAdults()
                                 .stream()
-                                .filter(animalToButcher -> !animalToButcher.isChild())
+                                .filter(EntityAnimal::isEntityAlive)
                                 .findFirst()
                                 .orElse(null);
 
@@ -260,11 +261,15 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
     {
         setDelay(BREEDING_DELAY);
 
-        final List<T> animals = searchForAnimals();
+        final AnimalCensus<T> census = getAnimalCensus();
+        if (census == null)
+        {
+            return DECIDE;
+        }
 
-        final EntityAnimal animalOne = animals
+        final EntityAnimal animalOne = census.getAdults()
                                          .stream()
-                                         .filter(animal -> !animal.isChild())
+                                         .filter(EntityAnimal::isEntityAlive)
                                          .findAny()
                                          .orElse(null);
 
@@ -273,7 +278,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
             return DECIDE;
         }
 
-        final EntityAnimal animalTwo = animals.stream().filter(animal ->
+        final EntityAnimal animalTwo = census.getBreedable().stream().filter(animal ->
           {
               final float range = animal.getDistance(animalOne);
               final boolean isAnimalOne = animalOne.equals(animal);
@@ -323,19 +328,32 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
     /**
      * Find animals in area.
      *
-     * @return the {@link List} of animals in the area.
+     * @return the read only {@link List} of animals in the area.
      */
     public List<T> searchForAnimals()
     {
+        final AnimalCensus<T> census = getAnimalCensus();
+        if (census != null)
+        {
+            return census.getAnimals();
+        }
+        return Collections.emptyList();
+    }
 
-        if (this.getTargetableArea() != null)
+    /**
+     * Get the census of the animals around the hut, shared with the other herders of the hut.
+     *
+     * @return the up to date census or null if the worker has no building.
+     */
+    @Nullable
+    protected AnimalCensus<T> getAnimalCensus()
+    {
+        final AxisAlignedBB area = getTargetableArea();
+        if (area == null)
         {
-            return new ArrayList<>(world.getEntitiesWithinAABB(
-              getAnimalClass(),
-              this.getTargetableArea()
-            ));
+            return null;
         }
-        return new ArrayList<>();
+        return getOwnBuilding().getAnimalCensus(getAnimalClass(), area);
     }
 
     public int getMaxAnimalMultiplier()
@@ -433,14 +451,12 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
      *
      * @return if amount of animals is over max.
      */
-    public boolean maxAnimals(final List<T> allAnimals)
+    public boolean maxAnimals()
     {
-        if (getOwnBuilding() != null)
+        final AnimalCensus<T> census = getAnimalCensus();
+        if (census != null)
         {
-            final List<T> animal = allAnimals.stream()
-                    .filter(animalToButcher -> !animalToButcher.isChild()).collect(Collectors.toList());
-
-            final int numOfAnimals = animal.size();
+            final int numOfAnimals = census.getAdults().size();
             final int maxAnimals = getOwnBuilding().getBuildingLevel() * getMaxAnimalMultiplier();
 
             return numOfAnimals > maxAnimals;
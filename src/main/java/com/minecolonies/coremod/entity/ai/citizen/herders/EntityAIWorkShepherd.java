@@ -16,7 +16,6 @@ import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState.*;
@@ -93,8 +92,7 @@ public class EntityAIWorkShepherd extends AbstractEntityAIHerder<JobShepherd, En
 
         final IAIState result = super.decideWhatToDo();
 
-        final List<EntitySheep> animals = new ArrayList<>(searchForAnimals());
-        final EntitySheep shearingSheep = animals.stream().filter(sheepie -> !sheepie.getSheared() && !sheepie.isChild()).findFirst().orElse(null);
+        final EntitySheep shearingSheep = searchForAnimals().stream().filter(sheepie -> !sheepie.getSheared() && !sheepie.isChild()).findFirst().orElse(null);
 
         if (result.equals(START_WORKING) && shearingSheep != null)
         {
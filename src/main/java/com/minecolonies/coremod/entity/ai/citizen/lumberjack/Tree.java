@@ -8,7 +8,6 @@ import com.minecolonies.api.util.BlockStateUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
-import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockLeaves;
 import net.minecraft.block.material.Material;
@@ -867,21 +866,6 @@ public class Tree
             return true;
         }
 
-        for (final AbstractBuilding building : colony.getBuildingManager().getBuildings().values())
-        {
-            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = building.getCorners();
-            final int x1 = corners.getFirst().getFirst();
-            final int x2 = corners.getFirst().getSecond();
-            final int z1 = corners.getSecond().getFirst();
-            final int z2 = corners.getSecond().getSecond();
-
-            final int x = pos.getX();
-            final int z = pos.getZ();
-            if (x > x1 && x < x2 && z > z1 && z < z2)
-            {
-                return false;
-            }
-        }
-        return true;
+        return colony.getBuildingManager().getBuildingAt(pos) == null;
     }
 }
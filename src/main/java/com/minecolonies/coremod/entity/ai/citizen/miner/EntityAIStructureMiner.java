@@ -29,6 +29,7 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState.*;
@@ -96,6 +97,16 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructureWithWorkOrd
      */
     private static final int LIQUID_CHECK_RANGE = 5;
 
+    /**
+     * Width of the box around a node checked for liquids.
+     */
+    private static final int LIQUID_CHECK_WIDTH = NODE_DISTANCE / 2 * 2 + 3;
+
+    /**
+     * Height of the box around a node checked for liquids, from one below the floor up to the check range.
+     */
+    private static final int LIQUID_CHECK_HEIGHT = LIQUID_CHECK_RANGE + 2;
+
     //The current block to mine
     @Nullable
     private BlockPos minerWorkingLocation;
@@ -264,13 +275,17 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructureWithWorkOrd
         final int posX = buildingMiner.getLocation().getX();
         final int posY = buildingMiner.getLocation().getY() + 2;
         final int posZ = buildingMiner.getLocation().getZ();
+        final MinerHazardScanner scanner = new MinerHazardScanner(world);
         for (int y = posY - LADDER_SEARCH_RANGE; y < posY; y++)
         {
             for (int x = posX - LADDER_SEARCH_RANGE; x < posX + LADDER_SEARCH_RANGE; x++)
             {
                 for (int z = posZ - LADDER_SEARCH_RANGE; z < posZ + LADDER_SEARCH_RANGE; z++)
                 {
-                    tryFindLadderAt(new BlockPos(x, y, z));
+                    if (scanner.getBlockState(x, y, z).getBlock() == Blocks.LADDER)
+                    {
+                        tryFindLadderAt(new BlockPos(x, y, z));
+                    }
                 }
             }
         }
@@ -380,11 +395,17 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructureWithWorkOrd
 
         final int xOffset = SHAFT_RADIUS * getOwnBuilding().getVectorX();
         final int zOffset = SHAFT_RADIUS * getOwnBuilding().getVectorZ();
-        //Check for safe floor
+        //Check for safe floor, only the blocks which have to be secured get a position
+        final MinerHazardScanner scanner = new MinerHazardScanner(world);
         for (int x = -SAFE_CHECK_RANGE + xOffset; x <= SAFE_CHECK_RANGE + xOffset; x++)
         {
             for (int z = -SAFE_CHECK_RANGE + zOffset; z <= SAFE_CHECK_RANGE + zOffset; z++)
             {
+                if (!needsSecuring(scanner.getBlockState(safeCobble.getX() + x, safeCobble.getY(), safeCobble.getZ() + z)))
+                {
+                    continue;
+                }
+
                 @NotNull final BlockPos curBlock = new BlockPos(safeCobble.getX() + x, safeCobble.getY(), safeCobble.getZ() + z);
                 if (!secureBlock(curBlock, currentStandingPosition))
                 {
@@ -614,10 +635,21 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructureWithWorkOrd
         return MINER_CHECK_MINESHAFT;
     }
 
+    /**
+     * Check if a block of the shaft floor has to be replaced with cobblestone.
+     *
+     * @param state the state of the block.
+     * @return true if it doesn't hold the miner or is an ore.
+     */
+    private static boolean needsSecuring(@NotNull final IBlockState state)
+    {
+        return (!state.getMaterial().blocksMovement() && state.getBlock() != Blocks.TORCH)
+                 || ColonyManager.getCompatibilityManager().isOre(state);
+    }
+
     private boolean secureBlock(@NotNull final BlockPos curBlock, @NotNull final BlockPos safeStand)
     {
-        if ((!getBlockState(curBlock).getMaterial().blocksMovement() && getBlock(curBlock) != Blocks.TORCH)
-                || ColonyManager.getCompatibilityManager().isOre(world.getBlockState(curBlock)))
+        if (needsSecuring(getBlockState(curBlock)))
         {
             if (!mineBlock(curBlock, safeStand))
             {
@@ -735,24 +767,18 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructureWithWorkOrd
             initStructure(mineNode, rotation, new BlockPos(mineNode.getX(), getOwnBuilding().getCurrentLevel().getDepth(), mineNode.getZ()));
         }
 
-        //Check for liquids
-        for (int x = -NODE_DISTANCE / 2 - 1; x <= NODE_DISTANCE / 2 + 1; x++)
+        //Check for liquids, the box is scanned again whenever the node is started or resumed since liquids may have flown in meanwhile
+        final int minX = mineNode.getX() - NODE_DISTANCE / 2 - 1;
+        final int minY = standingPosition.getY() - 1;
+        final int minZ = mineNode.getZ() - NODE_DISTANCE / 2 - 1;
+        final BitSet liquids = new MinerHazardScanner(world).scanLiquids(minX, minY, minZ, LIQUID_CHECK_WIDTH, LIQUID_CHECK_HEIGHT, LIQUID_CHECK_WIDTH);
+        for (int index = liquids.nextSetBit(0); index >= 0; index = liquids.nextSetBit(index + 1))
         {
-            for (int z = -NODE_DISTANCE / 2 - 1; z <= NODE_DISTANCE / 2 + 1; z++)
-            {
-                for (int y = -1; y <= LIQUID_CHECK_RANGE; y++)
-                {
-                    @NotNull final BlockPos curBlock = new BlockPos(mineNode.getX() + x, standingPosition.getY() + y, mineNode.getZ() + z);
-                    final Block block = getBlock(curBlock);
-                    if (block.equals(Blocks.WATER)
-                          || block.equals(Blocks.LAVA)
-                          || block.equals(Blocks.FLOWING_WATER)
-                          || block.equals(Blocks.FLOWING_LAVA))
-                    {
-                        setBlockFromInventory(curBlock, Blocks.COBBLESTONE);
-                    }
-                }
-            }
+            @NotNull final BlockPos curBlock = new BlockPos(
+              minX + index % LIQUID_CHECK_WIDTH,
+              minY + index / (LIQUID_CHECK_WIDTH * LIQUID_CHECK_WIDTH),
+              minZ + (index / LIQUID_CHECK_WIDTH) % LIQUID_CHECK_WIDTH);
+            setBlockFromInventory(curBlock, Blocks.COBBLESTONE);
         }
 
         workingNode = null;
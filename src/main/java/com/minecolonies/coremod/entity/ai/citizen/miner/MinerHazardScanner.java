@@ -0,0 +1,128 @@
+package com.minecolonies.coremod.entity.ai.citizen.miner;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * Reads the blocks around a mine straight from the chunk sections.
+ * <p>
+ * The miner looks at hundreds to thousands of blocks at once when it searches its ladder or secures a node. Reading them
+ * through the last used chunk skips the position allocation and the chunk lookup of a world read per block.
+ */
+public class MinerHazardScanner
+{
+    /**
+     * Shift from block to chunk or section coordinates.
+     */
+    private static final int SECTION_SHIFT = 4;
+
+    /**
+     * Mask of the block coordinates inside a section.
+     */
+    private static final int SECTION_MASK = 15;
+
+    /**
+     * The world to read.
+     */
+    private final World world;
+
+    /**
+     * The chunk of the last read.
+     */
+    @Nullable
+    private Chunk chunk;
+
+    /**
+     * Create a scanner.
+     *
+     * @param world the world to read.
+     */
+    public MinerHazardScanner(@NotNull final World world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * Check if a block is a liquid the miner has to seal off.
+     *
+     * @param block the block.
+     * @return true if so.
+     */
+    public static boolean isLiquid(@NotNull final Block block)
+    {
+        return block == Blocks.WATER || block == Blocks.LAVA || block == Blocks.FLOWING_WATER || block == Blocks.FLOWING_LAVA;
+    }
+
+    /**
+     * Get the state of a block.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the state, air outside of the build height.
+     */
+    @NotNull
+    public IBlockState getBlockState(final int x, final int y, final int z)
+    {
+        if (y < 0 || y >= world.getHeight())
+        {
+            return Blocks.AIR.getDefaultState();
+        }
+
+        final int chunkX = x >> SECTION_SHIFT;
+        final int chunkZ = z >> SECTION_SHIFT;
+        if (chunk == null || chunk.x != chunkX || chunk.z != chunkZ)
+        {
+            chunk = world.getChunk(chunkX, chunkZ);
+        }
+
+        final ExtendedBlockStorage section = chunk.getBlockStorageArray()[y >> SECTION_SHIFT];
+        if (section == Chunk.NULL_BLOCK_STORAGE)
+        {
+            return Blocks.AIR.getDefaultState();
+        }
+        return section.get(x & SECTION_MASK, y & SECTION_MASK, z & SECTION_MASK);
+    }
+
+    /**
+     * Find the liquids in a box.
+     * The bit of a position is {@code ((y * sizeZ) + z) * sizeX + x}, relative to the minimum corner.
+     *
+     * @param minX  the minimum x coordinate.
+     * @param minY  the minimum y coordinate.
+     * @param minZ  the minimum z coordinate.
+     * @param sizeX the size on the x axis.
+     * @param sizeY the size on the y axis.
+     * @param sizeZ the size on the z axis.
+     * @return the mask of the liquid positions.
+     */
+    @NotNull
+    public BitSet scanLiquids(final int minX, final int minY, final int minZ, final int sizeX, final int sizeY, final int sizeZ)
+    {
+        final BitSet liquids = new BitSet(sizeX * sizeY * sizeZ);
+        int index = 0;
+        for (int y = 0; y < sizeY; y++)
+        {
+            for (int z = 0; z < sizeZ; z++)
+            {
+                for (int x = 0; x < sizeX; x++)
+                {
+                    if (isLiquid(getBlockState(minX + x, minY + y, minZ + z).getBlock()))
+                    {
+                        liquids.set(index);
+                    }
+                    index++;
+                }
+            }
+        }
+        return liquids;
+    }
+}
@@ -300,7 +300,7 @@ public class EntityAIWorkSmelter extends AbstractEntityAIUsesFurnace<JobSmelter>
             return SMELTER_SMELTING_ITEMS;
         }
         worker.getCitizenStatusHandler().setLatestStatus(new TextComponentTranslation(COM_MINECOLONIES_COREMOD_STATUS_IDLING));
-        setDelay(WAIT_AFTER_REQUEST);
+        setDelay(getIdleDelay());
         return START_WORKING;
     }
 
@@ -331,6 +331,7 @@ public class EntityAIEatTask extends EntityAIBase
         {
             return GO_TO_RESTAURANT;
         }
+        colony.getCitizenManager().getHungerIndex().setRestaurant(citizenData, placeToPath);
 
         final STATE state = checkForFood(citizenData);
         if (state == EAT)
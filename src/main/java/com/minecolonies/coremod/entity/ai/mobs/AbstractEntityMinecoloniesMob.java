@@ -164,6 +164,11 @@ public abstract class AbstractEntityMinecoloniesMob extends EntityMob
             return;
         }
 
+        if (colony != null)
+        {
+            colony.getRaiderManager().onRaiderMoved(this);
+        }
+
         if (currentTick % (random.nextInt(EVERY_X_TICKS) + 1) == 0)
         {
             if (worldTimeAtSpawn == 0)
@@ -264,6 +269,9 @@ public abstract class AbstractEntityMinecoloniesMob extends EntityMob
         worldTimeAtSpawn = compound.getLong(TAG_TIME);
         stuckCounter = compound.getInteger(TAG_STUCK_COUNTER);
         ladderCounter = compound.getInteger(TAG_LADDER_COUNTER);
+        super.readFromNBT(compound);
+
+        // Registered after the super call, the raid manager keys the raider by the loaded id and position.
         if (compound.hasKey(TAG_COLONY_ID))
         {
             final int colonyId = compound.getInteger(TAG_COLONY_ID);
@@ -272,7 +280,6 @@ public abstract class AbstractEntityMinecoloniesMob extends EntityMob
                 setColony(ColonyManager.getColonyByWorld(colonyId, world));
             }
         }
-        super.readFromNBT(compound);
     }
 
     @NotNull
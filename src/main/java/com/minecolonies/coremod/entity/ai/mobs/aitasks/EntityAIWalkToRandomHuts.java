@@ -1,7 +1,6 @@
 package com.minecolonies.coremod.entity.ai.mobs.aitasks;
 
 import com.minecolonies.api.configuration.Configurations;
-import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.entity.ai.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.coremod.entity.pathfinding.GeneralEntityWalkToProxy;
 import com.minecolonies.coremod.entity.pathfinding.PathResult;
@@ -297,14 +296,10 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
             return null;
         }
 
-        final Collection<AbstractBuilding> buildingList = entity.getColony().getBuildingManager().getBuildings().values();
-        final Object[] buildingArray = buildingList.toArray();
-        if (buildingArray.length != 0)
+        final List<BlockPos> raidTargets = entity.getColony().getRaiderManager().getRaidTargets();
+        if (!raidTargets.isEmpty())
         {
-            final int rand = random.nextInt(buildingArray.length);
-            final AbstractBuilding building = (AbstractBuilding) buildingArray[rand];
-
-            return building.getLocation();
+            return raidTargets.get(random.nextInt(raidTargets.size()));
         }
         else
         {
@@ -1,8 +1,11 @@
 package com.minecolonies.coremod.entity.ai.mobs.util;
 
 import com.minecolonies.api.util.CompatibilityUtils;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.entity.ai.mobs.AbstractEntityMinecoloniesMob;
 import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.World;
 
 import java.util.List;
 import java.util.Optional;
@@ -37,6 +40,8 @@ public final class BarbarianUtils
 
     /**
      * Returns the barbarians close to an entity.
+     * A raider asking for its fellow raiders is answered from the registry of its colony, anybody else searches the world,
+     * since the raiders close to a player may belong to any colony or to none.
      *
      * @param entity             The entity to test against
      * @param distanceFromEntity The distance to check for
@@ -44,12 +49,17 @@ public final class BarbarianUtils
      */
     public static List<AbstractEntityMinecoloniesMob> getBarbariansCloseToEntity(final Entity entity, final double distanceFromEntity)
     {
-        return CompatibilityUtils.getWorld(entity).getEntitiesWithinAABB(
-          AbstractEntityMinecoloniesMob.class,
-          entity.getEntityBoundingBox().expand(
-            distanceFromEntity,
-            Y_DISTANCE_TO_CHECK_WITHIN,
-            distanceFromEntity),
-          Entity::isEntityAlive);
+        final World world = CompatibilityUtils.getWorld(entity);
+        final AxisAlignedBB area = entity.getEntityBoundingBox().expand(
+          distanceFromEntity,
+          Y_DISTANCE_TO_CHECK_WITHIN,
+          distanceFromEntity);
+
+        final Colony colony = !world.isRemote && entity instanceof AbstractEntityMinecoloniesMob ? ((AbstractEntityMinecoloniesMob) entity).getColony() : null;
+        if (colony == null)
+        {
+            return world.getEntitiesWithinAABB(AbstractEntityMinecoloniesMob.class, area, Entity::isEntityAlive);
+        }
+        return colony.getRaiderManager().getRaidersInArea(area);
     }
 }
@@ -70,8 +70,8 @@ public final class PirateEventUtils
             return;
         }
         colony.getRaiderManager().registerRaiderOriginSchematic(Structures.SCHEMATICS_PREFIX + PIRATESHIP_FOLDER + shipSize, targetSpawnPoint.down(3), world.getWorldTime());
-        InstantStructurePlacer.loadAndPlaceStructureWithRotation(world, Structures.SCHEMATICS_PREFIX + PIRATESHIP_FOLDER + shipSize, targetSpawnPoint.down(3), 0, Mirror.NONE, false);
-        loadSpawners(world, targetSpawnPoint, shipSize);
+        InstantStructurePlacer.loadAndPlaceStructureWithRotation(world, Structures.SCHEMATICS_PREFIX + PIRATESHIP_FOLDER + shipSize, targetSpawnPoint.down(3), 0, Mirror.NONE, false,
+          () -> loadSpawners(world, targetSpawnPoint, shipSize));
         LanguageHandler.sendPlayersMessage(
           colony.getMessageEntityPlayers(),
           RAID_EVENT_MESSAGE_PIRATE + raidNumber, colony.getName());
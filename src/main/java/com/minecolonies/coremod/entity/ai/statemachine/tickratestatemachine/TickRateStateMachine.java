@@ -1,11 +1,14 @@
 package com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine;
 
+import com.minecolonies.coremod.colony.managers.ColonyAIProfiler;
 import com.minecolonies.coremod.entity.ai.statemachine.basestatemachine.BasicStateMachine;
 import com.minecolonies.coremod.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.coremod.entity.ai.statemachine.transitions.IStateMachineEvent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
+import java.util.*;
 import java.util.function.Consumer;
 
 import static com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
@@ -13,14 +16,64 @@ import static com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachi
 /**
  * Statemachine with an added tickrate limiting of transitions, allowing transitions to be checked at a lower rate.
  * Default tickrate is 20 tps (Minecraft default).
+ * <p>
+ * The transitions are compiled into arrays when they get added or removed: one array with all events in the order they
+ * are checked in, and one array per state, indexed by an ordinal the machine assigns to each state it knows.
+ * Ticking then only loops over arrays.
  */
 public class TickRateStateMachine extends BasicStateMachine<TickingTransition>
 {
+    /**
+     * The event types in the order they are checked in.
+     */
+    private static final AIBlockingEventType[] EVENT_ORDER = {AIBlockingEventType.AI_BLOCKING, AIBlockingEventType.EVENT, AIBlockingEventType.STATE_BLOCKING};
+
+    /**
+     * Empty transition array.
+     */
+    private static final TickingTransition[] NO_TRANSITIONS = new TickingTransition[0];
+
     /**
      * Counter keeping track of ticks
      */
     private int tickCounter = 0;
 
+    /**
+     * The ordinals of all states which have transitions.
+     */
+    private final Map<IAIState, Integer> stateOrdinals = new IdentityHashMap<>();
+
+    /**
+     * The transitions of each state, indexed by the ordinal of the state.
+     */
+    private TickingTransition[][] stateTransitions = new TickingTransition[0][];
+
+    /**
+     * All events in the order they are checked in.
+     */
+    private TickingTransition[] eventTransitions = NO_TRANSITIONS;
+
+    /**
+     * The state the cached ordinal belongs to.
+     */
+    private IAIState ordinalState = null;
+
+    /**
+     * The ordinal of the state, -1 if it has no transitions.
+     */
+    private int ordinal = -1;
+
+    /**
+     * The profiler checked transitions are reported to, null if this statemachine isn't profiled.
+     */
+    @Nullable
+    private ColonyAIProfiler profiler = null;
+
+    /**
+     * The type of AI the profiler records the transitions for.
+     */
+    private Class<?> profiledType = null;
+
     /**
      * Construct a new StateMachine
      */
@@ -32,6 +85,33 @@ public class TickRateStateMachine extends BasicStateMachine<TickingTransition>
         this.eventTransitionMap.put(AIBlockingEventType.AI_BLOCKING, new ArrayList<>());
         this.eventTransitionMap.put(AIBlockingEventType.STATE_BLOCKING, new ArrayList<>());
         this.eventTransitionMap.put(AIBlockingEventType.EVENT, new ArrayList<>());
+        compileState(initialState);
+    }
+
+    /**
+     * Report the time checking transitions takes to a profiler while it is enabled.
+     *
+     * @param profiler the profiler.
+     * @param type     the type of AI the transitions are recorded for.
+     */
+    public void setProfiler(@Nullable final ColonyAIProfiler profiler, @NotNull final Class<?> type)
+    {
+        this.profiler = profiler;
+        this.profiledType = type;
+    }
+
+    @Override
+    public void addTransition(final TickingTransition transition)
+    {
+        super.addTransition(transition);
+        compile(transition);
+    }
+
+    @Override
+    public void removeTransition(final TickingTransition transition)
+    {
+        super.removeTransition(transition);
+        compile(transition);
     }
 
     /**
@@ -46,20 +126,37 @@ public class TickRateStateMachine extends BasicStateMachine<TickingTransition>
             tickCounter = 1;
         }
 
+        // Events added by a condition are appended to their type, so re-reading the array keeps the position valid.
+        for (int i = 0; i < eventTransitions.length; i++)
+        {
+            if (checkTransition(eventTransitions[i]))
+            {
+                return;
+            }
+        }
 
+        if (ordinalState != getState())
+        {
+            ordinalState = getState();
+            final Integer stateOrdinal = stateOrdinals.get(ordinalState);
+            ordinal = stateOrdinal == null ? -1 : stateOrdinal;
+        }
 
-        if (!eventTransitionMap.get(AIBlockingEventType.AI_BLOCKING).stream().anyMatch(this::checkTransition)
-              && !eventTransitionMap.get(AIBlockingEventType.EVENT).stream().anyMatch(this::checkTransition)
-              && !eventTransitionMap.get(AIBlockingEventType.STATE_BLOCKING).stream().anyMatch(this::checkTransition))
+        if (ordinal < 0)
         {
-            if (!transitionMap.containsKey(getState()))
+            // Reached Trap/Sink state we cannot leave.
+            onException(new RuntimeException("Missing AI transition for state: " + getState()));
+            reset();
+            return;
+        }
+
+        final TickingTransition[] transitions = stateTransitions[ordinal];
+        for (final TickingTransition transition : transitions)
+        {
+            if (checkTransition(transition))
             {
-                // Reached Trap/Sink state we cannot leave.
-                onException(new RuntimeException("Missing AI transition for state: " + getState()));
-                reset();
                 return;
             }
-            transitionMap.get(getState()).stream().anyMatch(this::checkTransition);
         }
     }
 
@@ -77,6 +174,71 @@ public class TickRateStateMachine extends BasicStateMachine<TickingTransition>
         {
             return false;
         }
-        return super.checkTransition(transition);
+
+        if (profiler == null || !profiler.isEnabled())
+        {
+            return super.checkTransition(transition);
+        }
+
+        final IAIState state = getState();
+        final long start = System.nanoTime();
+        try
+        {
+            return super.checkTransition(transition);
+        }
+        finally
+        {
+            profiler.record(profiledType, state, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Rebuild the arrays a changed transition is part of.
+     *
+     * @param transition the added or removed transition.
+     */
+    private void compile(@NotNull final TickingTransition transition)
+    {
+        if (transition instanceof IStateMachineEvent)
+        {
+            compileEvents();
+        }
+        else if (transition.getState() != null)
+        {
+            compileState(transition.getState());
+        }
+    }
+
+    /**
+     * Rebuild the event array from the event lists.
+     */
+    private void compileEvents()
+    {
+        final List<TickingTransition> events = new ArrayList<>();
+        for (final AIBlockingEventType type : EVENT_ORDER)
+        {
+            events.addAll(eventTransitionMap.get(type));
+        }
+        eventTransitions = events.toArray(NO_TRANSITIONS);
+    }
+
+    /**
+     * Rebuild the transition array of a state, assigning an ordinal to the state if it has none yet.
+     *
+     * @param state the state.
+     */
+    private void compileState(@NotNull final IAIState state)
+    {
+        Integer stateOrdinal = stateOrdinals.get(state);
+        if (stateOrdinal == null)
+        {
+            stateOrdinal = stateTransitions.length;
+            stateOrdinals.put(state, stateOrdinal);
+            stateTransitions = Arrays.copyOf(stateTransitions, stateOrdinal + 1);
+            ordinalState = null;
+        }
+
+        final List<TickingTransition> transitions = transitionMap.get(state);
+        stateTransitions[stateOrdinal] = transitions == null ? NO_TRANSITIONS : transitions.toArray(NO_TRANSITIONS);
     }
 }
@@ -0,0 +1,155 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The bill of materials of a structure, compiled once per work order.
+ * <p>
+ * Holds the resources still required per stage and, for the build and decorate stages,
+ * the local positions which did not match the world at compile time in placement order.
+ */
+public class StructureBillOfMaterials
+{
+    /**
+     * Local positions to work on, per stage.
+     */
+    private final Map<StructureIterator.Stage, List<BlockPos>> placementOrder = new EnumMap<>(StructureIterator.Stage.class);
+
+    /**
+     * Index of the next position in the placement order, per stage.
+     */
+    private final Map<StructureIterator.Stage, Integer> cursors = new EnumMap<>(StructureIterator.Stage.class);
+
+    /**
+     * Remaining resources, per stage.
+     */
+    private final Map<StructureIterator.Stage, Map<ItemStorage, Integer>> resources = new EnumMap<>(StructureIterator.Stage.class);
+
+    /**
+     * Add a position to the placement order of a stage.
+     *
+     * @param stage    the stage.
+     * @param localPos the local position in the structure.
+     */
+    public void addPlacement(@NotNull final StructureIterator.Stage stage, @NotNull final BlockPos localPos)
+    {
+        placementOrder.computeIfAbsent(stage, key -> new ArrayList<>()).add(localPos);
+    }
+
+    /**
+     * Get the next position to work on in a stage and advance past it.
+     *
+     * @param stage the stage.
+     * @return the local position or null if the stage has no positions left.
+     */
+    @Nullable
+    public BlockPos nextPlacement(@NotNull final StructureIterator.Stage stage)
+    {
+        final List<BlockPos> positions = placementOrder.get(stage);
+        final int cursor = cursors.getOrDefault(stage, 0);
+        if (positions == null || cursor >= positions.size())
+        {
+            return null;
+        }
+        cursors.put(stage, cursor + 1);
+        return positions.get(cursor);
+    }
+
+    /**
+     * Continue a stage at a previously stored progress position.
+     * Does nothing if the position is not part of the placement order.
+     *
+     * @param stage    the stage.
+     * @param localPos the stored local position.
+     */
+    public void seek(@NotNull final StructureIterator.Stage stage, @NotNull final BlockPos localPos)
+    {
+        final List<BlockPos> positions = placementOrder.get(stage);
+        if (positions != null)
+        {
+            final int index = positions.indexOf(localPos);
+            if (index >= 0)
+            {
+                cursors.put(stage, index);
+            }
+        }
+    }
+
+    /**
+     * Get the amount of positions of a stage which have not been visited yet.
+     *
+     * @param stage the stage.
+     * @return the amount.
+     */
+    public int getRemainingPlacements(@NotNull final StructureIterator.Stage stage)
+    {
+        final List<BlockPos> positions = placementOrder.get(stage);
+        return positions == null ? 0 : positions.size() - cursors.getOrDefault(stage, 0);
+    }
+
+    /**
+     * Add a required resource to a stage.
+     *
+     * @param stage  the stage.
+     * @param stack  the stack.
+     * @param amount the amount.
+     */
+    public void addResource(@NotNull final StructureIterator.Stage stage, @Nullable final ItemStack stack, final int amount)
+    {
+        if (ItemStackUtils.isEmpty(stack) || amount <= 0)
+        {
+            return;
+        }
+        resources.computeIfAbsent(stage, key -> new HashMap<>()).merge(new ItemStorage(stack.copy()), amount, Integer::sum);
+    }
+
+    /**
+     * Reduce a resource of a stage after it has been used.
+     *
+     * @param stage  the stage.
+     * @param stack  the stack.
+     * @param amount the amount.
+     */
+    public void reduceResource(@NotNull final StructureIterator.Stage stage, @Nullable final ItemStack stack, final int amount)
+    {
+        final Map<ItemStorage, Integer> stageResources = resources.get(stage);
+        if (stageResources == null || ItemStackUtils.isEmpty(stack))
+        {
+            return;
+        }
+
+        final ItemStorage key = new ItemStorage(stack);
+        final Integer remaining = stageResources.get(key);
+        if (remaining != null)
+        {
+            if (remaining <= amount)
+            {
+                stageResources.remove(key);
+            }
+            else
+            {
+                stageResources.put(key, remaining - amount);
+            }
+        }
+    }
+
+    /**
+     * Get the remaining resources of a stage.
+     *
+     * @param stage the stage.
+     * @return an unmodifiable view of the resources and their amount.
+     */
+    @NotNull
+    public Map<ItemStorage, Integer> getRemainingResources(@NotNull final StructureIterator.Stage stage)
+    {
+        final Map<ItemStorage, Integer> stageResources = resources.get(stage);
+        return stageResources == null ? Collections.emptyMap() : Collections.unmodifiableMap(stageResources);
+    }
+}
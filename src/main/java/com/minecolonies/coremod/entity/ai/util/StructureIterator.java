@@ -189,6 +189,12 @@ public class StructureIterator
     private final World            targetWorld;
     private       Stage            stage;
 
+    /**
+     * The compiled bill of materials, null if the structure is iterated block by block.
+     */
+    @Nullable
+    private StructureBillOfMaterials billOfMaterials;
+
     /**
      * Create a new building task.
      *
@@ -368,16 +374,20 @@ public class StructureIterator
                   structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
                                       || structureBlock.worldBlock == Blocks.AIR);
             case BUILD:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                                         || structureBlock.block == Blocks.AIR
-                                                                                         || !structureBlock.metadata.getMaterial().isSolid());
+                if (billOfMaterials != null)
+                {
+                    return advancePlannedBlocks(StructureIterator::isSkippedInBuild);
+                }
+                return advanceBlocks(this.theStructure::incrementBlock, StructureIterator::isSkippedInBuild);
             case SPAWN:
                 return advanceBlocks(this.theStructure::decrementBlock, structureBlock ->
                                                                           structureBlock.entity == null || structureBlock.entity.length <= 0);
             case DECORATE:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock ->
-                                                                       structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                         || structureBlock.metadata.getMaterial().isSolid());
+                if (billOfMaterials != null)
+                {
+                    return advancePlannedBlocks(StructureIterator::isSkippedInDecorate);
+                }
+                return advanceBlocks(this.theStructure::incrementBlock, StructureIterator::isSkippedInDecorate);
             case REMOVE:
                 return advanceBlocks(this.theStructure::decrementBlock,
                         structureBlock -> structureBlock.worldBlock == Blocks.AIR);
@@ -386,6 +396,109 @@ public class StructureIterator
         }
     }
 
+    /**
+     * Check if a block does not have to be worked on in the build stage.
+     *
+     * @param structureBlock the block.
+     * @return true if it can be skipped.
+     */
+    private static boolean isSkippedInBuild(@NotNull final StructureBlock structureBlock)
+    {
+        return structureBlock.doesStructureBlockEqualWorldBlock()
+                 || structureBlock.block == Blocks.AIR
+                 || !structureBlock.metadata.getMaterial().isSolid();
+    }
+
+    /**
+     * Check if a block does not have to be worked on in the decorate stage.
+     *
+     * @param structureBlock the block.
+     * @return true if it can be skipped.
+     */
+    private static boolean isSkippedInDecorate(@NotNull final StructureBlock structureBlock)
+    {
+        return structureBlock.doesStructureBlockEqualWorldBlock()
+                 || structureBlock.metadata.getMaterial().isSolid();
+    }
+
+    /**
+     * Compile the placement order of the build and decorate stages into the bill of materials.
+     * Blocks which already match the world are left out and skipped by {@link #advanceBlock()} from now on.
+     *
+     * @param bill the bill of materials to fill and use.
+     */
+    public void compilePlacementOrder(@NotNull final StructureBillOfMaterials bill)
+    {
+        final BlockPos progress = new BlockPos(this.theStructure.getLocalPosition());
+        for (int y = 0; y < getHeight(); y++)
+        {
+            for (int z = 0; z < getLength(); z++)
+            {
+                for (int x = 0; x < getWidth(); x++)
+                {
+                    final BlockPos localPos = new BlockPos(x, y, z);
+                    this.theStructure.setLocalPosition(localPos);
+                    final StructureBlock structureBlock = createStructureBlock(null);
+                    if (structureBlock.block == null)
+                    {
+                        continue;
+                    }
+
+                    if (!isSkippedInBuild(structureBlock))
+                    {
+                        bill.addPlacement(Stage.BUILD, localPos);
+                    }
+                    else if (!isSkippedInDecorate(structureBlock))
+                    {
+                        bill.addPlacement(Stage.DECORATE, localPos);
+                    }
+                }
+            }
+        }
+        this.theStructure.setLocalPosition(progress);
+        this.billOfMaterials = bill;
+    }
+
+    /**
+     * Get the compiled bill of materials.
+     *
+     * @return the bill or null if none was compiled.
+     */
+    @Nullable
+    public StructureBillOfMaterials getBillOfMaterials()
+    {
+        return billOfMaterials;
+    }
+
+    /**
+     * Advance to the next planned block of the current stage which still applies.
+     *
+     * @param checkIfApplies this will be evaluated to check if we should skip a block.
+     * @return a Result enum specifying the result
+     */
+    @NotNull
+    private Result advancePlannedBlocks(@NotNull final Function<StructureBlock, Boolean> checkIfApplies)
+    {
+        for (int i = 0; i < Configurations.gameplay.maxBlocksCheckedByBuilder; i++)
+        {
+            final BlockPos next = billOfMaterials.nextPlacement(this.stage);
+            if (next == null)
+            {
+                // Stepping past the last block resets the structure, like a complete block by block pass.
+                this.theStructure.setLocalPosition(new BlockPos(getWidth() - 1, getHeight() - 1, getLength() - 1));
+                this.theStructure.incrementBlock();
+                return Result.AT_END;
+            }
+
+            this.theStructure.setLocalPosition(next);
+            if (!checkIfApplies.apply(getCurrentBlock()))
+            {
+                return Result.NEW_BLOCK;
+            }
+        }
+        return Result.CONFIG_LIMIT;
+    }
+
     /**
      * Advance many blocks until either moveOneBlock or checkIfApplies return false
      * or if we reached the maximum of iterations in maxBlocksCheckedByBuilder.
@@ -428,6 +541,18 @@ public class StructureIterator
         {
             entityData = null;
         }
+        return createStructureBlock(entityData);
+    }
+
+    /**
+     * Create the structure block at the current position.
+     *
+     * @param entityData the entities at the position or null.
+     * @return the StructureBlock.
+     */
+    @NotNull
+    private StructureBlock createStructureBlock(@Nullable final NBTTagCompound[] entityData)
+    {
         return new StructureBlock(this.theStructure.getBlock(),
                                    this.theStructure.getBlockPosition(),
                                    this.theStructure.getBlockstate(),
@@ -10,11 +10,8 @@ import net.minecraft.entity.item.EntityXPOrb;
 import net.minecraft.init.Enchantments;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumParticleTypes;
-import net.minecraft.util.math.AxisAlignedBB;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.CitizenConstants.BIG_SATURATION_FACTOR;
 import static com.minecolonies.api.util.constant.CitizenConstants.LOW_SATURATION_FACTOR;
@@ -201,30 +198,6 @@ public class CitizenExperienceHandler
         }
     }
 
-    /**
-     * Collect exp orbs around the entity.
-     */
-    public void gatherXp()
-    {
-        for (@NotNull final EntityXPOrb orb : getXPOrbsOnGrid())
-        {
-            addExperience(orb.getXpValue() / 2.0D);
-            orb.setDead();
-        }
-    }
-
-    /**
-     * Defines the area in which the citizen automatically gathers experience.
-     *
-     * @return a list of xp orbs around the entity.
-     */
-    private List<EntityXPOrb> getXPOrbsOnGrid()
-    {
-        @NotNull final AxisAlignedBB bb = new AxisAlignedBB(citizen.posX - 2, citizen.posY - 2, citizen.posZ - 2, citizen.posX + 2, citizen.posY + 2, citizen.posZ + 2);
-
-        return CompatibilityUtils.getWorld(citizen).getEntitiesWithinAABB(EntityXPOrb.class, bb);
-    }
-
     /**
      * Get the level of the citizen.
      * @return the level.
@@ -312,6 +312,7 @@ public class CitizenHappinessHandler
     public void setSaturated()
     {
         foodModifier = FOOD_MODIFIER_POSITIVE;
+        citizen.markDirty();
     }
 
     /**
@@ -437,6 +438,14 @@ public class CitizenHappinessHandler
         if (citizen.getColony().getColonyHappinessManager().getLockedHappinessModifier().isPresent())
             return citizen.getColony().getColonyHappinessManager().getLockedHappinessModifier().get();
 
+        return getUnlockedHappiness();
+    }
+
+    /**
+     * @return the citizens overall happiness from its own modifiers, ignoring a locked colony happiness
+     */
+    public double getUnlockedHappiness()
+    {
         double value = baseHappiness + foodModifier + damageModifier + houseModifier + jobModifier + farmerModifier + noToolModifier;
         if (value > MAX_HAPPINESS)
         {
@@ -18,17 +18,12 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.SoundCategory;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-
 import static com.minecolonies.api.util.constant.CitizenConstants.BLOCK_BREAK_PARTICLE_RANGE;
 import static com.minecolonies.api.util.constant.CitizenConstants.BLOCK_BREAK_SOUND_RANGE;
 import static com.minecolonies.api.util.constant.CitizenConstants.FACING_DELTA_YAW;
@@ -239,31 +234,6 @@ public class CitizenItemHandler
         }
     }
 
-    /**
-     * Pick up all items in a range around the citizen.
-     */
-    public void pickupItems()
-    {
-        @NotNull final List<EntityItem> retList = new ArrayList<>();
-        //I know streams look better but they are flawed in type erasure
-        for (final Object o :
-          CompatibilityUtils.getWorld(citizen).
-                                             getEntitiesWithinAABB(EntityItem.class,
-                                               new AxisAlignedBB(citizen.getPosition()).expand(2.0F, 1.0F, 2.0F).expand(-2.0F, -1.0F, -2.0F)))
-        {
-            if (o instanceof EntityItem)
-            {
-                retList.add((EntityItem) o);
-            }
-        }
-
-        retList.stream()
-          .filter(Objects::nonNull)
-          .filter(item -> !item.isDead)
-          .filter(item -> citizen.canPickUpLoot())
-          .forEach(this::tryPickupEntityItem);
-    }
-
     /**
      * Swing entity arm, create sound and particle effects.
      * <p>
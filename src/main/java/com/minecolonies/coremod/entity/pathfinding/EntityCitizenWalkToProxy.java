@@ -4,6 +4,7 @@ import com.minecolonies.api.entity.ai.pathfinding.AbstractWalkToProxy;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.EntityUtils;
 import com.minecolonies.api.util.Vec2i;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingMiner;
 import com.minecolonies.coremod.colony.jobs.JobBuilder;
@@ -16,6 +17,7 @@ import net.minecraft.entity.EntityLiving;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -53,6 +55,28 @@ public class EntityCitizenWalkToProxy extends AbstractWalkToProxy
         return citizen.getCitizenColonyHandler().getColony().getWayPoints().keySet();
     }
 
+    @Nullable
+    @Override
+    public List<BlockPos> getRoute(final BlockPos start, final BlockPos target)
+    {
+        final Colony colony = citizen.getCitizenColonyHandler().getColony();
+        if (colony == null)
+        {
+            return null;
+        }
+        return colony.getBuildingManager().getRoadNetwork().findRoute(start, target);
+    }
+
+    @Override
+    public void onSegmentWalked(final BlockPos from, final BlockPos to, final int pathLength)
+    {
+        final Colony colony = citizen.getCitizenColonyHandler().getColony();
+        if (colony != null)
+        {
+            colony.getBuildingManager().getRoadNetwork().reportSegmentCost(from, to, pathLength);
+        }
+    }
+
     @Override
     public boolean careAboutY()
     {
@@ -8,6 +8,7 @@ import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -29,11 +30,8 @@ public class GeneralEntityWalkToProxy extends AbstractWalkToProxy
     @Override
     public Set<BlockPos> getWayPoints()
     {
-        final EntityLiving living = getEntity();
-
-        final Colony colony = ColonyManager.getClosestColony(living.getEntityWorld(), living.getPosition());
-
-        if (colony == null || !colony.isCoordInColony(living.getEntityWorld(), living.getPosition()))
+        final Colony colony = getColony();
+        if (colony == null)
         {
             return Collections.emptySet();
         }
@@ -41,6 +39,45 @@ public class GeneralEntityWalkToProxy extends AbstractWalkToProxy
         return colony.getWayPoints().keySet();
     }
 
+    @Nullable
+    @Override
+    public List<BlockPos> getRoute(final BlockPos start, final BlockPos target)
+    {
+        final Colony colony = getColony();
+        if (colony == null)
+        {
+            return null;
+        }
+        return colony.getBuildingManager().getRoadNetwork().findRoute(start, target);
+    }
+
+    @Override
+    public void onSegmentWalked(final BlockPos from, final BlockPos to, final int pathLength)
+    {
+        final Colony colony = getColony();
+        if (colony != null)
+        {
+            colony.getBuildingManager().getRoadNetwork().reportSegmentCost(from, to, pathLength);
+        }
+    }
+
+    /**
+     * Get the colony the entity is in.
+     *
+     * @return the colony or null if it is not inside of one.
+     */
+    @Nullable
+    private Colony getColony()
+    {
+        final EntityLiving living = getEntity();
+        final Colony colony = ColonyManager.getClosestColony(living.getEntityWorld(), living.getPosition());
+        if (colony == null || !colony.isCoordInColony(living.getEntityWorld(), living.getPosition()))
+        {
+            return null;
+        }
+        return colony;
+    }
+
     @Override
     public boolean careAboutY()
     {
@@ -0,0 +1,454 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Per world cache of computed paths which reached their destination.
+ * <p>
+ * Paths are keyed on a quantized start, the exact destination and the type of the entity. Every block change stamps the
+ * chunk section it happened in with a running counter, and a path is only handed out again while none of the sections it
+ * passes through got stamped after the path was requested. All methods are meant to be called from the server thread.
+ */
+public final class PathCache
+{
+    /**
+     * Amount of paths kept per world, least recently used are dropped first.
+     */
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * Amount of section stamps above which the stamps older than all cached paths are dropped.
+     */
+    private static final int MAX_SECTION_STAMPS = 8192;
+
+    /**
+     * Shift to quantize the start position on the x and z axis, 2 blocks.
+     */
+    private static final int START_SHIFT = 1;
+
+    /**
+     * Shift from block to chunk section coordinates.
+     */
+    private static final int SECTION_SHIFT = 4;
+
+    /**
+     * The caches by dimension.
+     */
+    private static final Map<Integer, PathCache> caches = new HashMap<>();
+
+    /**
+     * Cached paths by key.
+     */
+    private final Map<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest)
+        {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Stamp of the last change of each chunk section which changed since the cache exists.
+     */
+    private final Map<Long, Long> sectionStamps = new HashMap<>();
+
+    /**
+     * Running counter of block changes.
+     */
+    private long changeCounter = 0;
+
+    /**
+     * Stamps up to this one were dropped, requests created before can't be checked anymore and aren't cached.
+     */
+    private long prunedStamp = 0;
+
+    /**
+     * Amount of lookups which returned a path.
+     */
+    private long hits = 0;
+
+    /**
+     * Amount of lookups which found no usable path.
+     */
+    private long misses = 0;
+
+    /**
+     * Amount of paths dropped because the blocks along them changed.
+     */
+    private long invalidations = 0;
+
+    /**
+     * Use {@link #forWorld(World)}.
+     */
+    private PathCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the cache of a world.
+     *
+     * @param world the world.
+     * @return the cache or null on the client side.
+     */
+    @Nullable
+    public static PathCache forWorld(@NotNull final World world)
+    {
+        if (world.isRemote)
+        {
+            return null;
+        }
+        return caches.computeIfAbsent(world.provider.getDimension(), dimension -> new PathCache());
+    }
+
+    /**
+     * Stamp the chunk section of a changed block.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (world.isRemote)
+        {
+            return;
+        }
+
+        final PathCache cache = caches.get(world.provider.getDimension());
+        if (cache != null)
+        {
+            cache.changeCounter++;
+            cache.sectionStamps.put(getSection(pos.getX(), pos.getY(), pos.getZ()), cache.changeCounter);
+            if (cache.sectionStamps.size() > MAX_SECTION_STAMPS)
+            {
+                cache.pruneStamps();
+            }
+        }
+    }
+
+    /**
+     * Drop the section stamps which can't invalidate any cached path anymore.
+     * Stamps not newer than the oldest cached path are useless, when that isn't enough to halve the stamps the oldest
+     * paths are dropped together with the older half of the stamps.
+     */
+    private void pruneStamps()
+    {
+        final long[] stamps = new long[sectionStamps.size()];
+        int index = 0;
+        for (final long stamp : sectionStamps.values())
+        {
+            stamps[index++] = stamp;
+        }
+        Arrays.sort(stamps);
+
+        long threshold = stamps[stamps.length - MAX_SECTION_STAMPS / 2 - 1];
+        long oldestEntry = changeCounter;
+        for (final Entry entry : entries.values())
+        {
+            oldestEntry = Math.min(oldestEntry, entry.stamp);
+        }
+        threshold = Math.max(threshold, oldestEntry);
+
+        final long limit = threshold;
+        entries.values().removeIf(entry -> entry.stamp < limit);
+        sectionStamps.values().removeIf(stamp -> stamp <= limit);
+        prunedStamp = limit;
+    }
+
+    /**
+     * Drop the cache of an unloading world.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        if (!world.isRemote)
+        {
+            caches.remove(world.provider.getDimension());
+        }
+    }
+
+    /**
+     * Create a request for the path between two positions, stamped with the current state of the world.
+     *
+     * @param start  the start position.
+     * @param end    the destination.
+     * @param entity the entity which is going to walk.
+     * @return the request.
+     */
+    @NotNull
+    public Request newRequest(@NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final EntityLiving entity)
+    {
+        return new Request(new Key(start, end, entity), changeCounter);
+    }
+
+    /**
+     * Get a copy of the cached path of a request.
+     *
+     * @param request the request.
+     * @return the path or null if none is cached or the cached one is outdated.
+     */
+    @Nullable
+    public Path get(@NotNull final Request request)
+    {
+        final Entry entry = entries.get(request.key);
+        if (entry == null)
+        {
+            misses++;
+            return null;
+        }
+
+        for (final long section : entry.sections)
+        {
+            final Long stamp = sectionStamps.get(section);
+            if (stamp != null && stamp > entry.stamp)
+            {
+                entries.remove(request.key);
+                invalidations++;
+                misses++;
+                return null;
+            }
+        }
+
+        hits++;
+        return copy(entry.path);
+    }
+
+    /**
+     * Store the path computed for a request.
+     *
+     * @param request the request the path was computed for.
+     * @param path    the path, which has to reach the destination.
+     */
+    public void put(@NotNull final Request request, @NotNull final Path path)
+    {
+        if (path.getCurrentPathLength() <= 0 || request.stamp < prunedStamp)
+        {
+            return;
+        }
+
+        final Set<Long> sections = new HashSet<>();
+        for (int i = 0; i < path.getCurrentPathLength(); i++)
+        {
+            final PathPoint point = path.getPathPointFromIndex(i);
+            sections.add(getSection(point.x, point.y - 1, point.z));
+            sections.add(getSection(point.x, point.y, point.z));
+            sections.add(getSection(point.x, point.y + 1, point.z));
+        }
+
+        final long[] sectionArray = new long[sections.size()];
+        int index = 0;
+        for (final long section : sections)
+        {
+            sectionArray[index++] = section;
+        }
+        entries.put(request.key, new Entry(copy(path), sectionArray, request.stamp));
+    }
+
+    /**
+     * Get the amount of lookups which returned a path.
+     *
+     * @return the amount.
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Get the amount of lookups which found no usable path.
+     *
+     * @return the amount.
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Get the amount of paths dropped because the blocks along them changed.
+     *
+     * @return the amount.
+     */
+    public long getInvalidations()
+    {
+        return invalidations;
+    }
+
+    /**
+     * Get the amount of cached paths.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Copy a path so that following it doesn't change the cached one.
+     *
+     * @param path the path.
+     * @return the copy.
+     */
+    @NotNull
+    private static Path copy(@NotNull final Path path)
+    {
+        final PathPointExtended[] points = new PathPointExtended[path.getCurrentPathLength()];
+        for (int i = 0; i < points.length; i++)
+        {
+            final PathPoint point = path.getPathPointFromIndex(i);
+            points[i] = new PathPointExtended(new BlockPos(point.x, point.y, point.z));
+            if (point instanceof PathPointExtended)
+            {
+                points[i].setOnLadder(((PathPointExtended) point).isOnLadder());
+                points[i].setLadderFacing(((PathPointExtended) point).getLadderFacing());
+            }
+        }
+        return new Path(points);
+    }
+
+    /**
+     * Get the key of the chunk section of a position.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the key.
+     */
+    private static long getSection(final int x, final int y, final int z)
+    {
+        return new BlockPos(x >> SECTION_SHIFT, y >> SECTION_SHIFT, z >> SECTION_SHIFT).toLong();
+    }
+
+    /**
+     * A pending lookup, remembers the state of the world it was created at.
+     */
+    public static final class Request
+    {
+        /**
+         * The key of the path.
+         */
+        private final Key key;
+
+        /**
+         * The change counter at creation.
+         */
+        private final long stamp;
+
+        /**
+         * Create a request.
+         *
+         * @param key   the key of the path.
+         * @param stamp the change counter at creation.
+         */
+        private Request(@NotNull final Key key, final long stamp)
+        {
+            this.key = key;
+            this.stamp = stamp;
+        }
+    }
+
+    /**
+     * Key of a cached path.
+     */
+    private static final class Key
+    {
+        /**
+         * The start, quantized on the x and z axis.
+         */
+        private final BlockPos start;
+
+        /**
+         * The exact destination.
+         */
+        private final BlockPos end;
+
+        /**
+         * The type of the entity, which defines its movement capabilities.
+         */
+        private final Class<?> entityType;
+
+        /**
+         * Create a key.
+         *
+         * @param start  the exact start.
+         * @param end    the destination.
+         * @param entity the entity.
+         */
+        private Key(@NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final EntityLiving entity)
+        {
+            this.start = new BlockPos(start.getX() >> START_SHIFT, start.getY(), start.getZ() >> START_SHIFT);
+            this.end = end.toImmutable();
+            this.entityType = entity.getClass();
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final Key key = (Key) o;
+            return start.equals(key.start) && end.equals(key.end) && entityType == key.entityType;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(start, end, entityType);
+        }
+    }
+
+    /**
+     * A cached path.
+     */
+    private static final class Entry
+    {
+        /**
+         * The path.
+         */
+        private final Path path;
+
+        /**
+         * The chunk sections the path depends on.
+         */
+        private final long[] sections;
+
+        /**
+         * The change counter when the path was requested.
+         */
+        private final long stamp;
+
+        /**
+         * Create an entry.
+         *
+         * @param path     the path.
+         * @param sections the chunk sections the path depends on.
+         * @param stamp    the change counter when the path was requested.
+         */
+        private Entry(@NotNull final Path path, @NotNull final long[] sections, final long stamp)
+        {
+            this.path = path;
+            this.sections = sections;
+            this.stamp = stamp;
+        }
+    }
+}
@@ -6,7 +6,10 @@ import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.coremod.entity.ai.mobs.pirates.AbstractEntityPirate;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
@@ -45,6 +48,12 @@ public class PathNavigate extends PathNavigateGround
     @Nullable
     private PathResult   pathResult;
 
+    /**
+     * The path cache request of the running job, null if its result is not going to be cached.
+     */
+    @Nullable
+    private PathCache.Request cacheRequest;
+
     /**
      * Instantiates the navigation of an ourEntity.
      *
@@ -179,11 +188,53 @@ public class PathNavigate extends PathNavigateGround
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         @NotNull final BlockPos dest = new BlockPos(newX, newY, newZ);
 
+        final PathCache cache = PathCache.forWorld(CompatibilityUtils.getWorld(ourEntity));
+        if (cache != null)
+        {
+            final PathCache.Request request = cache.newRequest(start, dest, ourEntity);
+            final Path cachedPath = cache.get(request);
+            if (cachedPath != null)
+            {
+                return setCachedPath(cachedPath, dest, speed);
+            }
+
+            final PathResult result = setPathJob(
+              new PathJobMoveToLocation(CompatibilityUtils.getWorld(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity),
+              dest, speed);
+            cacheRequest = request;
+            return result;
+        }
+
         return setPathJob(
           new PathJobMoveToLocation(CompatibilityUtils.getWorld(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity),
           dest, speed);
     }
 
+    /**
+     * Follow a path taken from the path cache instead of running a job.
+     *
+     * @param path  the path.
+     * @param dest  the destination.
+     * @param speed the speed to walk.
+     * @return the already completed PathResult.
+     */
+    @NotNull
+    private PathResult setCachedPath(@NotNull final Path path, @NotNull final BlockPos dest, final double speed)
+    {
+        clearPath();
+
+        this.destination = dest;
+        this.originalDestination = dest;
+        this.walkSpeed = speed;
+
+        pathResult = new PathResult();
+        setPath(path, getSpeed());
+        pathResult.setPathLength(path.getCurrentPathLength());
+        pathResult.setPathReachesDestination(true);
+        pathResult.setStatus(PathResult.Status.IN_PROGRESS_FOLLOWING);
+        return pathResult;
+    }
+
     @Nullable
     private PathResult setPathJob(
       @NotNull final AbstractPathJob job,
@@ -196,11 +247,41 @@ public class PathNavigate extends PathNavigateGround
         this.originalDestination = dest;
         this.walkSpeed = speed;
 
-        future = Pathfinding.enqueue(job);
+        cacheRequest = null;
+        future = Pathfinding.enqueue(job, getPathPriority(job), ourEntity.getUniqueID());
         pathResult = job.getResult();
         return pathResult;
     }
 
+    /**
+     * Get the priority class of a path job of this entity.
+     *
+     * @param job the job.
+     * @return the priority class.
+     */
+    @NotNull
+    private PathPriority getPathPriority(@NotNull final AbstractPathJob job)
+    {
+        if (ourEntity instanceof AbstractEntityMinecoloniesMob || ourEntity.getAttackTarget() != null || job instanceof PathJobMoveAwayFromLocation)
+        {
+            return PathPriority.COMBAT;
+        }
+
+        if (ourEntity instanceof EntityCitizen)
+        {
+            final AbstractJob colonyJob = ((EntityCitizen) ourEntity).getCitizenJobHandler().getColonyJob();
+            if (colonyJob instanceof AbstractJobGuard)
+            {
+                return PathPriority.COMBAT;
+            }
+            if (colonyJob != null)
+            {
+                return PathPriority.WORK;
+            }
+        }
+        return PathPriority.WANDER;
+    }
+
     @Override
     public boolean setPath(@Nullable final Path path, final double speed)
     {
@@ -242,6 +323,19 @@ public class PathNavigate extends PathNavigateGround
                 return;
             }
 
+            if (future.isCancelled())
+            {
+                //  Dropped by the scheduler because it waited too long, the AI will ask again.
+                future = null;
+                cacheRequest = null;
+                if (pathResult != null)
+                {
+                    pathResult.setStatus(PathResult.Status.CANCELLED);
+                    pathResult = null;
+                }
+                return;
+            }
+
             try
             {
                 if (future.get() == null)
@@ -250,6 +344,16 @@ public class PathNavigate extends PathNavigateGround
                     return;
                 }
 
+                if (cacheRequest != null && pathResult.isPathReachingDestination())
+                {
+                    final PathCache cache = PathCache.forWorld(CompatibilityUtils.getWorld(ourEntity));
+                    if (cache != null)
+                    {
+                        cache.put(cacheRequest, future.get());
+                    }
+                }
+                cacheRequest = null;
+
                 setPath(future.get(), getSpeed());
 
                 pathResult.setPathLength(getPath().getCurrentPathLength());
@@ -416,6 +520,7 @@ public class PathNavigate extends PathNavigateGround
             pathResult = null;
         }
 
+        cacheRequest = null;
         destination = null;
         super.clearPath();
     }
@@ -0,0 +1,47 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Priority classes of path jobs, ordered from most to least urgent.
+ */
+public enum PathPriority
+{
+    /**
+     * Fighting and fleeing entities.
+     */
+    COMBAT(1000),
+
+    /**
+     * Citizens going about their job.
+     */
+    WORK(5000),
+
+    /**
+     * Idle entities walking around.
+     */
+    WANDER(3000);
+
+    /**
+     * Milliseconds a job may wait in the queue before its result is considered too late.
+     */
+    private final long maxWaitMillis;
+
+    /**
+     * Create a priority class.
+     *
+     * @param maxWaitMillis milliseconds a job may wait in the queue.
+     */
+    PathPriority(final long maxWaitMillis)
+    {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * Get the milliseconds a job may wait in the queue before its result is considered too late.
+     *
+     * @return the milliseconds.
+     */
+    public long getMaxWaitMillis()
+    {
+        return maxWaitMillis;
+    }
+}
@@ -14,23 +14,74 @@ import net.minecraft.pathfinding.Path;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Static class the handles all the Pathfinding.
+ * <p>
+ * Jobs are run by priority class and in submission order within a class. A new job of an entity cancels the job it still
+ * has queued or running, and jobs which waited longer than their class allows are dropped when a thread picks them up.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
+    private static final BlockingQueue<Runnable> jobQueue = new PriorityBlockingQueue<>();
     private static final ThreadPoolExecutor executor;
     static
     {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+        executor = new ThreadPoolExecutor(Configurations.pathfinding.pathfindingMaxThreadCount, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue)
+        {
+            @Override
+            protected void beforeExecute(final Thread thread, final Runnable runnable)
+            {
+                super.beforeExecute(thread, runnable);
+                if (runnable instanceof PathJobTask)
+                {
+                    ((PathJobTask) runnable).onStart();
+                }
+            }
+        };
+        executor.allowCoreThreadTimeOut(true);
     }
+
+    /**
+     * The queued or running job of each entity.
+     */
+    private static final Map<UUID, PathJobTask> jobsByEntity = new ConcurrentHashMap<>();
+
+    /**
+     * Running counter to keep the submission order within a priority class.
+     */
+    private static final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Amount of jobs which were started, by priority.
+     */
+    private static final AtomicLongArray startedJobs = new AtomicLongArray(PathPriority.values().length);
+
+    /**
+     * Summed queue wait of the started jobs in milliseconds, by priority.
+     */
+    private static final AtomicLongArray waitMillis = new AtomicLongArray(PathPriority.values().length);
+
+    /**
+     * Amount of jobs cancelled by their entity, because it submitted a new one or dropped its path, by priority.
+     */
+    private static final AtomicLongArray coalescedJobs = new AtomicLongArray(PathPriority.values().length);
+
+    /**
+     * Amount of jobs dropped because they waited too long, by priority.
+     */
+    private static final AtomicLongArray expiredJobs = new AtomicLongArray(PathPriority.values().length);
+
     private Pathfinding()
     {
         //Hides default constructor.
@@ -44,7 +95,189 @@ public final class Pathfinding
      */
     public static Future<Path> enqueue(@NotNull final AbstractPathJob job)
     {
-        return executor.submit(job);
+        return enqueue(job, PathPriority.WORK, null);
+    }
+
+    /**
+     * Add a job to the queue for processing, replacing the pending job of its entity.
+     *
+     * @param job      PathJob
+     * @param priority the priority class of the job.
+     * @param owner    the entity the path is for, null if the job should not replace other jobs.
+     * @return a Future containing the Path
+     */
+    public static Future<Path> enqueue(@NotNull final AbstractPathJob job, @NotNull final PathPriority priority, @Nullable final UUID owner)
+    {
+        final PathJobTask task = new PathJobTask(job, priority, owner);
+        if (owner != null)
+        {
+            final PathJobTask previous = jobsByEntity.put(owner, task);
+            if (previous != null)
+            {
+                previous.cancel(true);
+            }
+        }
+
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Get the amount of jobs waiting for a thread.
+     *
+     * @return the amount.
+     */
+    public static int getQueueDepth()
+    {
+        return jobQueue.size();
+    }
+
+    /**
+     * Get the amount of jobs of a priority class which were started.
+     *
+     * @param priority the priority class.
+     * @return the amount.
+     */
+    public static long getStartedJobs(@NotNull final PathPriority priority)
+    {
+        return startedJobs.get(priority.ordinal());
+    }
+
+    /**
+     * Get the average time jobs of a priority class waited in the queue.
+     *
+     * @param priority the priority class.
+     * @return the average in milliseconds, 0 if none was started yet.
+     */
+    public static double getAverageWaitMillis(@NotNull final PathPriority priority)
+    {
+        final long started = startedJobs.get(priority.ordinal());
+        return started == 0 ? 0 : (double) waitMillis.get(priority.ordinal()) / started;
+    }
+
+    /**
+     * Get the amount of jobs of a priority class which got cancelled by their entity, by a newer job or by clearing its path.
+     *
+     * @param priority the priority class.
+     * @return the amount.
+     */
+    public static long getCoalescedJobs(@NotNull final PathPriority priority)
+    {
+        return coalescedJobs.get(priority.ordinal());
+    }
+
+    /**
+     * Get the amount of jobs of a priority class which were dropped because they waited too long.
+     *
+     * @param priority the priority class.
+     * @return the amount.
+     */
+    public static long getExpiredJobs(@NotNull final PathPriority priority)
+    {
+        return expiredJobs.get(priority.ordinal());
+    }
+
+    /**
+     * A queued path job, ordered by priority class and then by submission.
+     */
+    private static final class PathJobTask extends FutureTask<Path> implements Comparable<PathJobTask>
+    {
+        /**
+         * The priority class.
+         */
+        private final PathPriority priority;
+
+        /**
+         * The entity the path is for, or null.
+         */
+        @Nullable
+        private final UUID owner;
+
+        /**
+         * Submission order.
+         */
+        private final long order;
+
+        /**
+         * Time of submission.
+         */
+        private final long submitMillis;
+
+        /**
+         * If the job got dropped because it waited too long.
+         */
+        private volatile boolean expired = false;
+
+        /**
+         * Create a task.
+         *
+         * @param job      the job.
+         * @param priority the priority class.
+         * @param owner    the entity the path is for, or null.
+         */
+        private PathJobTask(@NotNull final AbstractPathJob job, @NotNull final PathPriority priority, @Nullable final UUID owner)
+        {
+            super(job);
+            this.priority = priority;
+            this.owner = owner;
+            this.order = sequence.getAndIncrement();
+            this.submitMillis = System.currentTimeMillis();
+        }
+
+        /**
+         * Called by the pool thread right before running the job, drops it if it waited too long.
+         */
+        private void onStart()
+        {
+            if (isDone())
+            {
+                return;
+            }
+
+            final long waited = System.currentTimeMillis() - submitMillis;
+            if (waited > priority.getMaxWaitMillis())
+            {
+                expired = true;
+                if (cancel(false))
+                {
+                    expiredJobs.incrementAndGet(priority.ordinal());
+                }
+                return;
+            }
+
+            startedJobs.incrementAndGet(priority.ordinal());
+            waitMillis.addAndGet(priority.ordinal(), waited);
+        }
+
+        /**
+         * Called once the job finished or got cancelled.
+         * A cancelled job leaves the queue right away, the entity may have cancelled it through its navigator before
+         * submitting the next one, so it is counted here and not where the next job is submitted.
+         */
+        @Override
+        protected void done()
+        {
+            if (owner != null)
+            {
+                jobsByEntity.remove(owner, this);
+            }
+
+            if (isCancelled())
+            {
+                jobQueue.remove(this);
+                if (!expired)
+                {
+                    coalescedJobs.incrementAndGet(priority.ordinal());
+                }
+            }
+        }
+
+        @Override
+        public int compareTo(@NotNull final PathJobTask other)
+        {
+            final int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(order, other.order);
+        }
     }
 
     /**
@@ -154,6 +154,7 @@ public class EventHandler
         if (event.getWorld() instanceof WorldServer)
         {
             ChunkDataHelper.loadChunk(event.getChunk(), event.getWorld());
+            ColonyManager.onChunkLoad(event.getWorld(), event.getChunk());
         }
     }
 
@@ -180,6 +181,7 @@ public class EventHandler
 
             MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(newCloseColonies, newChunk.x, newChunk.z));
             @NotNull final EntityPlayerMP player = (EntityPlayerMP) entity;
+            ColonyManager.onPlayerEnteredChunk(player);
             final Chunk oldChunk = world.getChunk(event.getOldChunkX(), event.getOldChunkZ());
             final IColonyTagCapability oldCloseColonies = oldChunk.getCapability(CLOSE_COLONY_CAP, null);
 
@@ -285,6 +287,52 @@ public class EventHandler
             itemstack.setTagCompound(compound);
 
             event.setCanceled(true);
+            return;
+        }
+        onFieldBlockChanged(event.getWorld(), event.getPos());
+    }
+
+    /**
+     * Event when a block is placed.
+     * Marks the cell of a colony field at the position for re-evaluation.
+     *
+     * @param event {@link net.minecraftforge.event.world.BlockEvent.PlaceEvent}
+     */
+    @SubscribeEvent
+    public void onBlockPlace(@NotNull final BlockEvent.PlaceEvent event)
+    {
+        onFieldBlockChanged(event.getWorld(), event.getPos());
+    }
+
+    /**
+     * Event when a crop grew.
+     * Marks the cell of a colony field at the position for re-evaluation.
+     *
+     * @param event {@link net.minecraftforge.event.world.BlockEvent.CropGrowEvent.Post}
+     */
+    @SubscribeEvent
+    public void onCropGrow(@NotNull final BlockEvent.CropGrowEvent.Post event)
+    {
+        onFieldBlockChanged(event.getWorld(), event.getPos());
+    }
+
+    /**
+     * Forward a block change to the fields of the colony at the position.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    private static void onFieldBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (world.isRemote)
+        {
+            return;
+        }
+
+        final Colony colony = ColonyManager.getColonyByPosFromWorld(world, pos);
+        if (colony != null)
+        {
+            colony.getBuildingManager().onFieldBlockChanged(world, pos);
         }
     }
 
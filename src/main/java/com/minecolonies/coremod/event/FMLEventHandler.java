@@ -76,6 +76,49 @@ public class FMLEventHandler
             // This automatically reloads the owner of the colony if failed.
             ColonyManager.getIColonyByOwner(((EntityPlayerMP) event.player).getServerWorld(), event.player);
             //ColonyManager.syncAllColoniesAchievements();
+            ColonyManager.markAllSubscribersDirty();
+        }
+    }
+
+    /**
+     * Called when a player logs out, the colonies look up their subscribers again.
+     *
+     * @param event {@link net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedOutEvent}
+     */
+    @SubscribeEvent
+    public void onPlayerLogout(@NotNull final PlayerEvent.PlayerLoggedOutEvent event)
+    {
+        if (event.player instanceof EntityPlayerMP)
+        {
+            ColonyManager.markAllSubscribersDirty();
+        }
+    }
+
+    /**
+     * Called when a player respawns, the colonies look up their subscribers again as the player entity got replaced.
+     *
+     * @param event {@link net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerRespawnEvent}
+     */
+    @SubscribeEvent
+    public void onPlayerRespawn(@NotNull final PlayerEvent.PlayerRespawnEvent event)
+    {
+        if (event.player instanceof EntityPlayerMP)
+        {
+            ColonyManager.markAllSubscribersDirty();
+        }
+    }
+
+    /**
+     * Called when a player changes dimension, the colonies look up their subscribers again.
+     *
+     * @param event {@link net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerChangedDimensionEvent}
+     */
+    @SubscribeEvent
+    public void onPlayerChangedDimension(@NotNull final PlayerEvent.PlayerChangedDimensionEvent event)
+    {
+        if (event.player instanceof EntityPlayerMP)
+        {
+            ColonyManager.markAllSubscribersDirty();
         }
     }
 
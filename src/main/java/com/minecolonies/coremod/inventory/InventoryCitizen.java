@@ -75,6 +75,14 @@ public class InventoryCitizen implements IInventory
      * The citizen which owns the inventory.
      */
     private CitizenData citizen;
+    /**
+     * The item counts of the main inventory.
+     */
+    private final ItemCountIndex itemCountIndex = new ItemCountIndex();
+    /**
+     * Whether the inventory changed since the item counts were synced.
+     */
+    private boolean itemCountIndexDirty = true;
 
     /**
      * Creates the inventory of the citizen.
@@ -297,6 +305,7 @@ public class InventoryCitizen implements IInventory
     @Override
     public ItemStack decrStackSize(final int index, final int count)
     {
+        itemCountIndexDirty = true;
         List<ItemStack> list = null;
         int tempIndex = index;
         for (final NonNullList<ItemStack> nonnulllist : this.allInventories)
@@ -322,6 +331,7 @@ public class InventoryCitizen implements IInventory
     @Override
     public ItemStack removeStackFromSlot(final int index)
     {
+        itemCountIndexDirty = true;
         NonNullList<ItemStack> nonnulllist = null;
         int tempIndex = index;
         for (final NonNullList<ItemStack> nonnulllist1 : this.allInventories)
@@ -356,6 +366,7 @@ public class InventoryCitizen implements IInventory
     @Override
     public void setInventorySlotContents(final int index, final ItemStack stack)
     {
+        itemCountIndexDirty = true;
         NonNullList<ItemStack> nonnulllist = null;
         int tempIndex = index;
         for (final NonNullList<ItemStack> nonnulllist1 : this.allInventories)
@@ -393,6 +404,7 @@ public class InventoryCitizen implements IInventory
     @Override
     public void markDirty()
     {
+        itemCountIndexDirty = true;
         this.inventoryChanged = true;
         if (this.citizen != null)
         {
@@ -512,6 +524,7 @@ public class InventoryCitizen implements IInventory
     @Override
     public void clear()
     {
+        itemCountIndexDirty = true;
         for (final List<ItemStack> list : this.allInventories)
         {
             list.clear();
@@ -526,6 +539,7 @@ public class InventoryCitizen implements IInventory
      */
     public boolean addItemStackToInventory(final ItemStack itemStackIn)
     {
+        itemCountIndexDirty = true;
         if (itemStackIn.isEmpty())
         {
             return false;
@@ -707,6 +721,7 @@ public class InventoryCitizen implements IInventory
      */
     public void deleteStack(final ItemStack stack)
     {
+        itemCountIndexDirty = true;
         for (final NonNullList<ItemStack> nonnulllist : this.allInventories)
         {
             for (int i = 0; i < nonnulllist.size(); ++i)
@@ -798,6 +813,7 @@ public class InventoryCitizen implements IInventory
      */
     public void readFromNBT(final NBTTagList nbtTagListIn)
     {
+        itemCountIndexDirty = true;
         this.mainInventory.clear();
         this.armorInventory.clear();
         this.offHandInventory.clear();
@@ -826,6 +842,22 @@ public class InventoryCitizen implements IInventory
         }
     }
 
+    /**
+     * Get the item counts of the main inventory, synced after the inventory changed.
+     *
+     * @return the index.
+     */
+    @NotNull
+    public ItemCountIndex getItemCountIndex()
+    {
+        if (itemCountIndexDirty)
+        {
+            itemCountIndexDirty = false;
+            itemCountIndex.sync(this);
+        }
+        return itemCountIndex;
+    }
+
     /**
      * Stack helds by mouse, used in GUI and Containers
      *
@@ -0,0 +1,302 @@
+package com.minecolonies.coremod.inventory;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntityFurnace;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The amount of items in one inventory, by item and by a few common categories.
+ * <p>
+ * The index keeps a snapshot of the item, damage and size of every slot. A sync compares the inventory with the snapshot
+ * and only updates the slots which changed, the category predicates only run for a slot which got a different item.
+ * The counts are read without touching the inventory at all. The owner of the inventory syncs the index after its
+ * content changed, changes which bypass the owner are picked up by the next sync. Code which shrinks or damages a stack
+ * in place has to set it into its slot again, or the owner won't notice and keeps the old counts until another change.
+ */
+public class ItemCountIndex
+{
+    /**
+     * The damage value which matches any damage.
+     */
+    public static final int ANY_DAMAGE = -1;
+
+    /**
+     * Categories of items the AI asks for often, counted next to the items themselves.
+     */
+    public enum Category
+    {
+        FUEL(TileEntityFurnace::isItemFuel),
+        FOOD(ItemStackUtils.ISFOOD),
+        EDIBLE(ItemStackUtils.CAN_EAT),
+        COOKABLE(ItemStackUtils.ISCOOKABLE);
+
+        /**
+         * The predicate a stack of the category matches.
+         */
+        private final Predicate<ItemStack> predicate;
+
+        /**
+         * Create a category.
+         *
+         * @param predicate the predicate a stack of the category matches.
+         */
+        Category(@NotNull final Predicate<ItemStack> predicate)
+        {
+            this.predicate = predicate;
+        }
+
+        /**
+         * Get the predicate a stack of the category matches.
+         *
+         * @return the predicate.
+         */
+        @NotNull
+        public Predicate<ItemStack> getPredicate()
+        {
+            return predicate;
+        }
+    }
+
+    /**
+     * The item in each slot, null if empty.
+     */
+    private Item[] items = new Item[0];
+
+    /**
+     * The damage of the stack in each slot.
+     */
+    private int[] damages = new int[0];
+
+    /**
+     * The size of the stack in each slot.
+     */
+    private int[] sizes = new int[0];
+
+    /**
+     * The categories of the stack in each slot, one bit per category ordinal.
+     */
+    private int[] categories = new int[0];
+
+    /**
+     * The amount by item and damage.
+     */
+    private final Map<Item, Map<Integer, Integer>> countByDamage = new HashMap<>();
+
+    /**
+     * The amount by item, for any damage.
+     */
+    private final Map<Item, Integer> countByItem = new HashMap<>();
+
+    /**
+     * The amount by category ordinal.
+     */
+    private final int[] countByCategory = new int[Category.values().length];
+
+    /**
+     * Sync the index with an item handler.
+     *
+     * @param handler the handler.
+     */
+    public void sync(@NotNull final IItemHandler handler)
+    {
+        resize(handler.getSlots());
+        for (int slot = 0; slot < handler.getSlots(); slot++)
+        {
+            update(slot, handler.getStackInSlot(slot));
+        }
+    }
+
+    /**
+     * Sync the index with an inventory.
+     *
+     * @param inventory the inventory.
+     */
+    public void sync(@NotNull final IInventory inventory)
+    {
+        resize(inventory.getSizeInventory());
+        for (int slot = 0; slot < inventory.getSizeInventory(); slot++)
+        {
+            update(slot, inventory.getStackInSlot(slot));
+        }
+    }
+
+    /**
+     * Update a single slot.
+     *
+     * @param slot  the slot.
+     * @param stack the stack now in the slot.
+     */
+    public void update(final int slot, @Nullable final ItemStack stack)
+    {
+        if (slot >= items.length)
+        {
+            resize(slot + 1);
+        }
+
+        final boolean empty = ItemStackUtils.isEmpty(stack);
+        final Item item = empty ? null : stack.getItem();
+        final int damage = empty ? 0 : stack.getItemDamage();
+        final int size = empty ? 0 : ItemStackUtils.getSize(stack);
+        if (items[slot] == item && damages[slot] == damage && sizes[slot] == size)
+        {
+            return;
+        }
+
+        final boolean sameItem = items[slot] == item && damages[slot] == damage;
+        remove(slot);
+        if (item == null)
+        {
+            return;
+        }
+
+        if (!sameItem)
+        {
+            categories[slot] = getCategories(stack);
+        }
+        items[slot] = item;
+        damages[slot] = damage;
+        sizes[slot] = size;
+        add(slot);
+    }
+
+    /**
+     * Get the amount of an item.
+     *
+     * @param item   the item.
+     * @param damage the damage value, or {@link #ANY_DAMAGE}.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final Item item, final int damage)
+    {
+        if (damage == ANY_DAMAGE)
+        {
+            return countByItem.getOrDefault(item, 0);
+        }
+
+        final Map<Integer, Integer> counts = countByDamage.get(item);
+        return counts == null ? 0 : counts.getOrDefault(damage, 0);
+    }
+
+    /**
+     * Get the amount of items of a category.
+     *
+     * @param category the category.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final Category category)
+    {
+        return countByCategory[category.ordinal()];
+    }
+
+    /**
+     * Change the amount of slots, dropping the slots past the new size.
+     *
+     * @param size the new amount of slots.
+     */
+    private void resize(final int size)
+    {
+        if (size == items.length)
+        {
+            return;
+        }
+
+        for (int slot = size; slot < items.length; slot++)
+        {
+            remove(slot);
+        }
+        items = Arrays.copyOf(items, size);
+        damages = Arrays.copyOf(damages, size);
+        sizes = Arrays.copyOf(sizes, size);
+        categories = Arrays.copyOf(categories, size);
+    }
+
+    /**
+     * Add the snapshot of a slot to the counts.
+     *
+     * @param slot the slot.
+     */
+    private void add(final int slot)
+    {
+        final Item item = items[slot];
+        final int size = sizes[slot];
+        countByItem.merge(item, size, Integer::sum);
+        countByDamage.computeIfAbsent(item, key -> new HashMap<>()).merge(damages[slot], size, Integer::sum);
+        for (final Category category : Category.values())
+        {
+            if ((categories[slot] & (1 << category.ordinal())) != 0)
+            {
+                countByCategory[category.ordinal()] += size;
+            }
+        }
+    }
+
+    /**
+     * Remove the snapshot of a slot from the counts and empty it, the categories are kept.
+     *
+     * @param slot the slot.
+     */
+    private void remove(final int slot)
+    {
+        final Item item = items[slot];
+        if (item == null)
+        {
+            return;
+        }
+
+        final int size = sizes[slot];
+        if (countByItem.merge(item, -size, Integer::sum) == 0)
+        {
+            countByItem.remove(item);
+        }
+
+        final Map<Integer, Integer> counts = countByDamage.get(item);
+        if (counts.merge(damages[slot], -size, Integer::sum) == 0)
+        {
+            counts.remove(damages[slot]);
+            if (counts.isEmpty())
+            {
+                countByDamage.remove(item);
+            }
+        }
+
+        for (final Category category : Category.values())
+        {
+            if ((categories[slot] & (1 << category.ordinal())) != 0)
+            {
+                countByCategory[category.ordinal()] -= size;
+            }
+        }
+
+        items[slot] = null;
+        sizes[slot] = 0;
+    }
+
+    /**
+     * Get the categories of a stack.
+     *
+     * @param stack the stack.
+     * @return one bit per category ordinal.
+     */
+    private static int getCategories(@NotNull final ItemStack stack)
+    {
+        int mask = 0;
+        for (final Category category : Category.values())
+        {
+            if (category.predicate.test(stack))
+            {
+                mask |= 1 << category.ordinal();
+            }
+        }
+        return mask;
+    }
+}
@@ -31,6 +31,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTUtil;
 import net.minecraft.stats.StatList;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
@@ -198,18 +199,19 @@ public class BuildToolPasteMessage extends AbstractMessage<BuildToolPasteMessage
             }
 
             InstantStructurePlacer.loadAndPlaceStructureWithRotation(player.world, message.structureName,
-              message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete);
-
-            if (message.isHut)
-            {
-                @Nullable final AbstractBuilding building = ColonyManager.getBuilding(CompatibilityUtils.getWorld(player), message.pos);
-                if (building != null)
-                {
-                    building.onUpgradeComplete(building.getBuildingLevel());
-                    final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(building, 1);
-                    ConstructionTapeHelper.removeConstructionTape(workOrder, CompatibilityUtils.getWorld(player));
-                }
-            }
+              message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete, () ->
+              {
+                  if (message.isHut)
+                  {
+                      @Nullable final AbstractBuilding building = ColonyManager.getBuilding(CompatibilityUtils.getWorld(player), message.pos);
+                      if (building != null)
+                      {
+                          building.onUpgradeComplete(building.getBuildingLevel());
+                          final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(building, 1);
+                          ConstructionTapeHelper.removeConstructionTape(workOrder, CompatibilityUtils.getWorld(player));
+                      }
+                  }
+              });
         }
         else if(message.freeMode !=  null )
         {
@@ -239,9 +241,12 @@ public class BuildToolPasteMessage extends AbstractMessage<BuildToolPasteMessage
             player.addStat(StatList.getObjectUseStats(ModItems.supplyChest));
             if(InventoryUtils.removeStacksFromItemHandler(new InvWrapper(player.inventory), stacks))
             {
-                InstantStructurePlacer.loadAndPlaceStructureWithRotation(player.world, message.structureName,
-                  message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete);
-                player.getServerWorld().setBlockState(message.pos.up(chestHeight), Blocks.CHEST.getDefaultState().withProperty(BlockChest.FACING, player.getHorizontalFacing()));
+                final EnumFacing facing = player.getHorizontalFacing();
+                final World world = player.getServerWorld();
+                // The chest is placed even if the structure isn't, the supply item is gone already.
+                final Runnable placeChest = () -> world.setBlockState(message.pos.up(chestHeight), Blocks.CHEST.getDefaultState().withProperty(BlockChest.FACING, facing));
+                InstantStructurePlacer.loadAndPlaceStructureWithRotation(world, message.structureName,
+                  message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete, placeChest, placeChest);
             }
             else
             {
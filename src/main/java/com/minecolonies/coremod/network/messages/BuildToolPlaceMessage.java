@@ -209,7 +209,7 @@ public class BuildToolPlaceMessage extends AbstractMessage<BuildToolPlaceMessage
                 world.setBlockState(buildPos, state.withRotation(BlockPosUtil.getRotationFromRotations(rotation)));
                 ((AbstractBlockHut) block).onBlockPlacedByBuildTool(world, buildPos, world.getBlockState(buildPos), player, null, mirror, sn.getStyle());
 
-                boolean complete = false;
+                boolean pasted = false;
                 int level = 0;
                 final int slot = InventoryUtils.findFirstSlotInItemHandlerWith(new InvWrapper(player.inventory), itemStack -> itemStack.isItemEqual(new ItemStack(Item.getItemFromBlock(block), 1)));
                 if (slot != -1)
@@ -227,14 +227,21 @@ public class BuildToolPlaceMessage extends AbstractMessage<BuildToolPlaceMessage
                             String schematic = sn.toString();
                             schematic = schematic.substring(0, schematic.length()-1);
                             schematic += level;
+                            final int pastedLevel = level;
                             InstantStructurePlacer.loadAndPlaceStructureWithRotation(player.world, schematic,
-                              buildPos, rotation,mirror ? Mirror.FRONT_BACK : Mirror.NONE, false);
-                            complete = true;
+                              buildPos, rotation,mirror ? Mirror.FRONT_BACK : Mirror.NONE, false,
+                              () -> setupBuilding(world, player, sn, rotation, buildPos, mirror, pastedLevel, true),
+                              () -> setupBuilding(world, player, sn, rotation, buildPos, mirror, pastedLevel, false));
+                            pasted = true;
                         }
                     }
                     player.inventory.clearMatchingItems(Item.getItemFromBlock(block), -1, 1, null);
                 }
-                setupBuilding(world, player, sn, rotation, buildPos, mirror, level, complete);
+
+                if (!pasted)
+                {
+                    setupBuilding(world, player, sn, rotation, buildPos, mirror, level, false);
+                }
             }
         }
         else
@@ -0,0 +1,275 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.coremod.blocks.huts.BlockHutField;
+import net.minecraft.block.*;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+
+/**
+ * Packed per cell state of a field, one bit per cell and state.
+ * <p>
+ * Cells are only re-evaluated after they have been marked dirty by a block change or by the farmer working them,
+ * and all cells are re-evaluated once in a while to catch changes which do not fire any event.
+ */
+public class FieldStateMap
+{
+    /**
+     * Interval in ticks after which all cells are evaluated again.
+     */
+    private static final long FULL_REFRESH_INTERVAL = TICKS_SECOND * 60L;
+
+    /**
+     * The states a cell of the field can be in.
+     */
+    public enum CellState
+    {
+        HOE,
+        PLANT,
+        /**
+         * Anything the farmer can harvest with compost at hand: growing crops and everything ripe, pumpkins and melons included.
+         */
+        CROP,
+        RIPE
+    }
+
+    /**
+     * The field this map belongs to.
+     */
+    private final ScarecrowTileEntity field;
+
+    /**
+     * Smallest x offset of the field relative to the scarecrow.
+     */
+    private final int minX;
+
+    /**
+     * Smallest z offset of the field relative to the scarecrow.
+     */
+    private final int minZ;
+
+    /**
+     * Amount of cells in x direction.
+     */
+    private final int sizeX;
+
+    /**
+     * Amount of cells in z direction.
+     */
+    private final int sizeZ;
+
+    /**
+     * The cells in each state, indexed row by row.
+     */
+    private final Map<CellState, BitSet> states = new EnumMap<>(CellState.class);
+
+    /**
+     * The cells which have to be evaluated again.
+     */
+    private final BitSet dirty;
+
+    /**
+     * World time of the last full refresh, negative if there was none yet.
+     */
+    private long lastFullRefresh = -1;
+
+    /**
+     * Create the state map of a field with its current size.
+     *
+     * @param field the field.
+     */
+    public FieldStateMap(@NotNull final ScarecrowTileEntity field)
+    {
+        this.field = field;
+        this.minX = -field.getLengthMinusX();
+        this.minZ = -field.getWidthMinusZ();
+        this.sizeX = field.getLengthMinusX() + field.getLengthPlusX() + 1;
+        this.sizeZ = field.getWidthMinusZ() + field.getWidthPlusZ() + 1;
+
+        for (final CellState state : CellState.values())
+        {
+            states.put(state, new BitSet(sizeX * sizeZ));
+        }
+        this.dirty = new BitSet(sizeX * sizeZ);
+    }
+
+    /**
+     * Check if the map still covers the current size of the field.
+     *
+     * @param field the field.
+     * @return true if so.
+     */
+    public boolean matches(@NotNull final ScarecrowTileEntity field)
+    {
+        return minX == -field.getLengthMinusX()
+                 && minZ == -field.getWidthMinusZ()
+                 && sizeX == field.getLengthMinusX() + field.getLengthPlusX() + 1
+                 && sizeZ == field.getWidthMinusZ() + field.getWidthPlusZ() + 1;
+    }
+
+    /**
+     * Mark the cell of a position dirty.
+     * Accepts the ground position as well as the crop position above it, other positions are ignored.
+     *
+     * @param worldPos the changed position.
+     */
+    public void markDirty(@NotNull final BlockPos worldPos)
+    {
+        final int dy = worldPos.getY() - field.getPos().getY();
+        if (dy == -1 || dy == 0)
+        {
+            final int index = getIndex(worldPos.getX() - field.getPos().getX(), worldPos.getZ() - field.getPos().getZ());
+            if (index >= 0)
+            {
+                dirty.set(index);
+            }
+        }
+    }
+
+    /**
+     * Get the offset of the next cell in a certain state.
+     *
+     * @param world the world.
+     * @param state the state to look for.
+     * @param after the offset to start after, null to start at the first cell.
+     * @return the offset relative to the scarecrow or null if no further cell is in that state.
+     */
+    @Nullable
+    public BlockPos getNextOffset(@NotNull final World world, @NotNull final CellState state, @Nullable final BlockPos after)
+    {
+        refresh(world);
+
+        int from = 0;
+        if (after != null)
+        {
+            from = getIndex(after.getX(), after.getZ()) + 1;
+            if (from <= 0)
+            {
+                return null;
+            }
+        }
+
+        final int index = states.get(state).nextSetBit(from);
+        if (index < 0 || index >= sizeX * sizeZ)
+        {
+            return null;
+        }
+        return new BlockPos(index % sizeX + minX, 0, index / sizeX + minZ);
+    }
+
+    /**
+     * Evaluate all dirty cells, and all cells if the last full refresh is too long ago.
+     *
+     * @param world the world.
+     */
+    private void refresh(@NotNull final World world)
+    {
+        final long time = world.getTotalWorldTime();
+        if (lastFullRefresh < 0 || time - lastFullRefresh >= FULL_REFRESH_INTERVAL)
+        {
+            dirty.set(0, sizeX * sizeZ);
+            lastFullRefresh = time;
+        }
+
+        for (int index = dirty.nextSetBit(0); index >= 0; index = dirty.nextSetBit(index + 1))
+        {
+            final BlockPos ground = field.getPos().add(index % sizeX + minX, -1, index / sizeX + minZ);
+            states.get(CellState.HOE).set(index, needsHoe(world, ground));
+            states.get(CellState.PLANT).set(index, needsPlanting(world, ground, field));
+            final boolean ripe = isRipe(world, ground);
+            states.get(CellState.CROP).set(index, ripe || hasCrop(world, ground));
+            states.get(CellState.RIPE).set(index, ripe);
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Get the index of a cell.
+     *
+     * @param x the x offset relative to the scarecrow.
+     * @param z the z offset relative to the scarecrow.
+     * @return the index or -1 if the offset is outside of the field.
+     */
+    private int getIndex(final int x, final int z)
+    {
+        final int column = x - minX;
+        final int row = z - minZ;
+        if (column < 0 || column >= sizeX || row < 0 || row >= sizeZ)
+        {
+            return -1;
+        }
+        return row * sizeX + column;
+    }
+
+    /**
+     * Checks if the ground should be hoed and the block above removed.
+     *
+     * @param world    the world.
+     * @param position the ground position.
+     * @return true if should be hoed.
+     */
+    public static boolean needsHoe(@NotNull final World world, @NotNull final BlockPos position)
+    {
+        final Block ground = world.getBlockState(position).getBlock();
+        return !BlockUtils.isBlockSeed(world, position.up())
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockHutField)
+                 && (ground instanceof BlockDirt || ground instanceof BlockGrass);
+    }
+
+    /**
+     * Checks if the ground should be planted.
+     *
+     * @param world    the world.
+     * @param position the ground position.
+     * @param field    the field of the position.
+     * @return true if should be planted.
+     */
+    public static boolean needsPlanting(@NotNull final World world, @NotNull final BlockPos position, @NotNull final ScarecrowTileEntity field)
+    {
+        final Block above = world.getBlockState(position.up()).getBlock();
+        final Block ground = world.getBlockState(position).getBlock();
+        return !field.isNoPartOfField(world, position) && !(above instanceof BlockCrops) && !(above instanceof BlockStem)
+                 && !(ground instanceof BlockHutField) && ground == Blocks.FARMLAND;
+    }
+
+    /**
+     * Checks if a crop grows on the ground.
+     *
+     * @param world    the world.
+     * @param position the ground position.
+     * @return true if so.
+     */
+    public static boolean hasCrop(@NotNull final World world, @NotNull final BlockPos position)
+    {
+        final Block above = world.getBlockState(position.up()).getBlock();
+        return above instanceof IGrowable && above instanceof BlockCrops;
+    }
+
+    /**
+     * Checks if the crop above the ground can be harvested.
+     *
+     * @param world    the world.
+     * @param position the ground position.
+     * @return true if so.
+     */
+    public static boolean isRipe(@NotNull final World world, @NotNull final BlockPos position)
+    {
+        final IBlockState state = world.getBlockState(position.up());
+        final Block above = state.getBlock();
+        if (above == Blocks.PUMPKIN || above == Blocks.MELON_BLOCK)
+        {
+            return true;
+        }
+        return above instanceof IGrowable && above instanceof BlockCrops && ((BlockCrops) above).isMaxAge(state);
+    }
+}
@@ -116,6 +116,12 @@ public class ScarecrowTileEntity extends TileEntityChest
      */
     private final IItemHandlerModifiable inventory = new ItemStackHandler(1);
 
+    /**
+     * State of the cells of the field, created lazily and not persisted.
+     */
+    @Nullable
+    private FieldStateMap fieldStates;
+
     /**
      * Creates an instance of the tileEntity.
      */
@@ -152,7 +158,7 @@ public class ScarecrowTileEntity extends TileEntityChest
      *
      * @return the max range.
      */
-    private static int getMaxRange()
+    public static int getMaxRange()
     {
         return MAX_RANGE;
     }
@@ -205,6 +211,34 @@ public class ScarecrowTileEntity extends TileEntityChest
         return world.isAirBlock(position) || world.getBlockState(position.up()).getMaterial().isSolid();
     }
 
+    /**
+     * Get the state of the cells of the field, recreated when the size of the field changed.
+     *
+     * @return the state map.
+     */
+    @NotNull
+    public FieldStateMap getFieldStates()
+    {
+        if (fieldStates == null || !fieldStates.matches(this))
+        {
+            fieldStates = new FieldStateMap(this);
+        }
+        return fieldStates;
+    }
+
+    /**
+     * Mark the cell of a changed position dirty so it is evaluated again before the farmer looks at it.
+     *
+     * @param changedPos the changed ground or crop position.
+     */
+    public void markCellDirty(@NotNull final BlockPos changedPos)
+    {
+        if (fieldStates != null)
+        {
+            fieldStates.markDirty(changedPos);
+        }
+    }
+
     /**
      * Returns the {@link BlockPos} of the current object, also used as ID.
      *
@@ -7,6 +7,7 @@ import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingContainer;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
+import com.minecolonies.coremod.inventory.ItemCountIndex;
 import com.minecolonies.coremod.inventory.api.CombinedItemHandler;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
@@ -79,6 +80,16 @@ public class TileEntityColonyBuilding extends TileEntityChest
      */
     private CombinedItemHandler combinedInv;
 
+    /**
+     * The item counts of the hut inventory.
+     */
+    private final ItemCountIndex itemCountIndex = new ItemCountIndex();
+
+    /**
+     * Whether the hut inventory changed since the item counts were synced.
+     */
+    private boolean itemCountIndexDirty = true;
+
     /**
      * Empty standard constructor.
      */
@@ -221,12 +232,37 @@ public class TileEntityColonyBuilding extends TileEntityChest
     public void markDirty()
     {
         super.markDirty();
+        itemCountIndexDirty = true;
         if (building != null)
         {
             building.markDirty();
         }
     }
 
+    @NotNull
+    @Override
+    public ItemStack removeStackFromSlot(final int index)
+    {
+        itemCountIndexDirty = true;
+        return super.removeStackFromSlot(index);
+    }
+
+    /**
+     * Get the item counts of the hut inventory, synced after the inventory changed.
+     *
+     * @return the index.
+     */
+    @NotNull
+    public ItemCountIndex getItemCountIndex()
+    {
+        if (itemCountIndexDirty)
+        {
+            itemCountIndexDirty = false;
+            itemCountIndex.sync(this);
+        }
+        return itemCountIndex;
+    }
+
     @Override
     public SPacketUpdateTileEntity getUpdatePacket()
     {
@@ -307,6 +343,7 @@ public class TileEntityColonyBuilding extends TileEntityChest
     public void readFromNBT(final NBTTagCompound compound)
     {
         super.readFromNBT(compound);
+        itemCountIndexDirty = true;
         if (compound.hasKey(TAG_COLONY))
         {
             colonyId = compound.getInteger(TAG_COLONY);
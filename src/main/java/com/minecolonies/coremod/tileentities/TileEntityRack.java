@@ -5,6 +5,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
 import com.minecolonies.coremod.blocks.types.RackType;
+import com.minecolonies.coremod.inventory.ItemCountIndex;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
@@ -39,6 +40,11 @@ public class TileEntityRack extends TileEntity
      */
     private final Map<ItemStorage, Integer> content = new HashMap<>();
 
+    /**
+     * The item counts of the inventory.
+     */
+    private final ItemCountIndex itemCountIndex = new ItemCountIndex();
+
     /**
      * Variable which determines if it is a single or doublechest.
      */
@@ -238,11 +244,23 @@ public class TileEntityRack extends TileEntity
             }
             content.put(storage, amount);
         }
+        itemCountIndex.sync(inventory);
 
         updateBlockState();
         markDirty();
     }
 
+    /**
+     * Get the item counts of the inventory, kept up to date with every content change.
+     *
+     * @return the index.
+     */
+    @NotNull
+    public ItemCountIndex getItemCountIndex()
+    {
+        return itemCountIndex;
+    }
+
     /**
      * Update the blockState of the rack.
      * Switch between connected, single, full and empty texture.
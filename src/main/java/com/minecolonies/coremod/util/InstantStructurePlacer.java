@@ -2,6 +2,7 @@ package com.minecolonies.coremod.util;
 
 import com.ldtteam.structures.helpers.Structure;
 import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.blocks.AbstractBlockHut;
@@ -20,16 +21,63 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Interface for using the structure codebase.
  */
 public final class InstantStructurePlacer extends com.ldtteam.structurize.util.InstantStructurePlacer
 {
+    /**
+     * Structures which are too big to be placed in one tick.
+     */
+    private static final List<InstantStructurePlacer> pendingPlacements = new ArrayList<>();
+
+    /**
+     * Placement handler per block state, null if no handler can handle it.
+     */
+    private final Map<IBlockState, IPlacementHandler> handlerCache = new HashMap<>();
+
+    /**
+     * Local indices of the blocks in placement order.
+     */
+    private int[] placementOrder = new int[0];
+
+    /**
+     * Position in the placement order.
+     */
+    private int cursor = 0;
+
+    /**
+     * World position of the local origin.
+     */
+    private BlockPos origin = BlockPos.ORIGIN;
+
+    /**
+     * If the structure is placed complete (with structure blocks).
+     */
+    private boolean complete = false;
+
+    /**
+     * The building the structure belongs to, resolved once per placement.
+     */
+    @Nullable
+    private AbstractBuilding building;
+
+    /**
+     * Called once all blocks and entities of the structure are placed, null if nobody waits for it.
+     */
+    @Nullable
+    private Runnable onPlaced;
+
+    /**
+     * Called instead of {@link #onPlaced} if the structure can't be loaded or placed completely, null if nobody waits for it.
+     */
+    @Nullable
+    private Runnable onAborted;
+
     /**
      * Load a structure into this world.
      *
@@ -56,10 +104,55 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
       final World worldObj, @NotNull final String name,
       @NotNull final BlockPos pos, final int rotations, @NotNull final Mirror mirror,
       final boolean complete)
+    {
+        loadAndPlaceStructureWithRotation(worldObj, name, pos, rotations, mirror, complete, null, null);
+    }
+
+    /**
+     * Load a structure into this world
+     * and place it in the right position and rotation.
+     * Large structures are placed over multiple ticks, work which needs the placed structure goes into the callback.
+     *
+     * @param worldObj  the world to load it in
+     * @param name      the structures name
+     * @param pos       coordinates
+     * @param rotations number of times rotated
+     * @param mirror    the mirror used.
+     * @param complete  paste it complete (with structure blocks) or without
+     * @param onPlaced  called once the structure is completely placed, not called if it fails to load or its world unloads first.
+     */
+    public static void loadAndPlaceStructureWithRotation(
+      final World worldObj, @NotNull final String name,
+      @NotNull final BlockPos pos, final int rotations, @NotNull final Mirror mirror,
+      final boolean complete, @Nullable final Runnable onPlaced)
+    {
+        loadAndPlaceStructureWithRotation(worldObj, name, pos, rotations, mirror, complete, onPlaced, null);
+    }
+
+    /**
+     * Load a structure into this world
+     * and place it in the right position and rotation.
+     * Large structures are placed over multiple ticks, work which needs the placed structure goes into the callback.
+     *
+     * @param worldObj  the world to load it in
+     * @param name      the structures name
+     * @param pos       coordinates
+     * @param rotations number of times rotated
+     * @param mirror    the mirror used.
+     * @param complete  paste it complete (with structure blocks) or without
+     * @param onPlaced  called once the structure is completely placed.
+     * @param onAborted called instead if the structure fails to load, fails while being placed or its world unloads first.
+     */
+    public static void loadAndPlaceStructureWithRotation(
+      final World worldObj, @NotNull final String name,
+      @NotNull final BlockPos pos, final int rotations, @NotNull final Mirror mirror,
+      final boolean complete, @Nullable final Runnable onPlaced, @Nullable final Runnable onAborted)
     {
         try
         {
             @NotNull final InstantStructurePlacer structureWrapper = new InstantStructurePlacer(worldObj, name);
+            structureWrapper.onPlaced = onPlaced;
+            structureWrapper.onAborted = onAborted;
             structureWrapper.structure.setPosition(pos);
             structureWrapper.rotate(rotations, worldObj, pos, mirror);
             structureWrapper.structure.setPlacementSettings(new PlacementSettings(mirror, BlockPosUtil.getRotationFromRotations(rotations)));
@@ -68,6 +161,10 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
         catch (final IllegalStateException e)
         {
             Log.getLogger().warn("Could not load structure!", e);
+            if (onAborted != null)
+            {
+                onAborted.run();
+            }
         }
     }
 
@@ -86,6 +183,7 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
 
     /**
      * Place a structure into the world.
+     * Small structures are placed right away, larger ones are queued and placed over multiple ticks.
      *
      * @param pos      coordinates
      * @param complete paste it complete (with structure blocks) or without
@@ -93,47 +191,157 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
     private void placeStructure(@NotNull final BlockPos pos, final boolean complete)
     {
         structure.setLocalPosition(pos);
+        this.origin = pos;
+        this.complete = complete;
+        this.placementOrder = calculatePlacementOrder(pos, complete);
+        this.cursor = 0;
+
+        final World world = structure.getWorld();
+        final BlockPos anchor = structure.getPosition() == null ? pos : structure.getPosition();
+        final Colony colony = ColonyManager.getColonyByPosFromWorld(world, anchor);
+        if (colony != null && structure.getPosition() != null)
+        {
+            this.building = colony.getBuildingManager().getBuilding(structure.getPosition());
+        }
+
+        if (placeBlocks(Math.max(1, Configurations.gameplay.maxBlocksPlacedInstantlyPerTick)))
+        {
+            notifyPlaced();
+        }
+        else
+        {
+            pendingPlacements.add(this);
+        }
+    }
+
+    /**
+     * Notify the caller waiting for the structure, once it is completely placed.
+     */
+    private void notifyPlaced()
+    {
+        if (onPlaced != null)
+        {
+            onPlaced.run();
+        }
+    }
+
+    /**
+     * Notify the caller waiting for the structure that it won't be placed completely.
+     */
+    private void notifyAborted()
+    {
+        if (onAborted != null)
+        {
+            onAborted.run();
+        }
+    }
+
+    /**
+     * Calculate the order in which the blocks of the structure are placed.
+     * The blocks are grouped by chunk section, solid blocks come first and the blocks which need support are delayed to the end.
+     * Blocks are stored as their local index: x + width * (z + length * y).
+     *
+     * @param pos      the world position of the local origin.
+     * @param complete paste it complete (with structure blocks) or without
+     * @return the ordered local indices.
+     */
+    private int[] calculatePlacementOrder(@NotNull final BlockPos pos, final boolean complete)
+    {
+        final int width = structure.getWidth();
+        final int length = structure.getLength();
+        final int height = structure.getHeight();
 
-        @NotNull final List<BlockPos> delayedBlocks = new ArrayList<>();
+        final int[] order = new int[width * length * height];
+        final int[] delayed = new int[order.length];
+        int solidCount = 0;
+        int delayedCount = 0;
 
-        //structure.getBlockInfo()[0].pos
-        for (int j = 0; j < structure.getHeight(); j++)
+        final BlockPos.MutableBlockPos localPos = new BlockPos.MutableBlockPos();
+        for (int sectionY = pos.getY() >> 4; sectionY <= (pos.getY() + height - 1) >> 4; sectionY++)
         {
-            for (int k = 0; k < structure.getLength(); k++)
+            for (int sectionZ = pos.getZ() >> 4; sectionZ <= (pos.getZ() + length - 1) >> 4; sectionZ++)
             {
-                for (int i = 0; i < structure.getWidth(); i++)
+                for (int sectionX = pos.getX() >> 4; sectionX <= (pos.getX() + width - 1) >> 4; sectionX++)
                 {
-                    @NotNull final BlockPos localPos = new BlockPos(i, j, k);
-                    final IBlockState localState = this.structure.getBlockState(localPos);
-                    final Block localBlock = localState.getBlock();
+                    final int minJ = Math.max(0, (sectionY << 4) - pos.getY());
+                    final int maxJ = Math.min(height, (sectionY << 4) + 16 - pos.getY());
+                    final int minK = Math.max(0, (sectionZ << 4) - pos.getZ());
+                    final int maxK = Math.min(length, (sectionZ << 4) + 16 - pos.getZ());
+                    final int minI = Math.max(0, (sectionX << 4) - pos.getX());
+                    final int maxI = Math.min(width, (sectionX << 4) + 16 - pos.getX());
 
-                    final BlockPos worldPos = pos.add(localPos);
-
-                    if ((localBlock == com.ldtteam.structurize.blocks.ModBlocks.blockSubstitution && !complete) || (localBlock instanceof AbstractBlockHut && !complete))
+                    for (int j = minJ; j < maxJ; j++)
                     {
-                        continue;
-                    }
+                        for (int k = minK; k < maxK; k++)
+                        {
+                            for (int i = minI; i < maxI; i++)
+                            {
+                                final IBlockState localState = this.structure.getBlockState(localPos.setPos(i, j, k));
+                                final Block localBlock = localState.getBlock();
 
-                    if (localState.getMaterial().isSolid())
-                    {
-                        handleBlockPlacement(worldPos, localState, complete, this.structure.getBlockInfo(localPos).getTileEntityData(), structure.getWorld());
-                    }
-                    else
-                    {
-                        delayedBlocks.add(localPos);
+                                if ((localBlock == com.ldtteam.structurize.blocks.ModBlocks.blockSubstitution && !complete) || (localBlock instanceof AbstractBlockHut && !complete))
+                                {
+                                    continue;
+                                }
+
+                                final int index = i + width * (k + length * j);
+                                if (localState.getMaterial().isSolid())
+                                {
+                                    order[solidCount++] = index;
+                                }
+                                else
+                                {
+                                    delayed[delayedCount++] = index;
+                                }
+                            }
+                        }
                     }
                 }
             }
         }
 
-        for (@NotNull final BlockPos coords : delayedBlocks)
+        System.arraycopy(delayed, 0, order, solidCount, delayedCount);
+        return Arrays.copyOf(order, solidCount + delayedCount);
+    }
+
+    /**
+     * Place the next blocks of the structure, and its entities once all blocks are down.
+     *
+     * @param maxBlocks the max amount of blocks to place.
+     * @return true if the structure is completely placed.
+     */
+    private boolean placeBlocks(final int maxBlocks)
+    {
+        final int width = structure.getWidth();
+        final int length = structure.getLength();
+        final World world = structure.getWorld();
+
+        final int end = Math.min(placementOrder.length, cursor + maxBlocks);
+        for (; cursor < end; cursor++)
         {
-            final IBlockState localState = this.structure.getBlockState(coords);
-            final BlockPos newWorldPos = pos.add(coords);
+            final int index = placementOrder[cursor];
+            @NotNull final BlockPos localPos = new BlockPos(index % width, index / (width * length), (index / width) % length);
+            final IBlockState localState = this.structure.getBlockState(localPos);
 
-            handleBlockPlacement(newWorldPos, localState, complete, this.structure.getBlockInfo(coords).getTileEntityData(), structure.getWorld());
+            handleBlockPlacement(origin.add(localPos), localState, complete, this.structure.getBlockInfo(localPos).getTileEntityData(), world);
         }
 
+        if (cursor < placementOrder.length)
+        {
+            return false;
+        }
+
+        spawnEntities(origin);
+        return true;
+    }
+
+    /**
+     * Spawn the entities of the structure.
+     *
+     * @param pos the world position of the local origin.
+     */
+    private void spawnEntities(@NotNull final BlockPos pos)
+    {
         for (final NBTTagCompound compound : this.structure.getEntityData())
         {
             if (compound != null)
@@ -166,31 +374,107 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
      */
     private void handleBlockPlacement(final BlockPos pos, final IBlockState localState, final boolean complete, final NBTTagCompound tileEntityData, final World world)
     {
-        for (final IPlacementHandler handlers : PlacementHandlers.handlers)
+        final IPlacementHandler handler = getPlacementHandler(world, pos, localState);
+        if (handler == null)
         {
-            if (handlers.canHandle(world, pos, localState))
-            {
-                final Object result = handlers.handle(world, pos, localState, tileEntityData, complete, structure.getLocalPosition(), structure.getSettings());
-                if (result instanceof IBlockState)
-                {
-                    final IBlockState blockState = (IBlockState) result;
+            return;
+        }
 
-                    final Colony colony = ColonyManager.getColonyByPosFromWorld(world, pos);
-                    if (colony != null)
-                    {
-                        final AbstractBuilding building = colony.getBuildingManager().getBuilding(structure.getPosition());
+        final Object result = handler.handle(world, pos, localState, tileEntityData, complete, structure.getLocalPosition(), structure.getSettings());
+        if (result instanceof IBlockState && building != null)
+        {
+            building.registerBlockPosition((IBlockState) result, pos, world);
+        }
+    }
 
-                        if (building != null)
-                        {
-                            building.registerBlockPosition(blockState, pos, world);
-                        }
-                    }
+    /**
+     * Get the placement handler for a block state, looked up once per state and structure.
+     *
+     * @param world      the world.
+     * @param pos        the world position of the first block with this state.
+     * @param localState the state.
+     * @return the handler or null if none can handle it.
+     */
+    @Nullable
+    private IPlacementHandler getPlacementHandler(final World world, final BlockPos pos, final IBlockState localState)
+    {
+        if (handlerCache.containsKey(localState))
+        {
+            return handlerCache.get(localState);
+        }
+
+        IPlacementHandler result = null;
+        for (final IPlacementHandler handler : PlacementHandlers.handlers)
+        {
+            if (handler.canHandle(world, pos, localState))
+            {
+                result = handler;
+                break;
+            }
+        }
+        handlerCache.put(localState, result);
+        return result;
+    }
+
+    /**
+     * Continue the queued structure placements of a world.
+     *
+     * @param world the world which ticks.
+     */
+    public static void onWorldTick(@NotNull final World world)
+    {
+        int budget = Math.max(1, Configurations.gameplay.maxBlocksPlacedInstantlyPerTick);
+        final List<InstantStructurePlacer> placed = new ArrayList<>();
+        final List<InstantStructurePlacer> aborted = new ArrayList<>();
+        final Iterator<InstantStructurePlacer> iterator = pendingPlacements.iterator();
+        while (iterator.hasNext() && budget > 0)
+        {
+            final InstantStructurePlacer placer = iterator.next();
+            if (placer.structure.getWorld() != world)
+            {
+                continue;
+            }
 
-                    return;
+            final int before = placer.cursor;
+            try
+            {
+                if (placer.placeBlocks(budget))
+                {
+                    iterator.remove();
+                    placed.add(placer);
                 }
-                return;
+            }
+            catch (final RuntimeException e)
+            {
+                Log.getLogger().warn("Could not finish placing structure!", e);
+                iterator.remove();
+                aborted.add(placer);
+            }
+            budget -= placer.cursor - before;
+        }
+
+        // Outside of the loop, the callbacks may queue new structures.
+        placed.forEach(InstantStructurePlacer::notifyPlaced);
+        aborted.forEach(InstantStructurePlacer::notifyAborted);
+    }
+
+    /**
+     * Drop the queued structure placements of a world which is unloaded, their callers are told they were aborted.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        final List<InstantStructurePlacer> aborted = new ArrayList<>();
+        for (final InstantStructurePlacer placer : pendingPlacements)
+        {
+            if (placer.structure.getWorld() == world)
+            {
+                aborted.add(placer);
             }
         }
+        pendingPlacements.removeAll(aborted);
+        aborted.forEach(InstantStructurePlacer::notifyAborted);
     }
 
     /**
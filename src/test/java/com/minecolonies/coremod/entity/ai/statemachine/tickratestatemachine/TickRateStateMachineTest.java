@@ -0,0 +1,204 @@
+package com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine;
+
+import com.minecolonies.coremod.entity.ai.statemachine.AIEventTarget;
+import com.minecolonies.coremod.entity.ai.statemachine.AIOneTimeEventTarget;
+import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
+import com.minecolonies.coremod.entity.ai.statemachine.basestatemachine.BasicStateMachine;
+import com.minecolonies.coremod.entity.ai.statemachine.states.AIBlockingEventType;
+import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the compiled tick rate statemachine takes the same decisions as the list based implementation it replaced.
+ */
+public class TickRateStateMachineTest
+{
+    private static final int TRANSITIONS  = 60;
+    private static final int TICKS        = 20000;
+    private static final int RESET_PERIOD = 97;
+
+    private enum TestState implements IAIState
+    {
+        START,
+        FIRST,
+        SECOND,
+        THIRD,
+        FOURTH,
+        TRAP;
+
+        @Override
+        public boolean isOkayToEat()
+        {
+            return false;
+        }
+    }
+
+    private static final TestState[] SOURCE_STATES = {TestState.START, TestState.FIRST, TestState.SECOND, TestState.THIRD, TestState.FOURTH};
+
+    private int currentTick;
+    private int compiledExceptions;
+    private int referenceExceptions;
+
+    private TickRateStateMachine compiled;
+    private ReferenceStateMachine reference;
+
+    @Before
+    public void setUp()
+    {
+        currentTick = 0;
+        compiledExceptions = 0;
+        referenceExceptions = 0;
+        compiled = new TickRateStateMachine(TestState.START, e -> compiledExceptions++);
+        reference = new ReferenceStateMachine(TestState.START, e -> referenceExceptions++);
+    }
+
+    @Test
+    public void testSameDecisionsAsListImplementation()
+    {
+        for (final long seed : new long[] {1L, 42L, 1337L})
+        {
+            setUp();
+            final Random random = new Random(seed);
+            for (int id = 0; id < TRANSITIONS; id++)
+            {
+                addToBoth(createTransition(random, id));
+            }
+            runAndCompare(random);
+        }
+    }
+
+    @Test
+    public void testTrapStateResets()
+    {
+        addToBoth(new AITarget(TestState.START, () -> TestState.TRAP, 1));
+        for (currentTick = 0; currentTick < MAX_TICKRATE; currentTick++)
+        {
+            compiled.tick();
+            reference.tick();
+            assertEquals(reference.getState(), compiled.getState());
+        }
+        assertEquals(referenceExceptions, compiledExceptions);
+    }
+
+    private void runAndCompare(final Random random)
+    {
+        for (currentTick = 0; currentTick < TICKS; currentTick++)
+        {
+            if (currentTick % RESET_PERIOD == 0)
+            {
+                addToBoth(new AIOneTimeEventTarget(SOURCE_STATES[random.nextInt(SOURCE_STATES.length)]));
+            }
+
+            compiled.tick();
+            reference.tick();
+            assertEquals("Diverged at tick " + currentTick, reference.getState(), compiled.getState());
+            assertEquals("Diverged at tick " + currentTick, referenceExceptions, compiledExceptions);
+        }
+    }
+
+    private void addToBoth(final TickingTransition transition)
+    {
+        compiled.addTransition(transition);
+        reference.addTransition(transition);
+    }
+
+    private TickingTransition createTransition(final Random random, final int id)
+    {
+        final int tickRate = 1 + random.nextInt(40);
+        final BooleanSupplier condition = () ->
+        {
+            final int hash = mix(id, currentTick);
+            if (hash % 53 == 0)
+            {
+                throw new IllegalStateException("Condition failure");
+            }
+            return hash % 3 == 0;
+        };
+
+        final TestState next = random.nextInt(20) == 0 ? TestState.TRAP : SOURCE_STATES[random.nextInt(SOURCE_STATES.length)];
+        final Supplier<IAIState> nextState = () -> mix(currentTick, id) % 4 == 0 ? null : next;
+
+        switch (random.nextInt(5))
+        {
+            case 0:
+                return new AIEventTarget(AIBlockingEventType.AI_BLOCKING, condition, nextState, tickRate);
+            case 1:
+                return new AIEventTarget(AIBlockingEventType.EVENT, condition, nextState, tickRate);
+            case 2:
+                return new AIEventTarget(AIBlockingEventType.STATE_BLOCKING, condition, nextState, tickRate);
+            default:
+                return new AITarget(SOURCE_STATES[random.nextInt(SOURCE_STATES.length)], condition, nextState, tickRate);
+        }
+    }
+
+    private static int mix(final int a, final int b)
+    {
+        int hash = a * 0x9E3779B1 + b * 0x85EBCA6B;
+        hash ^= hash >>> 15;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 13;
+        return hash & Integer.MAX_VALUE;
+    }
+
+    /**
+     * The list and stream based tick logic the compiled statemachine replaced.
+     */
+    private static class ReferenceStateMachine extends BasicStateMachine<TickingTransition>
+    {
+        private int tickCounter = 0;
+
+        private ReferenceStateMachine(@NotNull final IAIState initialState, @NotNull final Consumer<RuntimeException> exceptionHandler)
+        {
+            super(initialState, exceptionHandler);
+            this.eventTransitionMap.put(AIBlockingEventType.AI_BLOCKING, new ArrayList<>());
+            this.eventTransitionMap.put(AIBlockingEventType.STATE_BLOCKING, new ArrayList<>());
+            this.eventTransitionMap.put(AIBlockingEventType.EVENT, new ArrayList<>());
+        }
+
+        @Override
+        public void tick()
+        {
+            tickCounter++;
+            if (tickCounter > MAX_TICKRATE)
+            {
+                tickCounter = 1;
+            }
+
+            if (!eventTransitionMap.get(AIBlockingEventType.AI_BLOCKING).stream().anyMatch(this::checkTransition)
+                  && !eventTransitionMap.get(AIBlockingEventType.EVENT).stream().anyMatch(this::checkTransition)
+                  && !eventTransitionMap.get(AIBlockingEventType.STATE_BLOCKING).stream().anyMatch(this::checkTransition))
+            {
+                if (!transitionMap.containsKey(getState()))
+                {
+                    onException(new RuntimeException("Missing AI transition for state: " + getState()));
+                    reset();
+                    return;
+                }
+                final List<TickingTransition> transitions = transitionMap.get(getState());
+                transitions.stream().anyMatch(this::checkTransition);
+            }
+        }
+
+        @Override
+        public boolean checkTransition(@NotNull final TickingTransition transition)
+        {
+            if ((tickCounter % transition.getTickRate()) != transition.getTickOffset())
+            {
+                return false;
+            }
+            return super.checkTransition(transition);
+        }
+    }
+}
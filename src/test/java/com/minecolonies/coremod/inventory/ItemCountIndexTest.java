@@ -0,0 +1,146 @@
+package com.minecolonies.coremod.inventory;
+
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.ItemStackHandler;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the item count index against the scanning counts of {@link InventoryUtils}.
+ */
+public class ItemCountIndexTest
+{
+    private static final int SLOTS      = 27;
+    private static final int MUTATIONS  = 2000;
+    private static final int MAX_DAMAGE = 2;
+
+    private Item[]           items;
+    private ItemStackHandler handler;
+    private ItemCountIndex   index;
+    private Random           random;
+
+    @BeforeClass
+    public static void bootstrap()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        items = new Item[] {Items.COAL, Items.BEEF, Items.COOKED_BEEF, Items.APPLE, Items.IRON_INGOT, Items.STICK, Items.DYE};
+        handler = new ItemStackHandler(SLOTS);
+        index = new ItemCountIndex();
+        random = new Random(SLOTS);
+    }
+
+    @Test
+    public void testEmptyHandler()
+    {
+        index.sync(handler);
+        assertMatchesScan();
+    }
+
+    @Test
+    public void testRandomMutationsWithSync()
+    {
+        for (int i = 0; i < MUTATIONS; i++)
+        {
+            mutate(random.nextInt(SLOTS));
+            index.sync(handler);
+            assertMatchesScan();
+        }
+    }
+
+    @Test
+    public void testRandomMutationsWithSlotUpdates()
+    {
+        index.sync(handler);
+        for (int i = 0; i < MUTATIONS; i++)
+        {
+            final int slot = random.nextInt(SLOTS);
+            mutate(slot);
+            index.update(slot, handler.getStackInSlot(slot));
+            assertMatchesScan();
+        }
+    }
+
+    @Test
+    public void testResize()
+    {
+        for (int slot = 0; slot < SLOTS; slot++)
+        {
+            mutate(slot);
+        }
+        index.sync(handler);
+
+        final ItemStackHandler smaller = new ItemStackHandler(SLOTS / 2);
+        for (int slot = 0; slot < smaller.getSlots(); slot++)
+        {
+            smaller.setStackInSlot(slot, handler.getStackInSlot(slot));
+        }
+        handler = smaller;
+        index.sync(handler);
+        assertMatchesScan();
+    }
+
+    /**
+     * Change a slot: put in a new stack, change the size of the stack in place or empty the slot.
+     *
+     * @param slot the slot.
+     */
+    private void mutate(final int slot)
+    {
+        final ItemStack stack = handler.getStackInSlot(slot);
+        final int action = random.nextInt(4);
+        if (action == 0 && !ItemStackUtils.isEmpty(stack))
+        {
+            stack.shrink(1 + random.nextInt(ItemStackUtils.getSize(stack)));
+        }
+        else if (action == 1 && !ItemStackUtils.isEmpty(stack))
+        {
+            stack.grow(1 + random.nextInt(stack.getMaxStackSize()));
+        }
+        else if (action == 3)
+        {
+            handler.setStackInSlot(slot, ItemStackUtils.EMPTY);
+        }
+        else
+        {
+            handler.setStackInSlot(slot, new ItemStack(items[random.nextInt(items.length)], 1 + random.nextInt(64), random.nextInt(MAX_DAMAGE)));
+        }
+    }
+
+    private void assertMatchesScan()
+    {
+        for (final ItemCountIndex.Category category : ItemCountIndex.Category.values())
+        {
+            assertEquals("Count of category " + category + " differs",
+              InventoryUtils.getItemCountInItemHandler(handler, category.getPredicate()),
+              index.getCount(category));
+        }
+
+        for (final Item item : items)
+        {
+            assertEquals("Count of " + item + " differs",
+              InventoryUtils.getItemCountInItemHandler(handler, item, ItemCountIndex.ANY_DAMAGE),
+              index.getCount(item, ItemCountIndex.ANY_DAMAGE));
+            for (int damage = 0; damage < MAX_DAMAGE; damage++)
+            {
+                assertEquals("Count of " + item + " with damage " + damage + " differs",
+                  InventoryUtils.getItemCountInItemHandler(handler, item, damage),
+                  index.getCount(item, damage));
+            }
+        }
+    }
+}